@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import java.util.Objects;
+
+/**
+ * Aggregation of documents executed with AQL {@code COLLECT}, equivalent to a reducing step like
+ * {@code groupCount().by("status")} or {@code group().by("country").by(values("amount").sum())}.
+ * <p/>
+ * Documents are grouped by the value of an attribute, only considering the documents having the attribute, or by the
+ * collection they belong to. The value of each group is either the number of documents, or the result of an aggregate
+ * function applied to the value of an attribute, which is only computed if all the documents of the group have a
+ * numeric value. Without grouping, e.g. for {@code values("amount").sum()}, only the documents having the attribute
+ * are aggregated.
+ */
+public final class Aggregation {
+
+    public enum Function {
+        COUNT, SUM, MIN, MAX, MEAN
+    }
+
+    private final Function function;
+    private final String attribute;
+    private final String groupAttribute;
+    private final boolean groupByCollection;
+
+    private Aggregation(Function function, String attribute, String groupAttribute, boolean groupByCollection) {
+        this.function = function;
+        this.attribute = attribute;
+        this.groupAttribute = groupAttribute;
+        this.groupByCollection = groupByCollection;
+    }
+
+    /**
+     * @return the aggregation counting the documents
+     */
+    public static Aggregation count() {
+        return new Aggregation(Function.COUNT, null, null, false);
+    }
+
+    /**
+     * @param function  the aggregate function, other than {@link Function#COUNT}
+     * @param attribute the attribute holding the values to aggregate
+     */
+    public static Aggregation of(Function function, String attribute) {
+        if (function == Function.COUNT) {
+            return count();
+        }
+        Objects.requireNonNull(attribute, "attribute cannot be null");
+        return new Aggregation(function, attribute, null, false);
+    }
+
+    /**
+     * @return the aggregation of the documents grouped by the value of the given attribute
+     */
+    public Aggregation groupBy(String groupAttribute) {
+        Objects.requireNonNull(groupAttribute, "groupAttribute cannot be null");
+        return new Aggregation(function, attribute, groupAttribute, false);
+    }
+
+    /**
+     * @return the aggregation of the documents grouped by collection name
+     */
+    public Aggregation groupByCollection() {
+        return new Aggregation(function, attribute, null, true);
+    }
+
+    public Function getFunction() {
+        return function;
+    }
+
+    String getAttribute() {
+        return attribute;
+    }
+
+    String getGroupAttribute() {
+        return groupAttribute;
+    }
+
+    boolean isGroupByCollection() {
+        return groupByCollection;
+    }
+
+    public boolean isGrouped() {
+        return groupAttribute != null || groupByCollection;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(function.name().toLowerCase());
+        if (attribute != null) {
+            sb.append("(").append(attribute).append(")");
+        }
+        if (groupAttribute != null) {
+            sb.append(" by ").append(groupAttribute);
+        } else if (groupByCollection) {
+            sb.append(" by collection");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Aggregation)) return false;
+        Aggregation that = (Aggregation) o;
+        return groupByCollection == that.groupByCollection && function == that.function
+                && Objects.equals(attribute, that.attribute) && Objects.equals(groupAttribute, that.groupAttribute);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(function, attribute, groupAttribute, groupByCollection);
+    }
+}
@@ -17,8 +17,11 @@
 package com.arangodb.tinkerpop.gremlin.client;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.arangodb.*;
 import com.arangodb.entity.*;
@@ -29,12 +32,18 @@ import com.arangodb.serde.jackson.JacksonMapperProvider;
 import com.arangodb.serde.jackson.JacksonSerde;
 import com.arangodb.tinkerpop.gremlin.persistence.*;
 import com.arangodb.tinkerpop.gremlin.persistence.serde.SerdeModule;
+import com.arangodb.tinkerpop.gremlin.process.filter.AndFilter;
 import com.arangodb.tinkerpop.gremlin.process.filter.ArangoFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.AttributeCheckFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.BindVars;
 import com.arangodb.tinkerpop.gremlin.process.filter.EmptyFilter;
 import com.arangodb.tinkerpop.gremlin.process.filter.FilterSupport;
+import com.arangodb.tinkerpop.gremlin.process.sort.ArangoSort;
 import com.arangodb.tinkerpop.gremlin.structure.*;
 import com.arangodb.tinkerpop.gremlin.utils.AqlDeserializer;
+import com.arangodb.tinkerpop.gremlin.utils.Fields;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.slf4j.Logger;
@@ -50,12 +59,22 @@ public class ArangoDBGraphClient {
 
     private final AqlDeserializer aqlDeserializer;
 
+    private final ObjectMapper mapper;
+
+    private final WriteBuffer writeBuffer;
+
+    private final ExecutorService scanExecutor;
+
+    private final QueryOptions defaultQueryOptions;
+
+    private final ElementCache cache;
+
     public ArangoDBGraphClient(ArangoDBGraphConfig config, ElementIdFactory idFactory, ArangoDBGraph graph) {
         logger.debug("Initiating the ArangoDb Client");
         this.config = config;
         Protocol protocol = config.driverConfig.getProtocol()
                 .orElse(ArangoDefaults.DEFAULT_PROTOCOL);
-        ObjectMapper mapper = JacksonMapperProvider
+        mapper = JacksonMapperProvider
                 .of(ContentTypeFactory.of(protocol))
                 .registerModule(new SerdeModule(idFactory, config));
         aqlDeserializer = new AqlDeserializer(graph, mapper);
@@ -64,11 +83,40 @@ public class ArangoDBGraphClient {
                 .serde(JacksonSerde.create(mapper))
                 .build()
                 .db(config.dbName);
+        writeBuffer = config.enableWriteBatching ? new WriteBuffer(db, mapper, config) : null;
+        defaultQueryOptions = QueryOptions.of(config);
+        cache = config.cacheMaxSize > 0 ? new ElementCache(config) : null;
+        scanExecutor = config.scanParallelism > 1 ? Executors.newFixedThreadPool(config.scanParallelism, r -> {
+            Thread t = new Thread(r, "arangodb-scan");
+            t.setDaemon(true);
+            return t;
+        }) : null;
     }
 
     public void shutdown() {
         logger.debug("Shutdown");
-        db.arango().shutdown();
+        try {
+            if (writeBuffer != null) {
+                writeBuffer.close();
+            }
+        } finally {
+            if (scanExecutor != null) {
+                scanExecutor.shutdownNow();
+            }
+            db.arango().shutdown();
+        }
+    }
+
+    /**
+     * Send all the buffered writes to the server, when write batching is enabled.
+     *
+     * @throws BatchWriteException if some of the writes buffered by the current thread failed
+     */
+    public void flush() {
+        if (writeBuffer != null) {
+            logger.debug("Flush pending writes");
+            writeBuffer.flush();
+        }
     }
 
     public void ensureVariablesDataCollection() {
@@ -114,13 +162,35 @@ public class ArangoDBGraphClient {
     }
 
     public Stream<VertexData> getGraphVertices(List<ElementId> ids, ArangoFilter filter, Set<String> colNames) {
-        logger.debug("Get all {} graph vertices, filtered by AQL filters", config.graphName);
-        return getGraphDocuments(ids, filter, colNames, VertexData.class);
+        return getGraphVertices(ids, filter, ArangoSort.empty(), null, colNames, 0, -1, defaultQueryOptions);
+    }
+
+    /**
+     * Get vertices of a graph, sorted according to {@code sort} and limited to the range {@code [low, high)}. A
+     * negative {@code high} means no limit. If {@code projection} is not {@code null}, only the properties with
+     * the given keys are loaded, see {@link PropertiesContainer#setLoadedKeys(Set)}.
+     *
+     * @param options the cursor options of the query
+     */
+    public Stream<VertexData> getGraphVertices(List<ElementId> ids, ArangoFilter filter, ArangoSort sort, Set<String> projection, Set<String> colNames, long low, long high, QueryOptions options) {
+        logger.debug("Get all {} graph vertices, filtered by AQL filters, {}, range [{}, {}), projection {}", config.graphName, sort, low, high, projection);
+        return getGraphDocuments(ids, filter, sort, projection, colNames, low, high, options, VertexData.class);
     }
 
     public Stream<EdgeData> getGraphEdges(List<ElementId> ids, ArangoFilter filter, Set<String> colNames) {
-        logger.debug("Get all {} graph edges, filtered by AQL filters", config.graphName);
-        return getGraphDocuments(ids, filter, colNames, EdgeData.class);
+        return getGraphEdges(ids, filter, ArangoSort.empty(), null, colNames, 0, -1, defaultQueryOptions);
+    }
+
+    /**
+     * Get edges of a graph, sorted according to {@code sort} and limited to the range {@code [low, high)}. A
+     * negative {@code high} means no limit. If {@code projection} is not {@code null}, only the properties with
+     * the given keys are loaded, see {@link PropertiesContainer#setLoadedKeys(Set)}.
+     *
+     * @param options the cursor options of the query
+     */
+    public Stream<EdgeData> getGraphEdges(List<ElementId> ids, ArangoFilter filter, ArangoSort sort, Set<String> projection, Set<String> colNames, long low, long high, QueryOptions options) {
+        logger.debug("Get all {} graph edges, filtered by AQL filters, {}, range [{}, {}), projection {}", config.graphName, sort, low, high, projection);
+        return getGraphDocuments(ids, filter, sort, projection, colNames, low, high, options, EdgeData.class);
     }
 
     /**
@@ -131,7 +201,7 @@ public class ArangoDBGraphClient {
      */
     public Stream<VertexData> getGraphVertices(final List<ElementId> ids) {
         logger.debug("Get all {} graph vertices, filtered by ids: {}", config.graphName, ids);
-        return getGraphDocuments(ids, EmptyFilter.instance(), config.vertices, VertexData.class);
+        return getGraphDocuments(ids, EmptyFilter.instance(), ArangoSort.empty(), null, config.vertices, 0, -1, defaultQueryOptions, VertexData.class);
     }
 
     /**
@@ -142,27 +212,274 @@ public class ArangoDBGraphClient {
      */
     public Stream<EdgeData> getGraphEdges(List<ElementId> ids) {
         logger.debug("Get all {} graph edges, filtered by ids: {}", config.graphName, ids);
-        return getGraphDocuments(ids, EmptyFilter.instance(), config.edges, EdgeData.class);
+        return getGraphDocuments(ids, EmptyFilter.instance(), ArangoSort.empty(), null, config.edges, 0, -1, defaultQueryOptions, EdgeData.class);
     }
 
-    private <V> Stream<V> getGraphDocuments(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Class<V> clazz) {
-        if (ids.isEmpty()) {
-            if (colNames.isEmpty()) {
-                return Stream.empty();
+    /**
+     * @return the element cache, if enabled
+     */
+    public Optional<ElementCache> getElementCache() {
+        return Optional.ofNullable(cache);
+    }
+
+    /**
+     * Completes the data of partially loaded vertices, e.g. vertex references, reading all their documents with a
+     * single query. Vertices whose document does not exist anymore are left unchanged.
+     */
+    public void loadVertices(Collection<VertexData> vertices) {
+        Map<ElementId, List<VertexData>> byId = new LinkedHashMap<>();
+        for (VertexData vertex : vertices) {
+            if (!vertex.isFullyLoaded()) {
+                byId.computeIfAbsent(vertex.elementId(), k -> new ArrayList<>()).add(vertex);
             }
-            return query(ArangoDBQueryBuilder.readAllDocuments(colNames, filter), clazz, null);
+        }
+        if (byId.isEmpty()) {
+            return;
+        }
+        logger.debug("Load {} {} graph vertices", byId.size(), config.graphName);
+        getGraphVertices(new ArrayList<>(byId.keySet())).forEach(loaded ->
+                byId.getOrDefault(loaded.elementId(), Collections.emptyList()).forEach(it -> it.load(loaded)));
+    }
+
+    private <V extends PropertiesContainer<?>> Stream<V> getGraphDocuments(List<ElementId> ids, ArangoFilter filter, ArangoSort sort, Set<String> projection, Set<String> colNames, long low, long high, QueryOptions options, Class<V> clazz) {
+        flush();
+        if (high == 0) {
+            return Stream.empty();
+        }
+        if (ids.isEmpty() && colNames.isEmpty()) {
+            return Stream.empty();
+        }
+        Stream<V> res;
+        if (cache != null && !ids.isEmpty() && filter.getSupport() == FilterSupport.NONE && sort.isEmpty()
+                && projection == null && low == 0 && high < 0) {
+            res = readCachedDocuments(pruneIds(ids, colNames), clazz);
+        } else if (ids.isEmpty() && (colNames.size() == 1 || sort.isEmpty())) {
+            res = scanCollections(filter, sort, projection, colNames, low, high, options, clazz);
+        } else {
+            res = queryGraphDocuments(ids, filter, sort, projection, colNames, low, high, options, clazz);
+        }
+        if (projection != null) {
+            res = res.peek(it -> it.setLoadedKeys(projection));
+        }
+        return res;
+    }
+
+    /**
+     * Reads the documents with the given ids through the element cache, reading the missing ones with a single query.
+     * If revalidation is enabled, the revisions of the cached documents are checked with another single query.
+     *
+     * @return the existing documents, in the order of {@code ids}
+     */
+    private <V> Stream<V> readCachedDocuments(List<ElementId> ids, Class<V> clazz) {
+        Map<ElementId, JsonNode> documents = new HashMap<>(cache.getAll(ids));
+        if (config.cacheRevalidate && !documents.isEmpty()) {
+            Map<ElementId, String> revisions = new HashMap<>();
+            query(ArangoDBQueryBuilder.readRevisions(), JsonNode.class, Collections.singletonMap("ids", new ArrayList<>(documents.keySet())))
+                    .forEach(it -> revisions.put(mapper.convertValue(it.get(Fields.ID), ElementId.class), it.get(Fields.REV).asText()));
+            cache.revalidate(ElementCache.revisions(documents), revisions).forEach(documents::remove);
+        }
+        List<ElementId> missing = ids.stream()
+                .filter(it -> !documents.containsKey(it))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            query(ArangoDBQueryBuilder.readDocumentsById(), JsonNode.class, Collections.singletonMap("ids", missing)).forEach(it -> {
+                ElementId id = mapper.convertValue(it.get(Fields.ID), ElementId.class);
+                cache.put(id, it);
+                documents.put(id, it);
+            });
+        }
+        return ids.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .map(it -> mapper.convertValue(it, clazz));
+    }
+
+    /**
+     * Reads the collections one by one, each with its own streaming cursor, and concatenates the results lazily. The
+     * range is applied to each collection, which contributes at most the first {@code high} documents, and again to
+     * the concatenated results. Streaming cursors are used unless explicitly disabled in {@code options}.
+     * <p/>
+     * Closing the returned stream closes the open cursors, which must be done if it is not consumed entirely.
+     */
+    private <V> Stream<V> scanCollections(ArangoFilter filter, ArangoSort sort, Set<String> projection, Set<String> colNames, long low, long high, QueryOptions options, Class<V> clazz) {
+        AqlQueryOptions aqlOptions = options.toAqlQueryOptions();
+        if (options.getStream() == null) {
+            aqlOptions.stream(true);
+        }
+        if (colNames.size() == 1) {
+            ArangoCursor<V> cursor = scanCollection(colNames.iterator().next(), filter, sort, projection, low, high, aqlOptions, clazz);
+            return cursor.stream().onClose(() -> MultiCollectionCursor.closeCursor(cursor));
+        }
+        MultiCollectionCursor<V> cursor = new MultiCollectionCursor<>(colNames,
+                it -> scanCollection(it, filter, sort, projection, 0, high, aqlOptions, clazz),
+                scanExecutor, config.scanParallelism);
+        Stream<V> res = StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+        if (low > 0) {
+            res = res.skip(low);
+        }
+        if (high >= 0) {
+            res = res.limit(high - low);
+        }
+        return res;
+    }
+
+    private <V> ArangoCursor<V> scanCollection(String collection, ArangoFilter filter, ArangoSort sort, Set<String> projection, long low, long high, AqlQueryOptions options, Class<V> clazz) {
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.readAllDocuments(collection, filter, sort, projection, config, low, high, bindVars);
+        // the driver query options are mutable, each cursor gets its own copy
+        return cursor(query, clazz, bindVars.values(), options.clone());
+    }
+
+    private <V> Stream<V> queryGraphDocuments(List<ElementId> ids, ArangoFilter filter, ArangoSort sort, Set<String> projection, Set<String> colNames, long low, long high, QueryOptions options, Class<V> clazz) {
+        BindVars bindVars = new BindVars();
+        String query;
+        Map<String, Object> params = new HashMap<>();
+        if (ids.isEmpty()) {
+            query = ArangoDBQueryBuilder.readAllDocuments(colNames, filter, sort, projection, config, low, high, bindVars);
         } else {
-            List<ElementId> prunedIds = ids.stream()
-                    .filter(it -> colNames.contains(it.getCollection()))
-                    .collect(Collectors.toList());
-            StringBuilder query = new StringBuilder();
-            query.append("FOR d IN DOCUMENT(@ids)");
-            if (filter.getSupport() != FilterSupport.NONE) {
-                query.append(" FILTER ").append(filter.toAql("d"));
+            query = ArangoDBQueryBuilder.readDocuments(filter, sort, projection, config, low, high, bindVars);
+            params.put("ids", pruneIds(ids, colNames));
+        }
+        params.putAll(bindVars.values());
+        return query(query, clazz, params, options.toAqlQueryOptions());
+    }
+
+    /**
+     * Count vertices of a graph, limited to the range {@code [low, high)}. A negative {@code high} means no limit.
+     */
+    public long countGraphVertices(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, long low, long high, QueryOptions options) {
+        logger.debug("Count {} graph vertices, filtered by AQL filters, range [{}, {})", config.graphName, low, high);
+        return countGraphDocuments(ids, filter, colNames, low, high, options);
+    }
+
+    /**
+     * Count edges of a graph, limited to the range {@code [low, high)}. A negative {@code high} means no limit.
+     */
+    public long countGraphEdges(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, long low, long high, QueryOptions options) {
+        logger.debug("Count {} graph edges, filtered by AQL filters, range [{}, {})", config.graphName, low, high);
+        return countGraphDocuments(ids, filter, colNames, low, high, options);
+    }
+
+    private long countGraphDocuments(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, long low, long high, QueryOptions options) {
+        flush();
+        if (high == 0 || colNames.isEmpty()) {
+            return 0;
+        }
+        BindVars bindVars = new BindVars();
+        String query;
+        Map<String, Object> params = new HashMap<>();
+        if (ids.isEmpty()) {
+            query = ArangoDBQueryBuilder.countAllDocuments(colNames, filter, low, high, bindVars);
+        } else {
+            query = ArangoDBQueryBuilder.countDocuments(filter, low, high, bindVars);
+            params.put("ids", pruneIds(ids, colNames));
+        }
+        params.putAll(bindVars.values());
+        return query(query, Long.class, params, options.toAqlQueryOptions()).findFirst().orElse(0L);
+    }
+
+    /**
+     * Gets the distinct values of a property of the vertices or edges of a graph, without fetching the documents.
+     * Documents without the property are skipped.
+     */
+    public Stream<Object> getGraphDistinctValues(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, String key, QueryOptions options) {
+        logger.debug("Get {} graph distinct values of {}, filtered by AQL filters", config.graphName, key);
+        flush();
+        if (colNames.isEmpty()) {
+            return Stream.empty();
+        }
+        filter = AndFilter.of(Arrays.asList(filter, AttributeCheckFilter.exists(key)));
+        BindVars bindVars = new BindVars();
+        String query;
+        Map<String, Object> params = new HashMap<>();
+        if (ids.isEmpty()) {
+            query = ArangoDBQueryBuilder.readAllDistinctValues(colNames, filter, key, bindVars);
+        } else {
+            query = ArangoDBQueryBuilder.readDistinctValues(filter, key, bindVars);
+            params.put("ids", pruneIds(ids, colNames));
+        }
+        params.putAll(bindVars.values());
+        return query(query, JsonNode.class, params, options.toAqlQueryOptions())
+                .map(it -> mapper.convertValue(it, Object.class));
+    }
+
+    /**
+     * Aggregates vertices of a graph on the server side.
+     *
+     * @return the aggregated values, by group key, or by {@code null} if not grouped and there are values to
+     * aggregate; {@code null} if some aggregated document has no numeric value, in which case the aggregation must be
+     * evaluated on the client side
+     */
+    public Map<Object, Object> aggregateGraphVertices(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Aggregation aggregation, QueryOptions options) {
+        logger.debug("Aggregate {} graph vertices, filtered by AQL filters, with {}", config.graphName, aggregation);
+        return aggregateGraphDocuments(ids, filter, colNames, aggregation, options);
+    }
+
+    /**
+     * Aggregates edges of a graph on the server side.
+     *
+     * @return the aggregated values, by group key, or by {@code null} if not grouped and there are values to
+     * aggregate; {@code null} if some aggregated document has no numeric value, in which case the aggregation must be
+     * evaluated on the client side
+     */
+    public Map<Object, Object> aggregateGraphEdges(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Aggregation aggregation, QueryOptions options) {
+        logger.debug("Aggregate {} graph edges, filtered by AQL filters, with {}", config.graphName, aggregation);
+        return aggregateGraphDocuments(ids, filter, colNames, aggregation, options);
+    }
+
+    private Map<Object, Object> aggregateGraphDocuments(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Aggregation aggregation, QueryOptions options) {
+        flush();
+        Map<Object, Object> res = new HashMap<>();
+        if (colNames.isEmpty()) {
+            return res;
+        }
+        if (aggregation.getGroupAttribute() != null) {
+            // as in Gremlin, documents without the group key are not grouped
+            filter = AndFilter.of(Arrays.asList(filter, AttributeCheckFilter.exists(aggregation.getGroupAttribute())));
+        } else if (!aggregation.isGrouped() && aggregation.getAttribute() != null) {
+            // as in values(key), documents without the attribute have no value to aggregate
+            filter = AndFilter.of(Arrays.asList(filter, AttributeCheckFilter.exists(aggregation.getAttribute())));
+        }
+        BindVars bindVars = new BindVars();
+        String query;
+        Map<String, Object> params = new HashMap<>();
+        if (ids.isEmpty()) {
+            query = ArangoDBQueryBuilder.aggregateAllDocuments(colNames, filter, aggregation, bindVars);
+        } else {
+            query = ArangoDBQueryBuilder.aggregateDocuments(filter, aggregation, bindVars);
+            params.put("ids", pruneIds(ids, colNames));
+        }
+        params.putAll(bindVars.values());
+        List<JsonNode> groups = query(query, JsonNode.class, params, options.toAqlQueryOptions()).collect(Collectors.toList());
+        if (groups.stream().anyMatch(it -> it.path("n").asLong() > 0)) {
+            return null;
+        }
+        for (JsonNode it : groups) {
+            if (it.get("c").asLong() == 0) {
+                // ungrouped aggregation of no documents
+                continue;
             }
-            query.append(" RETURN d");
-            return query(query.toString(), clazz, Collections.singletonMap("ids", prunedIds));
+            JsonNode value = it.get("a");
+            Object aggregated;
+            if (aggregation.getFunction() == Aggregation.Function.COUNT) {
+                aggregated = value.asLong();
+            } else if (aggregation.getFunction() == Aggregation.Function.MEAN
+                    || (aggregation.getFunction() == Aggregation.Function.SUM && it.get("f").asLong() > 0)) {
+                aggregated = value.asDouble();
+            } else {
+                aggregated = mapper.convertValue(value, Object.class);
+            }
+            res.put(it.has("k") ? mapper.convertValue(it.get("k"), Object.class) : null, aggregated);
         }
+        return res;
+    }
+
+    private static List<ElementId> pruneIds(List<ElementId> ids, Set<String> colNames) {
+        return ids.stream()
+                .filter(it -> colNames.contains(it.getCollection()))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -186,6 +503,88 @@ public class ArangoDBGraphClient {
                 .orphanCollections(orphanCollections.toArray(new String[0])));
     }
 
+    /**
+     * Create, if not existing, the label indexes of a {@code SIMPLE} graph: a persistent index on the label field of
+     * vertices and the vertex-centric persistent indexes {@code [_from, <labelField>]} and {@code [_to, <labelField>]}
+     * of edges.
+     */
+    public void ensureLabelIndexes() {
+        logger.debug("Ensuring label indexes in {}", config.graphName);
+        try {
+            for (String vertexCollection : config.vertices) {
+                db.collection(vertexCollection).ensurePersistentIndex(
+                        Collections.singletonList(config.labelField),
+                        new PersistentIndexOptions().name(ArangoDBQueryBuilder.LABEL_INDEX));
+            }
+            for (String edgeCollection : config.edges) {
+                db.collection(edgeCollection).ensurePersistentIndex(
+                        Arrays.asList(Fields.FROM, config.labelField),
+                        new PersistentIndexOptions().name(ArangoDBQueryBuilder.FROM_LABEL_INDEX));
+                db.collection(edgeCollection).ensurePersistentIndex(
+                        Arrays.asList(Fields.TO, config.labelField),
+                        new PersistentIndexOptions().name(ArangoDBQueryBuilder.TO_LABEL_INDEX));
+            }
+        } catch (ArangoDBException e) {
+            throw mapException(e);
+        }
+    }
+
+    /**
+     * Create, if not existing, the secondary indexes declared in the configuration.
+     */
+    public void ensureIndexes() {
+        logger.debug("Ensuring indexes {} in {}", config.indexes, config.graphName);
+        try {
+            for (ArangoDBGraphConfig.IndexDef index : config.indexes) {
+                ArangoCollection col = db.collection(index.getCollection());
+                switch (index.getType()) {
+                    case PERSISTENT:
+                        col.ensurePersistentIndex(index.getFields(), new PersistentIndexOptions()
+                                .unique(index.isUnique())
+                                .sparse(index.isSparse()));
+                        break;
+                    case TTL:
+                        col.ensureTtlIndex(index.getFields(), new TtlIndexOptions()
+                                .expireAfter(index.getExpireAfter()));
+                        break;
+                    case INVERTED:
+                        col.ensureInvertedIndex(new InvertedIndexOptions()
+                                .fields(index.getFields().stream()
+                                        .map(it -> new InvertedIndexField().name(it))
+                                        .toArray(InvertedIndexField[]::new)));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported index type: " + index.getType());
+                }
+            }
+        } catch (ArangoDBException e) {
+            throw mapException(e);
+        }
+    }
+
+    /**
+     * @return the persistent, TTL and inverted indexes of the collections with declared indexes
+     */
+    public Set<ArangoDBGraphConfig.IndexDef> getIndexes() {
+        logger.debug("Get indexes in {}", config.graphName);
+        Set<ArangoDBGraphConfig.IndexDef> res = new HashSet<>();
+        try {
+            for (String collection : config.indexes.stream().map(ArangoDBGraphConfig.IndexDef::getCollection).collect(Collectors.toSet())) {
+                ArangoCollection col = db.collection(collection);
+                col.getIndexes().stream()
+                        .map(it -> ArangoDBGraphConfig.IndexDef.of(collection, it))
+                        .filter(Objects::nonNull)
+                        .forEach(res::add);
+                col.getInvertedIndexes().stream()
+                        .map(it -> ArangoDBGraphConfig.IndexDef.of(collection, it))
+                        .forEach(res::add);
+            }
+        } catch (ArangoDBException e) {
+            throw mapException(e);
+        }
+        return res;
+    }
+
     /**
      * Get the underlying ArangoGraph instance.
      *
@@ -214,18 +613,23 @@ public class ArangoDBGraphClient {
     }
 
     public Stream<Object> query(final String query, final Map<String, ?> parameters, final AqlQueryOptions options) {
+        flush();
         return query(query, JsonNode.class, parameters, options)
                 .map(aqlDeserializer::deserialize);
     }
 
     private <V> Stream<V> query(String query, Class<V> type, Map<String, ?> parameters) {
-        return query(query, type, parameters, new AqlQueryOptions());
+        return query(query, type, parameters, defaultQueryOptions.toAqlQueryOptions());
     }
 
     private <V> Stream<V> query(String query, Class<V> type, Map<String, ?> parameters, AqlQueryOptions options) {
+        return cursor(query, type, parameters, options).stream();
+    }
+
+    private <V> ArangoCursor<V> cursor(String query, Class<V> type, Map<String, ?> parameters, AqlQueryOptions options) {
         logger.debug("Executing AQL query: {}, with parameters: {}, with options: {}", query, parameters, options);
         try {
-            return db.query(query, type, parameters, options).stream();
+            return db.query(query, type, parameters, options);
         } catch (ArangoDBException e) {
             throw mapException(e);
         }
@@ -233,6 +637,14 @@ public class ArangoDBGraphClient {
 
     public void insertEdge(ArangoDBEdge edge) {
         logger.debug("Insert edge {} in {} ", edge, config.graphName);
+        if (writeBuffer != null) {
+            validateEdgeDefinition(edge.data());
+            ensureKey(edge.data());
+            writeBuffer.insert(edge.data());
+            edge.data().clearChanges();
+            invalidate(edge.data());
+            return;
+        }
         EdgeEntity insertEntity;
         try {
             insertEntity = db.graph(config.graphName)
@@ -242,39 +654,57 @@ public class ArangoDBGraphClient {
             throw mapException(e);
         }
         edge.update(insertEntity);
+        edge.data().clearChanges();
+        invalidate(edge.data());
+    }
+
+    /**
+     * Performs the edge definition checks of the graph API, which are bypassed by the buffered writes.
+     */
+    private void validateEdgeDefinition(EdgeData data) {
+        ArangoDBGraphConfig.EdgeDef def = config.edgeDefinitions.stream()
+                .filter(it -> it.getCollection().equals(data.collection()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Edge collection (%s) not in graph (%s).", data.collection(), config.graphName)));
+        if (!def.getFrom().contains(data.getFrom().getCollection())) {
+            throw new IllegalArgumentException(String.format("Edge collection (%s) does not allow edges from collection (%s).", data.collection(), data.getFrom().getCollection()));
+        }
+        if (!def.getTo().contains(data.getTo().getCollection())) {
+            throw new IllegalArgumentException(String.format("Edge collection (%s) does not allow edges to collection (%s).", data.collection(), data.getTo().getCollection()));
+        }
     }
 
     public void deleteEdge(ArangoDBEdge edge) {
         logger.debug("Delete edge {} in {}", edge, config.graphName);
+        if (writeBuffer != null) {
+            writeBuffer.delete(edge.data());
+            invalidate(edge.data());
+            return;
+        }
         try {
             db.graph(config.graphName)
                     .edgeCollection(edge.collection())
                     .deleteEdge(edge.key());
         } catch (ArangoDBException e) {
             Integer errNum = e.getErrorNum();
-            if (errNum != null && errNum == 1202) { // document not found
-                return;
+            if (errNum == null || errNum != 1202) { // document not found
+                throw mapException(e);
             }
-            throw mapException(e);
         }
+        invalidate(edge.data());
     }
 
     public void updateEdge(ArangoDBEdge edge) {
         logger.debug("Update edge {} in {}", edge, config.graphName);
-        EdgeUpdateEntity updateEntity;
-        try {
-            updateEntity = db.graph(config.graphName)
-                    .edgeCollection(edge.collection())
-                    .replaceEdge(edge.key(), edge.data());
-        } catch (ArangoDBException e) {
-            throw mapException(e);
-        }
-        logger.debug("Edge updated, new rev {}", updateEntity.getRev());
-        edge.update(updateEntity);
+        updateDocument(edge.data(), DocumentPatch.of(edge.data(), mapper));
     }
 
     public VertexData readVertex(ElementId id) {
         logger.debug("Read vertex {} in {}", id, config.graphName);
+        flush();
+        if (cache != null) {
+            return readCachedDocuments(Collections.singletonList(id), VertexData.class).findFirst().orElse(null);
+        }
         try {
             return db.graph(config.graphName)
                     .vertexCollection(id.getCollection())
@@ -284,8 +714,30 @@ public class ArangoDBGraphClient {
         }
     }
 
+    public EdgeData readEdge(ElementId id) {
+        logger.debug("Read edge {} in {}", id, config.graphName);
+        flush();
+        if (cache != null) {
+            return readCachedDocuments(Collections.singletonList(id), EdgeData.class).findFirst().orElse(null);
+        }
+        try {
+            return db.graph(config.graphName)
+                    .edgeCollection(id.getCollection())
+                    .getEdge(id.getKey(), EdgeData.class);
+        } catch (ArangoDBException e) {
+            throw mapException(e);
+        }
+    }
+
     public void insertVertex(ArangoDBVertex vertex) {
         logger.debug("Insert vertex {} in {}", vertex, config.graphName);
+        if (writeBuffer != null) {
+            ensureKey(vertex.data());
+            writeBuffer.insert(vertex.data());
+            vertex.data().clearChanges();
+            invalidate(vertex.data());
+            return;
+        }
         VertexEntity vertexEntity;
         try {
             vertexEntity = db.graph(config.graphName)
@@ -295,61 +747,420 @@ public class ArangoDBGraphClient {
             throw mapException(e);
         }
         vertex.update(vertexEntity);
+        vertex.data().clearChanges();
+        invalidate(vertex.data());
     }
 
+    /**
+     * Deletes a vertex together with its incident edges. Unless write batching is enabled, the edges and the vertex
+     * are removed with a single query.
+     */
     public void deleteVertex(ArangoDBVertex vertex) {
         logger.debug("Delete vertex {} in {}", vertex, config.graphName);
-        try {
-            db.graph(config.graphName)
-                    .vertexCollection(vertex.collection())
-                    .deleteVertex(vertex.key());
-        } catch (ArangoDBException e) {
-            Integer errNum = e.getErrorNum();
-            if (errNum != null && errNum == 1202) { // document not found
-                return;
+        if (writeBuffer != null) {
+            if (!config.edges.isEmpty()) {
+                getVertexEdges(vertex.elementId(), config.edges, Direction.BOTH, new String[0]).forEach(it -> {
+                    writeBuffer.delete(it);
+                    invalidate(it);
+                });
             }
-            throw mapException(e);
+            writeBuffer.delete(vertex.data());
+            invalidate(vertex.data());
+            return;
         }
+        removeGraphVertices(Collections.singletonList(vertex.elementId()), EmptyFilter.instance(),
+                Collections.singleton(vertex.collection()), defaultQueryOptions);
+        invalidate(vertex.data());
+    }
+
+    /**
+     * Removes the matching vertices of a graph with a single query, together with their incident edges in all the
+     * edge collections of the graph. The removed documents are evicted from the element cache: if {@code ids} is
+     * empty, they are not returned by the query and the whole cache is invalidated.
+     */
+    public void removeGraphVertices(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, QueryOptions options) {
+        logger.debug("Remove {} graph vertices and their edges, filtered by AQL filters", config.graphName);
+        removeGraphDocuments(ids, filter, colNames, config.edges, options);
+    }
+
+    /**
+     * Removes the matching edges of a graph with a single query. The removed documents are evicted from the element
+     * cache: if {@code ids} is empty, they are not returned by the query and the whole cache is invalidated.
+     */
+    public void removeGraphEdges(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, QueryOptions options) {
+        logger.debug("Remove {} graph edges, filtered by AQL filters", config.graphName);
+        removeGraphDocuments(ids, filter, colNames, null, options);
+    }
+
+    /**
+     * Sets the properties of the matching vertices of a graph with a single query per collection, replacing the
+     * existing properties with the same keys together with their meta-properties. The updated documents are evicted
+     * from the element cache: if {@code ids} is empty and the documents are not returned, the whole cache is
+     * invalidated.
+     *
+     * @param values         the new property values, by key
+     * @param metaProperties the meta-properties of the new properties, by property key
+     * @param returnNew      whether to return the updated documents
+     * @return the updated documents, if {@code returnNew}, otherwise an empty list
+     */
+    public List<VertexData> updateGraphVertices(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Map<String, Object> values, Map<String, Map<String, Object>> metaProperties, boolean returnNew, QueryOptions options) {
+        logger.debug("Update {} graph vertices, filtered by AQL filters, properties {}", config.graphName, values.keySet());
+        return updateGraphDocuments(ids, filter, colNames, DocumentPatch.of(values, metaProperties, mapper), true, returnNew, options, VertexData.class);
+    }
+
+    /**
+     * Sets the properties of the matching edges of a graph with a single query per collection, see
+     * {@link #updateGraphVertices(List, ArangoFilter, Set, Map, Map, boolean, QueryOptions)}.
+     */
+    public List<EdgeData> updateGraphEdges(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Map<String, Object> values, boolean returnNew, QueryOptions options) {
+        logger.debug("Update {} graph edges, filtered by AQL filters, properties {}", config.graphName, values.keySet());
+        return updateGraphDocuments(ids, filter, colNames, DocumentPatch.of(values, Collections.emptyMap(), mapper), false, returnNew, options, EdgeData.class);
+    }
+
+    private <V extends PropertiesContainer<?> & PersistentData> List<V> updateGraphDocuments(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, DocumentPatch patch, boolean withMeta, boolean returnNew, QueryOptions options, Class<V> clazz) {
+        flush();
+        List<V> res = new ArrayList<>();
+        if (colNames.isEmpty() || patch.isEmpty()) {
+            return res;
+        }
+        Map<String, List<String>> keys = null;
+        if (!ids.isEmpty()) {
+            keys = pruneIds(ids, colNames).stream()
+                    .collect(Collectors.groupingBy(ElementId::getCollection, Collectors.mapping(ElementId::getKey, Collectors.toList())));
+        }
+        for (String collection : colNames) {
+            BindVars bindVars = new BindVars();
+            Map<String, Object> params = new HashMap<>();
+            String query;
+            if (keys == null) {
+                query = ArangoDBQueryBuilder.updateAllDocuments(collection, filter, withMeta, returnNew, bindVars);
+            } else if (keys.containsKey(collection)) {
+                query = ArangoDBQueryBuilder.updateDocuments(collection, filter, withMeta, returnNew, bindVars);
+                params.put("keys", keys.get(collection));
+            } else {
+                continue;
+            }
+            params.put("patch", patch.properties);
+            if (withMeta) {
+                params.put("meta", patch.meta);
+                params.put("removedMeta", patch.removedMeta);
+            }
+            params.putAll(bindVars.values());
+            if (returnNew) {
+                query(query, clazz, params, options.toAqlQueryOptions()).forEach(res::add);
+            } else {
+                query(query, Void.class, params, options.toAqlQueryOptions()).close();
+            }
+        }
+        if (cache != null) {
+            if (returnNew) {
+                res.forEach(this::invalidate);
+            } else if (!ids.isEmpty()) {
+                ids.forEach(cache::invalidate);
+            } else {
+                cache.invalidateAll();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param edgeCollections the collections of the incident edges to remove, or {@code null} when removing edges
+     */
+    private void removeGraphDocuments(List<ElementId> ids, ArangoFilter filter, Set<String> colNames, Set<String> edgeCollections, QueryOptions options) {
+        flush();
+        if (colNames.isEmpty()) {
+            return;
+        }
+        BindVars bindVars = new BindVars();
+        Map<String, Object> params = new HashMap<>();
+        if (ids.isEmpty()) {
+            String query = edgeCollections == null
+                    ? ArangoDBQueryBuilder.removeAllEdges(colNames, filter, bindVars)
+                    : ArangoDBQueryBuilder.removeAllVertices(colNames, filter, edgeCollections, bindVars);
+            params.putAll(bindVars.values());
+            query(query, Long.class, params, options.toAqlQueryOptions()).findFirst();
+            if (cache != null) {
+                cache.invalidateAll();
+            }
+            return;
+        }
+        String query = edgeCollections == null
+                ? ArangoDBQueryBuilder.removeEdges(filter, colNames, bindVars)
+                : ArangoDBQueryBuilder.removeVertices(filter, colNames, edgeCollections, bindVars);
+        params.put("ids", pruneIds(ids, colNames));
+        params.putAll(bindVars.values());
+        query(query, JsonNode.class, params, options.toAqlQueryOptions()).findFirst().ifPresent(removed -> {
+            if (cache != null) {
+                removed.forEach(it -> cache.invalidate(mapper.convertValue(it, ElementId.class)));
+            }
+        });
     }
 
     public void updateVertex(ArangoDBVertex vertex) {
         logger.debug("Update document {} in {}", vertex, config.graphName);
-        VertexUpdateEntity vertexEntity;
-        try {
-            vertexEntity = db.graph(config.graphName)
-                    .vertexCollection(vertex.collection())
-                    .replaceVertex(vertex.key(), vertex.data());
-        } catch (ArangoDBException e) {
-            throw mapException(e);
+        updateDocument(vertex.data(), DocumentPatch.of(vertex.data(), mapper));
+    }
+
+    /**
+     * Sends only the changes of the document since it was last persisted.
+     */
+    private <D extends PropertiesContainer<?> & PersistentData> void updateDocument(D data, DocumentPatch patch) {
+        if (patch.isEmpty()) {
+            return;
         }
-        logger.debug("Document updated, new rev {}", vertexEntity.getRev());
+        if (writeBuffer != null) {
+            writeBuffer.update(data, patch);
+        } else if (patch.hasMetaChanges() || patch.hasRemovedKeys()) {
+            // removed properties cannot be expressed as null values, which must be kept
+            Map<String, Object> params = new HashMap<>();
+            params.put("@collection", data.collection());
+            params.put("key", data.getKey());
+            params.put("patch", patch.properties);
+            params.put("removed", patch.removedKeys);
+            if (patch.hasMetaChanges()) {
+                params.put("meta", patch.meta);
+                params.put("removedMeta", patch.removedMeta);
+            }
+            query(ArangoDBQueryBuilder.patchDocument(patch.hasMetaChanges()), Void.class, params).close();
+        } else {
+            DocumentUpdateEntity<ObjectNode> updateEntity;
+            try {
+                updateEntity = db.collection(data.collection())
+                        .updateDocument(data.getKey(), patch.properties, new DocumentUpdateOptions()
+                                .keepNull(true)
+                                .mergeObjects(false));
+            } catch (ArangoDBException e) {
+                throw mapException(e);
+            }
+            logger.debug("Document updated, new rev {}", updateEntity.getRev());
+        }
+        invalidate(data);
+        data.clearChanges();
     }
 
     public Stream<VertexData> getVertexNeighbors(ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
         logger.debug("Get vertex {}:{} Neighbors, in {}, from collections {}", vertexId, direction, config.graphName, edgeCollections);
+        flush();
         String query = ArangoDBQueryBuilder.readVertexNeighbors(config.graphName, direction, config, labels);
         Map<String, Object> params = new HashMap<>();
         params.put("vertexId", vertexId);
-        params.put("edgeCollections", edgeCollections);
-        if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
-            params.put("labels", labels);
-        }
+        putTraversalParams(params, edgeCollections, direction, labels);
         return query(query, VertexData.class, params);
     }
 
     public Stream<EdgeData> getVertexEdges(ElementId vertexId, Set<String> edgeCollections, Direction direction, String[] labels) {
         logger.debug("Get vertex {}:{} Edges, in {}, from collections {}", vertexId, direction, config.graphName, edgeCollections);
+        flush();
         String query = ArangoDBQueryBuilder.readVertexEdges(config.graphName, direction, config, labels);
         Map<String, Object> params = new HashMap<>();
         params.put("vertexId", vertexId);
+        putTraversalParams(params, edgeCollections, direction, labels);
+        return query(query, EdgeData.class, params);
+    }
+
+    /**
+     * Gets the adjacent vertices of many vertices with a single query.
+     *
+     * @param filter   the filter to apply to the adjacent vertices
+     * @param distinct   whether to return each adjacent vertex only once, for one of its start vertices
+     * @param projection the keys of the properties to load, see {@link PropertiesContainer#setLoadedKeys(Set)}, or
+     *                   {@code null} to load whole documents
+     * @param options    the cursor options of the query
+     * @return the adjacent vertices, by start vertex id
+     */
+    public Map<ElementId, List<VertexData>> getVerticesNeighbors(Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, ArangoFilter filter, boolean distinct, Set<String> projection, QueryOptions options) {
+        logger.debug("Get {} vertices {} Neighbors, in {}, from collections {}, filtered by AQL filters", vertexIds.size(), direction, config.graphName, edgeCollections);
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.readVerticesNeighbors(config.graphName, direction, config, labels, filter, distinct, projection, bindVars);
+        return getAdjacentDocuments(query, bindVars, "v", VertexData.class, projection, vertexIds, edgeCollections, direction, labels, options);
+    }
+
+    /**
+     * Gets the incident edges of many vertices with a single query.
+     *
+     * @param filter   the filter to apply to the incident edges
+     * @param distinct   whether to return each incident edge only once, for one of its start vertices
+     * @param projection the keys of the properties to load, see {@link PropertiesContainer#setLoadedKeys(Set)}, or
+     *                   {@code null} to load whole documents
+     * @param options    the cursor options of the query
+     * @return the incident edges, by start vertex id
+     */
+    public Map<ElementId, List<EdgeData>> getVerticesEdges(Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, ArangoFilter filter, boolean distinct, Set<String> projection, QueryOptions options) {
+        logger.debug("Get {} vertices {} Edges, in {}, from collections {}, filtered by AQL filters", vertexIds.size(), direction, config.graphName, edgeCollections);
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.readVerticesEdges(config.graphName, direction, config, labels, filter, distinct, projection, bindVars);
+        return getAdjacentDocuments(query, bindVars, "e", EdgeData.class, projection, vertexIds, edgeCollections, direction, labels, options);
+    }
+
+    /**
+     * Counts the adjacent vertices of many vertices with a single query.
+     *
+     * @param filter  the filter to apply to the adjacent vertices
+     * @param options the cursor options of the query
+     * @return the counts, by start vertex id; vertices without adjacent vertices are not included
+     */
+    public Map<ElementId, Long> countVerticesNeighbors(Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, ArangoFilter filter, QueryOptions options) {
+        logger.debug("Count {} vertices {} Neighbors, in {}, from collections {}, filtered by AQL filters", vertexIds.size(), direction, config.graphName, edgeCollections);
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.countVerticesAdjacentDocuments(config.graphName, direction, config, labels, filter, "v", bindVars);
+        return countAdjacentDocuments(query, bindVars, vertexIds, edgeCollections, direction, labels, options);
+    }
+
+    /**
+     * Counts the incident edges of many vertices with a single query.
+     *
+     * @param filter  the filter to apply to the incident edges
+     * @param options the cursor options of the query
+     * @return the counts, by start vertex id; vertices without incident edges are not included
+     */
+    public Map<ElementId, Long> countVerticesEdges(Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, ArangoFilter filter, QueryOptions options) {
+        logger.debug("Count {} vertices {} Edges, in {}, from collections {}, filtered by AQL filters", vertexIds.size(), direction, config.graphName, edgeCollections);
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.countVerticesAdjacentDocuments(config.graphName, direction, config, labels, filter, "e", bindVars);
+        return countAdjacentDocuments(query, bindVars, vertexIds, edgeCollections, direction, labels, options);
+    }
+
+    /**
+     * Executes a multi-hop traversal from many vertices with a single query.
+     *
+     * @param repeat  the multi-hop traversal
+     * @param paths   whether to return the whole paths, or only the last vertices
+     * @param options the cursor options of the query
+     * @return the vertices reached from each start vertex, by start vertex id; each reached vertex is returned as a
+     * list containing either the whole path without the start vertex, or only the reached vertex, or is an empty list
+     * if the reached vertex is the start vertex itself (depth {@code 0})
+     */
+    public Map<ElementId, List<List<VertexData>>> getVerticesRepeat(Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, RepeatTraversal repeat, boolean paths, QueryOptions options) {
+        logger.debug("Get {} vertices {} multi-hop Neighbors, in {}, from collections {}", vertexIds.size(), direction, config.graphName, edgeCollections);
+        flush();
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.readVerticesRepeat(config.graphName, direction, config, labels, repeat, paths, bindVars);
+        Map<ElementId, List<List<VertexData>>> res = new HashMap<>();
+        query(query, JsonNode.class, adjacentDocumentsParams(bindVars, vertexIds, edgeCollections, direction, labels), options.toAqlQueryOptions()).forEach(it -> {
+            List<VertexData> vertices = new ArrayList<>();
+            it.get("vertices").forEach(v -> vertices.add(mapper.convertValue(v, VertexData.class)));
+            res.computeIfAbsent(mapper.convertValue(it.get("start"), ElementId.class), k -> new ArrayList<>()).add(vertices);
+        });
+        return res;
+    }
+
+    /**
+     * Counts the vertices reached by a multi-hop traversal from many vertices with a single query.
+     *
+     * @param repeat  the multi-hop traversal
+     * @param options the cursor options of the query
+     * @return the counts, by start vertex id; vertices without reached vertices are not included
+     */
+    public Map<ElementId, Long> countVerticesRepeat(Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, RepeatTraversal repeat, QueryOptions options) {
+        logger.debug("Count {} vertices {} multi-hop Neighbors, in {}, from collections {}", vertexIds.size(), direction, config.graphName, edgeCollections);
+        BindVars bindVars = new BindVars();
+        String query = ArangoDBQueryBuilder.countVerticesRepeat(config.graphName, direction, config, labels, repeat, bindVars);
+        return countAdjacentDocuments(query, bindVars, vertexIds, edgeCollections, direction, labels, options);
+    }
+
+    /**
+     * Searches the paths between two vertices.
+     *
+     * @param labels          the labels of the edges to follow, or an empty array to follow all the edges
+     * @param weightAttribute the edge attribute holding the weight, or {@code null} to count the edges
+     * @param defaultWeight   the weight of the edges without weight attribute
+     * @param maxDepth        the max number of edges of the paths, or {@code null}
+     * @param low             the number of paths to skip
+     * @param high            the end of the range of paths to return, exclusive, or a negative value for no limit
+     * @param options         the cursor options of the query
+     * @return the paths
+     */
+    public Stream<PathData> getPaths(PathType type, ElementId from, ElementId to, Direction direction, String[] labels, String weightAttribute, double defaultWeight, Integer maxDepth, long low, long high, QueryOptions options) {
+        logger.debug("Get {} paths from {} to {}, in {}, with labels {}", type, from, to, config.graphName, labels);
+        flush();
+        Set<String> edgeCollections = null;
+        if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.COMPLEX) {
+            edgeCollections = Arrays.stream(labels)
+                    .filter(config.edges::contains)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (edgeCollections.isEmpty()) {
+                return Stream.empty();
+            }
+        }
+        String query = ArangoDBQueryBuilder.readPaths(type, config.graphName, edgeCollections, direction, config, labels, weightAttribute, maxDepth, low, high);
+        Map<String, Object> params = new HashMap<>();
+        params.put("from", from);
+        params.put("to", to);
+        if (weightAttribute != null) {
+            params.put("weightAttribute", weightAttribute);
+            params.put("defaultWeight", defaultWeight);
+        }
+        if (maxDepth != null) {
+            params.put("maxDepth", maxDepth);
+        }
+        if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
+            params.put("labels", labels);
+        }
+        return query(query, JsonNode.class, params, options.toAqlQueryOptions()).map(it -> {
+            List<VertexData> vertices = new ArrayList<>();
+            it.get("vertices").forEach(v -> vertices.add(mapper.convertValue(v, VertexData.class)));
+            List<EdgeData> edges = new ArrayList<>();
+            it.get("edges").forEach(e -> edges.add(mapper.convertValue(e, EdgeData.class)));
+            return new PathData(vertices, edges);
+        });
+    }
+
+    private Map<ElementId, Long> countAdjacentDocuments(String query, BindVars bindVars, Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, QueryOptions options) {
+        flush();
+        Map<ElementId, Long> res = new HashMap<>();
+        query(query, JsonNode.class, adjacentDocumentsParams(bindVars, vertexIds, edgeCollections, direction, labels), options.toAqlQueryOptions()).forEach(it -> res.put(
+                mapper.convertValue(it.get("start"), ElementId.class),
+                it.get("count").asLong()));
+        return res;
+    }
+
+    private Map<String, Object> adjacentDocumentsParams(BindVars bindVars, Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels) {
+        Map<String, Object> params = new HashMap<>(bindVars.values());
+        params.put("vertexIds", vertexIds);
+        putTraversalParams(params, edgeCollections, direction, labels);
+        return params;
+    }
+
+    private void putTraversalParams(Map<String, Object> params, Set<String> edgeCollections, Direction direction, String[] labels) {
         params.put("edgeCollections", edgeCollections);
         if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
             params.put("labels", labels);
+            if (config.enableLabelIndexes) {
+                params.put("indexHint", ArangoDBQueryBuilder.labelIndexHint(edgeCollections, direction));
+            }
+        }
+    }
+
+    private <V extends PropertiesContainer<?>> Map<ElementId, List<V>> getAdjacentDocuments(String query, BindVars bindVars, String field, Class<V> clazz, Set<String> projection, Collection<ElementId> vertexIds, Set<String> edgeCollections, Direction direction, String[] labels, QueryOptions options) {
+        flush();
+        Map<ElementId, List<V>> res = new HashMap<>();
+        query(query, JsonNode.class, adjacentDocumentsParams(bindVars, vertexIds, edgeCollections, direction, labels), options.toAqlQueryOptions()).forEach(it -> {
+            V document = mapper.convertValue(it.get(field), clazz);
+            if (projection != null) {
+                document.setLoadedKeys(projection);
+            }
+            res.computeIfAbsent(mapper.convertValue(it.get("start"), ElementId.class), k -> new ArrayList<>()).add(document);
+        });
+        return res;
+    }
+
+    private void invalidate(PersistentData data) {
+        if (cache != null) {
+            cache.invalidate(data.elementId());
+        }
+    }
+
+    /**
+     * Buffered inserts are sent to the server later on, so the document key cannot be generated by the server.
+     */
+    private void ensureKey(PersistentData data) {
+        if (data.getKey() == null) {
+            data.elementId().setKey(UUID.randomUUID().toString());
         }
-        return query(query, EdgeData.class, params);
     }
 
-    private RuntimeException mapException(ArangoDBException ex) {
+    static RuntimeException mapException(ArangoDBException ex) {
         if (ex.getCause() instanceof InterruptedException) {
             TraversalInterruptedException ie = new TraversalInterruptedException();
             ie.initCause(ex);
@@ -16,17 +16,25 @@
 
 package com.arangodb.tinkerpop.gremlin.client;
 
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import com.arangodb.tinkerpop.gremlin.process.filter.ArangoFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.BindVars;
 import com.arangodb.tinkerpop.gremlin.process.filter.FilterSupport;
+import com.arangodb.tinkerpop.gremlin.process.sort.ArangoSort;
+import com.arangodb.tinkerpop.gremlin.process.value.Value;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.utils.Fields;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
 
 public class ArangoDBQueryBuilder {
 
+    static final String LABEL_INDEX = "tinkerpop_label";
+    static final String FROM_LABEL_INDEX = "tinkerpop_from_label";
+    static final String TO_LABEL_INDEX = "tinkerpop_to_label";
+
     private ArangoDBQueryBuilder() {
     }
 
@@ -42,13 +50,219 @@ public class ArangoDBQueryBuilder {
                 .toString();
     }
 
+    /**
+     * @param distinct   whether to return each adjacent vertex once, together with one of its start vertices
+     * @param projection the keys of the properties to return, or {@code null} to return whole documents
+     */
+    static String readVerticesNeighbors(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels, ArangoFilter filter, boolean distinct, Set<String> projection, BindVars bindVars) {
+        return batchedOneStepTraversal(graphName, direction, config, labels)
+                .append(filter(filter, "v", bindVars))
+                .append(returnAdjacent("v", distinct, projection, config))
+                .toString();
+    }
+
+    /**
+     * @param distinct   whether to return each incident edge once, together with one of its start vertices
+     * @param projection the keys of the properties to return, or {@code null} to return whole documents
+     */
+    static String readVerticesEdges(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels, ArangoFilter filter, boolean distinct, Set<String> projection, BindVars bindVars) {
+        return batchedOneStepTraversal(graphName, direction, config, labels)
+                .append(filter(filter, "e", bindVars))
+                .append(returnAdjacent("e", distinct, projection, config))
+                .toString();
+    }
+
+    private static String returnAdjacent(String variable, boolean distinct, Set<String> projection, ArangoDBGraphConfig config) {
+        if (!distinct) {
+            return projection == null
+                    ? " RETURN {start, " + variable + "}"
+                    : " RETURN {start, " + variable + ": " + project(variable, projection, config) + "}";
+        }
+        // the documents are grouped by id only, and fetched once per group
+        return " COLLECT id = " + variable + "._id AGGREGATE s = MIN(start) LET d = DOCUMENT(id) RETURN {start: s, "
+                + variable + ": " + project("d", projection, config) + "}";
+    }
+
+    /**
+     * @param filterVariable the traversal variable to apply the filter to, either {@code v} or {@code e}
+     */
+    static String countVerticesAdjacentDocuments(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels, ArangoFilter filter, String filterVariable, BindVars bindVars) {
+        return batchedOneStepTraversal(graphName, direction, config, labels)
+                .append(filter(filter, filterVariable, bindVars))
+                .append(" COLLECT s = start WITH COUNT INTO c RETURN {start: s, count: c}")
+                .toString();
+    }
+
+    /**
+     * @param paths whether to return the whole paths, or only the last vertices
+     */
+    static String readVerticesRepeat(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels, RepeatTraversal repeat, boolean paths, BindVars bindVars) {
+        return batchedMultiStepTraversal(graphName, direction, config, labels, repeat, bindVars)
+                .append(paths
+                        ? " RETURN {start, vertices: SLICE(p.vertices, 1)}"
+                        : " RETURN {start, vertices: LENGTH(p.edges) == 0 ? [] : [v]}")
+                .toString();
+    }
+
+    static String countVerticesRepeat(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels, RepeatTraversal repeat, BindVars bindVars) {
+        return batchedMultiStepTraversal(graphName, direction, config, labels, repeat, bindVars)
+                .append(" COLLECT s = start WITH COUNT INTO c RETURN {start: s, count: c}")
+                .toString();
+    }
+
+    private static StringBuilder batchedMultiStepTraversal(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels, RepeatTraversal repeat, BindVars bindVars) {
+        String depth = "LENGTH(p.edges)";
+        StringBuilder query = new StringBuilder("FOR start IN @vertexIds FOR v, e, p IN ")
+                .append(repeat.minDepth())
+                .append("..")
+                .append(repeat.maxDepth())
+                .append(" ")
+                .append(toArangoDirection(direction))
+                .append(" start GRAPH ")
+                .append(escape(graphName));
+        String prune = repeat.pruneCondition(depth, bindVars);
+        if (prune != null) {
+            query.append(" PRUNE ").append(prune);
+        }
+        String uniqueness = repeat.isSimplePath() ? "\"path\"" : "\"none\"";
+        query
+                .append(" OPTIONS {edgeCollections: @edgeCollections, uniqueVertices: ")
+                .append(uniqueness)
+                .append(", uniqueEdges: ")
+                .append(uniqueness)
+                .append(", order: ")
+                .append(repeat.isEmitting() ? "\"bfs\"" : "\"dfs\"");
+        if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE && config.enableLabelIndexes) {
+            query.append(", indexHint: @indexHint");
+        }
+        query.append("}");
+        if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
+            // applied to each depth by the traversal
+            query.append(" FILTER p.edges[*]." + config.labelField + " ALL IN @labels");
+        }
+        String filter = repeat.filterCondition(depth, bindVars);
+        if (filter != null) {
+            query.append(" FILTER ").append(filter);
+        }
+        return query;
+    }
+
+    /**
+     * {@code SHORTEST_PATH} and {@code K_SHORTEST_PATHS} searches whose paths need to be filtered, i.e. by edge labels
+     * in SIMPLE graphs, or by max depth in weighted or k shortest paths searches, are executed by a breadth-first
+     * traversal bounded by the max depth, which does not follow the edges with other labels, see
+     * {@link #boundedPathSearch}. Filtering the results of {@code K_SHORTEST_PATHS} instead would enumerate all the
+     * paths between the vertices if fewer paths than requested match.
+     *
+     * @param edgeCollections the edge collections to search, or {@code null} to search the whole graph
+     * @param maxDepth        the max number of edges of the paths, or {@code null}
+     */
+    static String readPaths(PathType type, String graphName, Set<String> edgeCollections, Direction direction, ArangoDBGraphConfig config, String[] labels, String weightAttribute, Integer maxDepth, long low, long high) {
+        boolean labelFilter = labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE;
+        if (type == PathType.SHORTEST_PATH) {
+            high = high < 0 ? 1 : Math.min(high, 1);
+            low = Math.min(low, high);
+        }
+        String graph = edgeCollections == null
+                ? "GRAPH " + escape(graphName)
+                : edgeCollections.stream().map(ArangoDBQueryBuilder::escape).collect(Collectors.joining(", "));
+        boolean filteredByDepth = maxDepth != null && (type == PathType.K_SHORTEST_PATHS || weightAttribute != null);
+        if ((type == PathType.SHORTEST_PATH || type == PathType.K_SHORTEST_PATHS) && (labelFilter || filteredByDepth)) {
+            if (maxDepth == null) {
+                throw new IllegalArgumentException("Edge labels of " + type + " searches in SIMPLE graphs require a max depth");
+            }
+            return boundedPathSearch(graph, direction, config, labelFilter, weightAttribute, low, high);
+        }
+        String options = weightAttribute == null ? "" : " OPTIONS {weightAttribute: @weightAttribute, defaultWeight: @defaultWeight}";
+        StringBuilder query = new StringBuilder();
+        if (type == PathType.SHORTEST_PATH) {
+            query
+                    .append("LET p = (FOR v, e IN ")
+                    .append(toArangoDirection(direction))
+                    .append(" SHORTEST_PATH @from TO @to ")
+                    .append(graph)
+                    .append(options)
+                    .append(" RETURN {v, e}) FILTER LENGTH(p) > 0");
+            if (maxDepth != null) {
+                query.append(" FILTER LENGTH(p) - 1 <= @maxDepth");
+            }
+            query.append(limit(low, high));
+            return query
+                    .append(" RETURN {vertices: p[*].v, edges: SLICE(p[*].e, 1)}")
+                    .toString();
+        }
+
+        query.append("FOR p IN ");
+        if (type == PathType.K_PATHS) {
+            query.append("0..@maxDepth ");
+        }
+        query
+                .append(toArangoDirection(direction))
+                .append(" ")
+                .append(type.name())
+                .append(" @from TO @to ")
+                .append(graph)
+                .append(options);
+        if (labelFilter) {
+            query.append(" FILTER p.edges[*]." + config.labelField + " ALL IN @labels");
+        }
+        if (maxDepth != null && type != PathType.K_PATHS) {
+            query.append(" FILTER LENGTH(p.edges) <= @maxDepth");
+        }
+        return query
+                .append(limit(low, high))
+                .append(" RETURN {vertices: p.vertices, edges: p.edges}")
+                .toString();
+    }
+
+    /**
+     * Searches the paths up to {@code @maxDepth} edges in order of increasing length, or weight. The edges with other
+     * labels are pruned at each depth, so that the search is bounded by the number of paths matching the labels,
+     * instead of the number of paths between the vertices.
+     */
+    private static String boundedPathSearch(String graph, Direction direction, ArangoDBGraphConfig config, boolean labelFilter, String weightAttribute, long low, long high) {
+        StringBuilder query = new StringBuilder("FOR v, e, p IN 0..@maxDepth ")
+                .append(toArangoDirection(direction))
+                .append(" @from ")
+                .append(graph);
+        if (labelFilter) {
+            query.append(" PRUNE e != null AND e." + config.labelField + " NOT IN @labels");
+        }
+        query.append(" OPTIONS {order: \"bfs\", uniqueVertices: \"path\"} FILTER v." + Fields.ID + " == @to");
+        if (labelFilter) {
+            query.append(" FILTER p.edges[*]." + config.labelField + " ALL IN @labels");
+        }
+        if (weightAttribute != null) {
+            // breadth-first order is by length, paths of the same weight are also ordered by length
+            query.append(" SORT SUM(p.edges[* RETURN IS_NUMBER(CURRENT[@weightAttribute]) ? CURRENT[@weightAttribute] : @defaultWeight]), LENGTH(p.edges)");
+        }
+        return query
+                .append(limit(low, high))
+                .append(" RETURN {vertices: p.vertices, edges: p.edges}")
+                .toString();
+    }
+
+    private static StringBuilder batchedOneStepTraversal(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels) {
+        return oneStepTraversal(new StringBuilder("FOR start IN @vertexIds "), "start", graphName, direction, config, labels);
+    }
+
     private static StringBuilder oneStepTraversal(String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels) {
-        StringBuilder query = new StringBuilder()
+        return oneStepTraversal(new StringBuilder(), "@vertexId", graphName, direction, config, labels);
+    }
+
+    private static StringBuilder oneStepTraversal(StringBuilder query, String startVertex, String graphName, Direction direction, ArangoDBGraphConfig config, String[] labels) {
+        query
                 .append("FOR v, e IN 1..1 ")
                 .append(toArangoDirection(direction))
-                .append(" @vertexId GRAPH ")
+                .append(" ")
+                .append(startVertex)
+                .append(" GRAPH ")
                 .append(escape(graphName))
-                .append(" OPTIONS {edgeCollections: @edgeCollections}");
+                .append(" OPTIONS {edgeCollections: @edgeCollections");
+        if (labels.length > 0 && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE && config.enableLabelIndexes) {
+            query.append(", indexHint: @indexHint");
+        }
+        query.append("}");
         if (labels.length > 0) {
             if (config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
                 query.append(" FILTER e." + config.labelField + " IN @labels");
@@ -59,33 +273,383 @@ public class ArangoDBQueryBuilder {
         return query;
     }
 
-    static String readAllDocuments(Set<String> collections, ArangoFilter filter) {
+    /**
+     * @return the traversal {@code indexHint} option, pointing to the vertex-centric label indexes of the given edge
+     * collections
+     */
+    static Map<String, Object> labelIndexHint(Set<String> edgeCollections, Direction direction) {
+        Map<String, Object> directions = new HashMap<>();
+        if (direction != Direction.IN) {
+            directions.put("outbound", Collections.singletonMap("base", FROM_LABEL_INDEX));
+        }
+        if (direction != Direction.OUT) {
+            directions.put("inbound", Collections.singletonMap("base", TO_LABEL_INDEX));
+        }
+        Map<String, Object> hint = new HashMap<>();
+        edgeCollections.forEach(it -> hint.put(it, directions));
+        return hint;
+    }
+
+    /**
+     * Replaces the document with the key in {@code @key} with its patched version: the attributes in {@code @removed}
+     * are unset, the ones in {@code @patch} are set, keeping their {@code null} values, and, if {@code withMeta}, the
+     * meta-properties are patched with {@code @meta} and {@code @removedMeta}, see {@link DocumentPatch}.
+     */
+    static String patchDocument(boolean withMeta) {
+        return "FOR d IN @@collection FILTER d." + Fields.KEY + " == @key" +
+                " REPLACE d WITH MERGE(UNSET(d, @removed), @patch" + (withMeta ? ", " + metaPatch("d") : "") + ")" +
+                " IN @@collection";
+    }
+
+    /**
+     * Updates the matching documents of a collection with the patch in the bind parameter {@code @patch} and, if
+     * {@code withMeta}, with the meta-properties in {@code @meta} and {@code @removedMeta}, see {@link DocumentPatch}.
+     *
+     * @param returnNew whether to return the updated documents
+     */
+    static String updateAllDocuments(String collection, ArangoFilter filter, boolean withMeta, boolean returnNew, BindVars bindVars) {
+        return "FOR x IN " + escape(collection) + filter(filter, "x", bindVars) + update(collection, withMeta, returnNew);
+    }
+
+    /**
+     * Updates the matching documents of a collection with the keys in the bind parameter {@code @keys}, see
+     * {@link #updateAllDocuments(String, ArangoFilter, boolean, boolean, BindVars)}.
+     */
+    static String updateDocuments(String collection, ArangoFilter filter, boolean withMeta, boolean returnNew, BindVars bindVars) {
+        return "FOR x IN " + escape(collection) + " FILTER x." + Fields.KEY + " IN @keys" + filter(filter, "x", bindVars)
+                + update(collection, withMeta, returnNew);
+    }
+
+    private static String update(String collection, boolean withMeta, boolean returnNew) {
+        return " UPDATE x WITH " + (withMeta ? "MERGE(@patch, " + metaPatch("x") + ")" : "@patch") + " IN " + escape(collection)
+                + " OPTIONS {keepNull: true, mergeObjects: false}" + (returnNew ? " RETURN NEW" : "");
+    }
+
+    private static String metaPatch(String variable) {
+        return "{" + Fields.META + ": MERGE(UNSET(" + variable + "." + Fields.META + " || {}, @removedMeta), @meta)}";
+    }
+
+    /**
+     * @param projection the keys of the properties to return, or {@code null} to return whole documents
+     */
+    static String readAllDocuments(String collection, ArangoFilter filter, ArangoSort sort, Set<String> projection, ArangoDBGraphConfig config, long low, long high, BindVars bindVars) {
+        return readFromSingleCollection(collection, filter, sort, low, high, project("x", projection, config), bindVars);
+    }
+
+    /**
+     * Reads the documents of multiple collections with a single query, merging the results of all the collections
+     * with {@code UNION}. This materializes the documents of all the collections on the server side, and should only
+     * be used when the documents must be sorted globally, otherwise the collections should be read one by one with
+     * {@link #readAllDocuments(String, ArangoFilter, ArangoSort, Set, ArangoDBGraphConfig, long, long, BindVars)}.
+     *
+     * @param projection the keys of the properties to return, or {@code null} to return whole documents
+     */
+    static String readAllDocuments(Set<String> collections, ArangoFilter filter, ArangoSort sort, Set<String> projection, ArangoDBGraphConfig config, long low, long high, BindVars bindVars) {
         if (collections.isEmpty()) {
             throw new IllegalArgumentException();
         } else if (collections.size() == 1) {
-            return readAllDocumentsFromSingleCollection(collections.iterator().next(), filter);
+            return readAllDocuments(collections.iterator().next(), filter, sort, projection, config, low, high, bindVars);
         } else {
-            return readAllDocumentsFromMultipleCollections(collections, filter);
+            return String.format("FOR d in %s%s%s RETURN %s", union(collections, filter, sort, high, "x", bindVars), sort(sort, "d"),
+                    limit(low, high), project("d", projection, config));
+        }
+    }
+
+    static String countAllDocuments(Set<String> collections, ArangoFilter filter, long low, long high, BindVars bindVars) {
+        if (collections.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        if (filter.getSupport() == FilterSupport.NONE && high < 0) {
+            // full scans are counted from the collections metadata
+            return collections.stream()
+                    .map(it -> "LENGTH(" + escape(it) + ")")
+                    .collect(Collectors.joining(", ", "RETURN SUM([", "])"));
+        }
+        if (collections.size() > 1 && high < 0) {
+            // the collections are counted one by one, without materializing the union of all the filtered documents
+            String filterExpression = filter(filter, "x", bindVars);
+            return collections.stream()
+                    .map(it -> "FIRST(FOR x IN " + escape(it) + filterExpression + " COLLECT WITH COUNT INTO c RETURN c)")
+                    .collect(Collectors.joining(", ", "RETURN SUM([", "])"));
+        }
+        StringBuilder query = new StringBuilder();
+        if (collections.size() == 1) {
+            query.append("FOR x IN ")
+                    .append(escape(collections.iterator().next()))
+                    .append(filter(filter, "x", bindVars))
+                    .append(limit(low, high));
+        } else {
+            query.append("FOR d IN ")
+                    .append(union(collections, filter, ArangoSort.empty(), high, "1", bindVars))
+                    .append(limit(low, high));
+        }
+        return query.append(" COLLECT WITH COUNT INTO c RETURN c").toString();
+    }
+
+    static String readDocuments(ArangoFilter filter, ArangoSort sort, Set<String> projection, ArangoDBGraphConfig config, long low, long high, BindVars bindVars) {
+        return "FOR d IN DOCUMENT(@ids)" + filter(filter, "d", bindVars) + hasAttributes(sort, "d") + sort(sort, "d") + limit(low, high)
+                + " RETURN " + project("d", projection, config);
+    }
+
+    static String readDocumentsById() {
+        return "FOR d IN DOCUMENT(@ids) RETURN d";
+    }
+
+    static String readRevisions() {
+        return "FOR d IN DOCUMENT(@ids) RETURN KEEP(d, \"" + Fields.ID + "\", \"" + Fields.REV + "\")";
+    }
+
+    static String countDocuments(ArangoFilter filter, long low, long high, BindVars bindVars) {
+        return "FOR d IN DOCUMENT(@ids)" + filter(filter, "d", bindVars) + limit(low, high) + " COLLECT WITH COUNT INTO c RETURN c";
+    }
+
+    /**
+     * Reads the distinct values of an attribute of the documents of the given collections.
+     */
+    static String readAllDistinctValues(Set<String> collections, ArangoFilter filter, String attribute, BindVars bindVars) {
+        if (collections.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        String value = "DISTINCT `x`[" + bindVars.bind(Value.of(attribute)) + "]";
+        if (collections.size() == 1) {
+            return readFromSingleCollection(collections.iterator().next(), filter, ArangoSort.empty(), 0, -1, value, bindVars);
+        }
+        // the values are deduplicated within each collection first, then globally
+        return "FOR d IN " + union(collections, filter, ArangoSort.empty(), -1, value, bindVars) + " RETURN DISTINCT d";
+    }
+
+    static String readDistinctValues(ArangoFilter filter, String attribute, BindVars bindVars) {
+        return "FOR d IN DOCUMENT(@ids)" + filter(filter, "d", bindVars) + " RETURN DISTINCT `d`[" + bindVars.bind(Value.of(attribute)) + "]";
+    }
+
+    /**
+     * Removes the matching vertices of the given collections, together with their incident edges in the given edge
+     * collections, and returns the number of removed vertices.
+     */
+    static String removeAllVertices(Set<String> collections, ArangoFilter filter, Set<String> edgeCollections, BindVars bindVars) {
+        return "LET ids = " + selectAllIds(collections, filter, bindVars) + removeIncidentEdges(edgeCollections, false)
+                + removeByIds(collections) + " RETURN LENGTH(ids)";
+    }
+
+    /**
+     * Removes the matching vertices with the given ids, together with their incident edges in the given edge
+     * collections, and returns the ids of all the removed documents.
+     */
+    static String removeVertices(ArangoFilter filter, Set<String> collections, Set<String> edgeCollections, BindVars bindVars) {
+        List<String> removed = new ArrayList<>();
+        removed.add("ids");
+        for (int i = 0; i < edgeCollections.size(); i++) {
+            removed.add("e" + i);
+        }
+        return "LET ids = " + selectIds(filter, bindVars) + removeIncidentEdges(edgeCollections, true)
+                + removeByIds(collections) + " RETURN FLATTEN([" + String.join(", ", removed) + "])";
+    }
+
+    /**
+     * Removes the matching edges of the given collections and returns the number of removed edges.
+     */
+    static String removeAllEdges(Set<String> collections, ArangoFilter filter, BindVars bindVars) {
+        return "LET ids = " + selectAllIds(collections, filter, bindVars) + removeByIds(collections) + " RETURN LENGTH(ids)";
+    }
+
+    /**
+     * Removes the matching edges with the given ids and returns the ids of the removed edges.
+     */
+    static String removeEdges(ArangoFilter filter, Set<String> collections, BindVars bindVars) {
+        return "LET ids = " + selectIds(filter, bindVars) + removeByIds(collections) + " RETURN ids";
+    }
+
+    private static String selectAllIds(Set<String> collections, ArangoFilter filter, BindVars bindVars) {
+        if (collections.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        if (collections.size() == 1) {
+            return "(" + readFromSingleCollection(collections.iterator().next(), filter, ArangoSort.empty(), 0, -1, "x._id", bindVars) + ")";
+        }
+        return union(collections, filter, ArangoSort.empty(), -1, "x._id", bindVars);
+    }
+
+    private static String selectIds(ArangoFilter filter, BindVars bindVars) {
+        return "UNIQUE(FOR d IN DOCUMENT(@ids)" + filter(filter, "d", bindVars) + " RETURN d._id)";
+    }
+
+    /**
+     * The documents to remove are all selected before the first removal, since AQL does not allow reading a
+     * collection after modifying it, and each collection is then modified by a single subquery.
+     *
+     * @param returnIds whether the subqueries return the ids of the removed edges
+     */
+    private static String removeIncidentEdges(Set<String> edgeCollections, boolean returnIds) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        for (String collection : edgeCollections) {
+            // separate lookups of _from and _to, so that both use the edge index
+            sb.append(" LET e").append(i++).append(" = (FOR k IN UNION_DISTINCT(")
+                    .append("(FOR v IN ids FOR e IN ").append(escape(collection)).append(" FILTER e._from == v RETURN e._key), ")
+                    .append("(FOR v IN ids FOR e IN ").append(escape(collection)).append(" FILTER e._to == v RETURN e._key)) ")
+                    .append("REMOVE k IN ").append(escape(collection)).append(" OPTIONS {ignoreErrors: true}")
+                    .append(returnIds ? " RETURN OLD._id)" : ")");
+        }
+        return sb.toString();
+    }
+
+    private static String removeByIds(Set<String> collections) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        for (String collection : collections) {
+            sb.append(" LET r").append(i++).append(" = (FOR id IN ids FILTER PARSE_IDENTIFIER(id).collection == ")
+                    .append(string(collection)).append(" REMOVE PARSE_IDENTIFIER(id).key IN ").append(escape(collection))
+                    .append(" OPTIONS {ignoreErrors: true})");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Aggregates the documents of the given collections. Each result is an object with the group key {@code k}, if
+     * grouped, the number {@code c} of documents, the aggregated value {@code a} and, unless counting, the number
+     * {@code n} of documents without numeric value and the number {@code f} of documents with a fractional value.
+     */
+    static String aggregateAllDocuments(Set<String> collections, ArangoFilter filter, Aggregation aggregation, BindVars bindVars) {
+        if (collections.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        if (collections.size() == 1) {
+            return "FOR x IN " + escape(collections.iterator().next()) + filter(filter, "x", bindVars)
+                    + collect(aggregation, groupKey(aggregation, "x", bindVars), aggregatedValue(aggregation, "x", bindVars));
+        }
+        // only the group key and the aggregated value of each document are materialized in the union
+        String projection = "{k: " + groupKey(aggregation, "x", bindVars) + ", v: " + aggregatedValue(aggregation, "x", bindVars) + "}";
+        return "FOR d IN " + union(collections, filter, ArangoSort.empty(), -1, projection, bindVars)
+                + collect(aggregation, aggregation.isGrouped() ? "d.k" : null, "d.v");
+    }
+
+    static String aggregateDocuments(ArangoFilter filter, Aggregation aggregation, BindVars bindVars) {
+        return "FOR d IN DOCUMENT(@ids)" + filter(filter, "d", bindVars)
+                + collect(aggregation, groupKey(aggregation, "d", bindVars), aggregatedValue(aggregation, "d", bindVars));
+    }
+
+    private static String collect(Aggregation aggregation, String key, String value) {
+        StringBuilder query = new StringBuilder(" COLLECT");
+        if (key != null) {
+            query.append(" k = ").append(key);
+        }
+        if (aggregation.getFunction() == Aggregation.Function.COUNT) {
+            return query.append(" WITH COUNT INTO c RETURN {").append(key != null ? "k, " : "").append("c, a: c}").toString();
+        }
+        String numeric = "IS_NUMBER(" + value + ")";
+        return query.append(" AGGREGATE a = ").append(aggregateFunction(aggregation.getFunction())).append("(").append(value).append(")")
+                .append(", n = SUM(").append(numeric).append(" ? 0 : 1)")
+                .append(", f = SUM(").append(numeric).append(" && FLOOR(").append(value).append(") != ").append(value).append(" ? 1 : 0)")
+                .append(", c = LENGTH(1)")
+                .append(" RETURN {").append(key != null ? "k, " : "").append("c, a, n, f}")
+                .toString();
+    }
+
+    private static String aggregateFunction(Aggregation.Function function) {
+        switch (function) {
+            case SUM:
+                return "SUM";
+            case MIN:
+                return "MIN";
+            case MAX:
+                return "MAX";
+            case MEAN:
+                return "AVERAGE";
+            default:
+                throw new IllegalArgumentException("Unsupported aggregate function: " + function);
         }
     }
 
-    private static String readAllDocumentsFromMultipleCollections(Set<String> collections, ArangoFilter filter) {
-        String inner = collections.stream()
-                .map(it -> ArangoDBQueryBuilder.readAllDocumentsFromSingleCollection(it, filter))
+    /**
+     * The attribute names are passed as bind parameters, since property keys may contain any character.
+     */
+    private static String groupKey(Aggregation aggregation, String variable, BindVars bindVars) {
+        if (aggregation.getGroupAttribute() != null) {
+            return "`" + variable + "`[" + bindVars.bind(Value.of(aggregation.getGroupAttribute())) + "]";
+        } else if (aggregation.isGroupByCollection()) {
+            return "PARSE_IDENTIFIER(`" + variable + "`).collection";
+        }
+        return null;
+    }
+
+    private static String aggregatedValue(Aggregation aggregation, String variable, BindVars bindVars) {
+        if (aggregation.getAttribute() == null) {
+            return "null";
+        }
+        return "`" + variable + "`[" + bindVars.bind(Value.of(aggregation.getAttribute())) + "]";
+    }
+
+    private static String union(Set<String> collections, ArangoFilter filter, ArangoSort sort, long high, String returnExpression, BindVars bindVars) {
+        // each collection contributes at most the first `high` documents to the global range, according to the sort
+        // order, which is then applied again on the union
+        // the filter is rendered once, so that all the subqueries share the same bind parameters
+        String filterExpression = filter(filter, "x", bindVars);
+        return collections.stream()
+                .map(it -> "FOR x IN " + escape(it) + filterExpression + hasAttributes(sort, "x")
+                        + (high < 0 ? "" : sort(sort, "x")) + limit(0, high) + " RETURN " + returnExpression)
                 .map(it -> "(" + it + ")")
-                .collect(Collectors.joining(","));
-        return String.format("FOR d in UNION(%s) RETURN d", inner);
+                .collect(Collectors.joining(",", "UNION(", ")"));
+    }
+
+    private static String readFromSingleCollection(String collection, ArangoFilter filter, ArangoSort sort, long low, long high, String returnExpression, BindVars bindVars) {
+        return "FOR x IN " + escape(collection) + filter(filter, "x", bindVars) + hasAttributes(sort, "x") + sort(sort, "x")
+                + limit(low, high) + " RETURN " + returnExpression;
+    }
+
+    private static String filter(ArangoFilter filter, String variable, BindVars bindVars) {
+        if (filter.getSupport() == FilterSupport.NONE) {
+            return "";
+        }
+        return " FILTER " + filter.toAql(variable, bindVars);
+    }
+
+    /**
+     * @return the AQL expression returning only the system attributes and the given properties, together with their
+     * meta-properties, or the whole document if {@code projection} is {@code null}
+     */
+    private static String project(String variable, Set<String> projection, ArangoDBGraphConfig config) {
+        if (projection == null) {
+            return variable;
+        }
+        Set<String> attributes = new LinkedHashSet<>(Arrays.asList(Fields.ID, Fields.KEY, Fields.REV, Fields.FROM, Fields.TO, config.labelField));
+        attributes.addAll(projection);
+        return "MERGE(KEEP(" + variable + ", " + array(attributes) + "), {" + Fields.META + ": KEEP("
+                + variable + "." + Fields.META + " || {}, " + array(projection) + ")})";
+    }
+
+    private static String array(Collection<String> values) {
+        return values.stream()
+                .map(ArangoDBQueryBuilder::string)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String string(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String hasAttributes(ArangoSort sort, String variable) {
+        if (sort.isEmpty()) {
+            return "";
+        }
+        return " FILTER " + sort.filterToAql(variable);
+    }
+
+    private static String sort(ArangoSort sort, String variable) {
+        if (sort.isEmpty()) {
+            return "";
+        }
+        return " SORT " + sort.toAql(variable);
     }
 
-    private static String readAllDocumentsFromSingleCollection(String collection, ArangoFilter filter) {
-        StringBuilder query = new StringBuilder()
-                .append("FOR x IN ")
-                .append(escape(collection));
-        if (filter.getSupport() != FilterSupport.NONE) {
-            query.append(" FILTER ").append(filter.toAql("x"));
+    /**
+     * @return the AQL {@code LIMIT} operation for the range {@code [low, high)}, or an empty string if {@code high}
+     * is negative
+     */
+    static String limit(long low, long high) {
+        if (high < 0) {
+            return "";
         }
-        query.append(" RETURN x");
-        return query.toString();
+        return " LIMIT " + low + ", " + (high - low);
     }
 
     private static String escape(String collection) {
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thrown when some buffered writes could not be persisted.
+ * The failure of each element is reported in {@link #getErrors()}.
+ */
+public class BatchWriteException extends RuntimeException {
+
+    private final Map<ElementId, RuntimeException> errors;
+
+    public BatchWriteException(Map<ElementId, RuntimeException> errors) {
+        super("Failed to write " + errors.size() + " element(s): " + errors.keySet());
+        this.errors = Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+        errors.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * @return the failures, by id of the element that could not be written
+     */
+    public Map<ElementId, RuntimeException> getErrors() {
+        return errors;
+    }
+}
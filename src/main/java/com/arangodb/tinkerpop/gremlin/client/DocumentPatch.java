@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.tinkerpop.gremlin.persistence.EdgeData;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexPropertyData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.*;
+
+/**
+ * Changes of a document since it was last persisted.
+ * <p/>
+ * Top-level properties are patched one by one: {@link #properties} contains the new values, meant to be sent with
+ * {@code keepNull=true}, since {@code null} is a valid property value, and {@code mergeObjects=false};
+ * {@link #removedKeys} the keys of the removed properties, which must be unset separately. Meta-properties are patched at the granularity of the
+ * vertex property they belong to: {@link #meta} contains the new meta-properties of each changed vertex property,
+ * {@link #removedMeta} the vertex properties whose meta-properties must be removed.
+ */
+final class DocumentPatch {
+
+    final ObjectNode properties;
+    final List<String> removedKeys;
+    final ObjectNode meta;
+    final List<String> removedMeta;
+
+    private DocumentPatch(ObjectNode properties, List<String> removedKeys, ObjectNode meta, List<String> removedMeta) {
+        this.properties = properties;
+        this.removedKeys = removedKeys;
+        this.meta = meta;
+        this.removedMeta = removedMeta;
+    }
+
+    static DocumentPatch of(VertexData data, ObjectMapper mapper) {
+        ObjectNode properties = mapper.createObjectNode();
+        ObjectNode meta = mapper.createObjectNode();
+        Set<String> removedMeta = new HashSet<>(data.getReplacedMetaKeys());
+        for (Map.Entry<String, VertexPropertyData> entry : data.getProperties().entrySet()) {
+            String key = entry.getKey();
+            VertexPropertyData property = entry.getValue();
+            boolean dirty = data.getDirtyKeys().contains(key);
+            if (dirty) {
+                properties.set(key, mapper.valueToTree(property.getValue()));
+            }
+            if (dirty || property.hasChanges()) {
+                if (!property.getProperties().isEmpty()) {
+                    meta.set(key, mapper.valueToTree(property.getProperties()));
+                    removedMeta.remove(key);
+                } else if (property.hasChanges()) {
+                    removedMeta.add(key);
+                }
+            }
+        }
+        return new DocumentPatch(properties, new ArrayList<>(data.getRemovedKeys()), meta, new ArrayList<>(removedMeta));
+    }
+
+    /**
+     * @param values         the new values of the properties
+     * @param metaProperties the new meta-properties of the vertex properties, by property key; the existing
+     *                       meta-properties of the properties without new ones are removed
+     */
+    static DocumentPatch of(Map<String, Object> values, Map<String, Map<String, Object>> metaProperties, ObjectMapper mapper) {
+        ObjectNode properties = mapper.createObjectNode();
+        ObjectNode meta = mapper.createObjectNode();
+        List<String> removedMeta = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            String key = entry.getKey();
+            properties.set(key, mapper.valueToTree(entry.getValue()));
+            Map<String, Object> keyMeta = metaProperties.getOrDefault(key, Collections.emptyMap());
+            if (keyMeta.isEmpty()) {
+                removedMeta.add(key);
+            } else {
+                meta.set(key, mapper.valueToTree(keyMeta));
+            }
+        }
+        return new DocumentPatch(properties, Collections.emptyList(), meta, removedMeta);
+    }
+
+    static DocumentPatch of(EdgeData data, ObjectMapper mapper) {
+        ObjectNode properties = mapper.createObjectNode();
+        for (String key : data.getDirtyKeys()) {
+            properties.set(key, mapper.valueToTree(data.get(key)));
+        }
+        return new DocumentPatch(properties, new ArrayList<>(data.getRemovedKeys()), mapper.createObjectNode(), Collections.emptyList());
+    }
+
+    boolean isEmpty() {
+        return properties.isEmpty() && removedKeys.isEmpty() && !hasMetaChanges();
+    }
+
+    boolean hasRemovedKeys() {
+        return !removedKeys.isEmpty();
+    }
+
+    boolean hasMetaChanges() {
+        return !meta.isEmpty() || !removedMeta.isEmpty();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.utils.Fields;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded read-through cache of vertex and edge documents, keyed by document id.
+ * <p/>
+ * The documents are stored as read from the server, so that each read returns new element data, which can be
+ * modified independently. Entries are evicted in least-recently-used order when the max size is exceeded, and
+ * expire after the configured ttl. Local writes invalidate the written documents; changes made by other clients or
+ * by server-side queries are only detected if revalidation is enabled, by comparing the revisions of the cached
+ * entries with the current ones, see {@link #revalidate(Map, Map)}.
+ */
+public final class ElementCache {
+
+    private static final class Entry {
+        private final JsonNode document;
+        private final long expiresAt;
+
+        private Entry(JsonNode document, long expiresAt) {
+            this.document = document;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttl;
+    private final LinkedHashMap<ElementId, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    ElementCache(ArangoDBGraphConfig config) {
+        maxSize = config.cacheMaxSize;
+        ttl = config.cacheTtl;
+    }
+
+    /**
+     * @return the cached documents of the given ids, by id; expired entries are removed and count as misses
+     */
+    synchronized Map<ElementId, JsonNode> getAll(Collection<ElementId> ids) {
+        long now = System.currentTimeMillis();
+        Map<ElementId, JsonNode> res = new HashMap<>();
+        for (ElementId id : new LinkedHashSet<>(ids)) {
+            Entry entry = entries.get(id);
+            if (entry != null && ttl > 0 && entry.expiresAt <= now) {
+                entries.remove(id);
+                evictionCount.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.incrementAndGet();
+            } else {
+                hitCount.incrementAndGet();
+                res.put(id, entry.document);
+            }
+        }
+        return res;
+    }
+
+    synchronized void put(ElementId id, JsonNode document) {
+        entries.put(id, new Entry(document, ttl > 0 ? System.currentTimeMillis() + ttl : Long.MAX_VALUE));
+        Iterator<ElementId> eldest = entries.keySet().iterator();
+        while (entries.size() > maxSize) {
+            eldest.next();
+            eldest.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param documents cached documents, as returned by {@link #getAll(Collection)}
+     * @return the revisions of the given cached documents, by id
+     */
+    static Map<ElementId, String> revisions(Map<ElementId, JsonNode> documents) {
+        Map<ElementId, String> res = new HashMap<>();
+        documents.forEach((id, doc) -> {
+            JsonNode rev = doc.get(Fields.REV);
+            res.put(id, rev != null ? rev.asText() : null);
+        });
+        return res;
+    }
+
+    /**
+     * Removes the entries whose revision differs from the current one.
+     *
+     * @param cachedRevisions  the revisions of some cached entries, as returned by {@link #revisions(Map)}
+     * @param currentRevisions the current revisions of some cached entries, missing ids denote deleted documents
+     * @return the ids of the removed entries
+     */
+    synchronized Set<ElementId> revalidate(Map<ElementId, String> cachedRevisions, Map<ElementId, String> currentRevisions) {
+        Set<ElementId> stale = new HashSet<>();
+        cachedRevisions.forEach((id, rev) -> {
+            if (!Objects.equals(rev, currentRevisions.get(id))) {
+                stale.add(id);
+                entries.remove(id);
+            }
+        });
+        return stale;
+    }
+
+    synchronized void invalidate(ElementId id) {
+        entries.remove(id);
+    }
+
+    synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups of cached documents
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of lookups of documents not cached, which were read from the server
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of entries evicted because of the max size or of the ttl
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ElementCache{" +
+                "size=" + size() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
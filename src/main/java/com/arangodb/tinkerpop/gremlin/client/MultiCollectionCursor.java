@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.ArangoCursor;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Iterator over the documents of multiple collections, reading each collection with its own cursor and returning
+ * the documents collection by collection.
+ * <p/>
+ * Cursors are opened lazily, when the previous one is exhausted, so that no collection is queried before its
+ * documents are needed. If an executor is provided, up to {@code parallelism} cursors are opened concurrently in
+ * advance, so that the first batch of the following collections is already available when the current one is
+ * exhausted.
+ */
+final class MultiCollectionCursor<V> implements Iterator<V>, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiCollectionCursor.class);
+
+    private final Iterator<String> collections;
+    private final Function<String, ArangoCursor<V>> openCursor;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final Deque<Future<ArangoCursor<V>>> opening = new ArrayDeque<>();
+    private ArangoCursor<V> current;
+
+    /**
+     * @param executor the executor opening the cursors in advance, or {@code null} to open them sequentially
+     */
+    MultiCollectionCursor(Collection<String> collections, Function<String, ArangoCursor<V>> openCursor,
+                          ExecutorService executor, int parallelism) {
+        this.collections = new ArrayList<>(collections).iterator();
+        this.openCursor = openCursor;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || !current.hasNext()) {
+            closeCurrent();
+            current = nextCursor();
+            if (current == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closeCurrent();
+        for (Future<ArangoCursor<V>> future : opening) {
+            if (!future.cancel(false)) {
+                try {
+                    closeCursor(await(future));
+                } catch (RuntimeException e) {
+                    logger.debug("Failed to open cursor", e);
+                }
+            }
+        }
+        opening.clear();
+    }
+
+    private ArangoCursor<V> nextCursor() {
+        if (executor == null) {
+            return collections.hasNext() ? openCursor.apply(collections.next()) : null;
+        }
+        while (opening.size() < parallelism && collections.hasNext()) {
+            String collection = collections.next();
+            opening.add(executor.submit(() -> openCursor.apply(collection)));
+        }
+        Future<ArangoCursor<V>> next = opening.poll();
+        return next != null ? await(next) : null;
+    }
+
+    private ArangoCursor<V> await(Future<ArangoCursor<V>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            TraversalInterruptedException ie = new TraversalInterruptedException();
+            ie.initCause(e);
+            throw ie;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void closeCurrent() {
+        if (current != null) {
+            closeCursor(current);
+            current = null;
+        }
+    }
+
+    static void closeCursor(ArangoCursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to close cursor {}", cursor.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.client;
+
+/**
+ * AQL path search executed by the path steps of
+ * {@link com.arangodb.tinkerpop.gremlin.process.traversal.dsl.ArangoDBGraphTraversalSource}.
+ */
+public enum PathType {
+    /**
+     * A single shortest path, with {@code SHORTEST_PATH}.
+     */
+    SHORTEST_PATH,
+
+    /**
+     * All the paths in order of increasing length or weight, with {@code K_SHORTEST_PATHS}.
+     */
+    K_SHORTEST_PATHS,
+
+    /**
+     * All the paths up to a max depth, with {@code K_PATHS}.
+     */
+    K_PATHS,
+
+    /**
+     * All the shortest paths, with {@code ALL_SHORTEST_PATHS}.
+     */
+    ALL_SHORTEST_PATHS
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.OptionsStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Cursor options of the internal queries.
+ * <p/>
+ * The defaults are read from the graph configuration ({@code graph.query.*}) and can be overridden per traversal
+ * through {@link OptionsStrategy}, e.g. {@code g.with("arangodb.batchSize", 5000)}. Unset options ({@code null}) are
+ * left to the server defaults.
+ */
+public final class QueryOptions {
+
+    public static final String OPTION_PREFIX = "arangodb.";
+    public static final String OPTION_BATCH_SIZE = OPTION_PREFIX + "batchSize";
+    public static final String OPTION_STREAM = OPTION_PREFIX + "stream";
+    public static final String OPTION_TTL = OPTION_PREFIX + "ttl";
+    public static final String OPTION_MEMORY_LIMIT = OPTION_PREFIX + "memoryLimit";
+    public static final String OPTION_MAX_RUNTIME = OPTION_PREFIX + "maxRuntime";
+    public static final String OPTION_FILL_BLOCK_CACHE = OPTION_PREFIX + "fillBlockCache";
+    public static final String OPTION_ALLOW_DIRTY_READ = OPTION_PREFIX + "allowDirtyRead";
+
+    private final Integer batchSize;
+    private final Boolean stream;
+    private final Integer ttl;
+    private final Long memoryLimit;
+    private final Double maxRuntime;
+    private final Boolean fillBlockCache;
+    private final Boolean allowDirtyRead;
+
+    private QueryOptions(Integer batchSize, Boolean stream, Integer ttl, Long memoryLimit, Double maxRuntime,
+                         Boolean fillBlockCache, Boolean allowDirtyRead) {
+        this.batchSize = batchSize;
+        this.stream = stream;
+        this.ttl = ttl;
+        this.memoryLimit = memoryLimit;
+        this.maxRuntime = maxRuntime;
+        this.fillBlockCache = fillBlockCache;
+        this.allowDirtyRead = allowDirtyRead;
+    }
+
+    /**
+     * @return the default options of the graph
+     */
+    public static QueryOptions of(ArangoDBGraphConfig config) {
+        return new QueryOptions(config.queryBatchSize, config.queryStream, config.queryTtl, config.queryMemoryLimit,
+                config.queryMaxRuntime, config.queryFillBlockCache, config.queryAllowDirtyRead);
+    }
+
+    /**
+     * @return the default options of the graph, overridden by the options of the {@link OptionsStrategy} of the root
+     * traversal of {@code traversal}, if any
+     */
+    public static QueryOptions of(ArangoDBGraphConfig config, Traversal.Admin<?, ?> traversal) {
+        Map<String, Object> options = TraversalHelper.getRootTraversal(traversal).getStrategies()
+                .getStrategy(OptionsStrategy.class)
+                .map(OptionsStrategy::getOptions)
+                .orElse(Collections.emptyMap());
+        return of(config).with(options);
+    }
+
+    /**
+     * @param options the options to override, the keys not starting with {@link #OPTION_PREFIX} are ignored
+     * @return a copy of these options, overridden by the given ones
+     * @throws IllegalArgumentException if an option has a value of the wrong type or an unknown key
+     */
+    public QueryOptions with(Map<String, Object> options) {
+        Integer batchSize = this.batchSize;
+        Boolean stream = this.stream;
+        Integer ttl = this.ttl;
+        Long memoryLimit = this.memoryLimit;
+        Double maxRuntime = this.maxRuntime;
+        Boolean fillBlockCache = this.fillBlockCache;
+        Boolean allowDirtyRead = this.allowDirtyRead;
+        for (Map.Entry<String, Object> option : options.entrySet()) {
+            String key = option.getKey();
+            if (!key.startsWith(OPTION_PREFIX)) {
+                continue;
+            }
+            Object value = option.getValue();
+            switch (key) {
+                case OPTION_BATCH_SIZE:
+                    batchSize = number(key, value).intValue();
+                    break;
+                case OPTION_STREAM:
+                    stream = bool(key, value);
+                    break;
+                case OPTION_TTL:
+                    ttl = number(key, value).intValue();
+                    break;
+                case OPTION_MEMORY_LIMIT:
+                    memoryLimit = number(key, value).longValue();
+                    break;
+                case OPTION_MAX_RUNTIME:
+                    maxRuntime = number(key, value).doubleValue();
+                    break;
+                case OPTION_FILL_BLOCK_CACHE:
+                    fillBlockCache = bool(key, value);
+                    break;
+                case OPTION_ALLOW_DIRTY_READ:
+                    allowDirtyRead = bool(key, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown query option: " + key);
+            }
+        }
+        return new QueryOptions(batchSize, stream, ttl, memoryLimit, maxRuntime, fillBlockCache, allowDirtyRead);
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public Boolean getStream() {
+        return stream;
+    }
+
+    public Integer getTtl() {
+        return ttl;
+    }
+
+    public Long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public Double getMaxRuntime() {
+        return maxRuntime;
+    }
+
+    public Boolean getFillBlockCache() {
+        return fillBlockCache;
+    }
+
+    public Boolean getAllowDirtyRead() {
+        return allowDirtyRead;
+    }
+
+    /**
+     * @return new driver query options, with these cursor options set
+     */
+    public AqlQueryOptions toAqlQueryOptions() {
+        return new AqlQueryOptions()
+                .batchSize(batchSize)
+                .stream(stream)
+                .ttl(ttl)
+                .memoryLimit(memoryLimit)
+                .maxRuntime(maxRuntime)
+                .fillBlockCache(fillBlockCache)
+                .allowDirtyRead(allowDirtyRead);
+    }
+
+    private static Number number(String key, Object value) {
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Query option " + key + " must be a number: " + value);
+        }
+        return (Number) value;
+    }
+
+    private static Boolean bool(String key, Object value) {
+        if (!(value instanceof Boolean)) {
+            throw new IllegalArgumentException("Query option " + key + " must be a boolean: " + value);
+        }
+        return (Boolean) value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof QueryOptions)) return false;
+        QueryOptions that = (QueryOptions) o;
+        return Objects.equals(batchSize, that.batchSize) && Objects.equals(stream, that.stream)
+                && Objects.equals(ttl, that.ttl) && Objects.equals(memoryLimit, that.memoryLimit)
+                && Objects.equals(maxRuntime, that.maxRuntime) && Objects.equals(fillBlockCache, that.fillBlockCache)
+                && Objects.equals(allowDirtyRead, that.allowDirtyRead);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, stream, ttl, memoryLimit, maxRuntime, fillBlockCache, allowDirtyRead);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", QueryOptions.class.getSimpleName() + "[", "]")
+                .add("batchSize=" + batchSize)
+                .add("stream=" + stream)
+                .add("ttl=" + ttl)
+                .add("memoryLimit=" + memoryLimit)
+                .add("maxRuntime=" + maxRuntime)
+                .add("fillBlockCache=" + fillBlockCache)
+                .add("allowDirtyRead=" + allowDirtyRead)
+                .toString();
+    }
+}
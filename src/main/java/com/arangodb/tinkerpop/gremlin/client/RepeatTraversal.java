@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.tinkerpop.gremlin.process.filter.ArangoFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.BindVars;
+import com.arangodb.tinkerpop.gremlin.process.filter.EmptyFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.FilterSupport;
+
+/**
+ * Multi-hop traversal equivalent to a {@code repeat()} step whose body is a single adjacent vertices step, e.g.
+ * {@code repeat(out("knows")).emit().times(3)}, executed as a single AQL traversal.
+ * <p/>
+ * The loop is terminated either after {@code times(n)} iterations or by the {@code until()} filter, which prunes the
+ * AQL traversal. The vertices where the loop terminates are returned, together with the vertices matching the
+ * {@code emit()} filter. As in Gremlin, the {@code until()} and {@code emit()} filters are evaluated on the start
+ * vertex only if they precede the {@code repeat()} step.
+ */
+public final class RepeatTraversal {
+
+    private final int times;
+    private final ArangoFilter until;
+    private final boolean untilFirst;
+    private final int maxDepth;
+    private final ArangoFilter emit;
+    private final boolean emitFirst;
+    private final ArangoFilter filter;
+    private final boolean simplePath;
+
+    private RepeatTraversal(int times, ArangoFilter until, boolean untilFirst, int maxDepth, ArangoFilter emit,
+                            boolean emitFirst, ArangoFilter filter, boolean simplePath) {
+        this.times = times;
+        this.until = until;
+        this.untilFirst = untilFirst;
+        this.maxDepth = maxDepth;
+        this.emit = emit;
+        this.emitFirst = emitFirst;
+        this.filter = filter;
+        this.simplePath = simplePath;
+    }
+
+    /**
+     * @param times      the number of iterations, as in {@code times(n)}
+     * @param untilFirst whether {@code times()} precedes {@code repeat()}
+     */
+    public static RepeatTraversal times(int times, boolean untilFirst) {
+        // a do-while loop runs at least once
+        int depth = untilFirst ? times : Math.max(times, 1);
+        return new RepeatTraversal(depth, null, untilFirst, depth, null, false, EmptyFilter.instance(), false);
+    }
+
+    /**
+     * @param until      the filter terminating the loop
+     * @param untilFirst whether {@code until()} precedes {@code repeat()}
+     * @param maxDepth   the max depth of the traversal
+     */
+    public static RepeatTraversal until(ArangoFilter until, boolean untilFirst, int maxDepth) {
+        return new RepeatTraversal(-1, until, untilFirst, maxDepth, null, false, EmptyFilter.instance(), false);
+    }
+
+    /**
+     * @param emit      the filter of the emitted vertices, {@link EmptyFilter} to emit all the vertices
+     * @param emitFirst whether {@code emit()} precedes {@code repeat()}
+     */
+    public RepeatTraversal withEmit(ArangoFilter emit, boolean emitFirst) {
+        return new RepeatTraversal(times, until, untilFirst, maxDepth, emit, emitFirst, filter, simplePath);
+    }
+
+    /**
+     * @param filter the filter applied to all the returned vertices
+     */
+    public RepeatTraversal withFilter(ArangoFilter filter) {
+        return new RepeatTraversal(times, until, untilFirst, maxDepth, emit, emitFirst, filter, simplePath);
+    }
+
+    /**
+     * @return a traversal not visiting the same vertex twice along a path, as in {@code simplePath()}
+     */
+    public RepeatTraversal withSimplePath() {
+        return new RepeatTraversal(times, until, untilFirst, maxDepth, emit, emitFirst, filter, true);
+    }
+
+    int minDepth() {
+        if (until == null && emit == null) {
+            return times;
+        }
+        boolean startReturned = (untilFirst && (until != null || times == 0)) || (emit != null && emitFirst);
+        return startReturned ? 0 : 1;
+    }
+
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    boolean isSimplePath() {
+        return simplePath;
+    }
+
+    /**
+     * @return whether the vertices of different depths are returned, in which case the traversal is breadth-first
+     */
+    boolean isEmitting() {
+        return emit != null || until != null;
+    }
+
+    /**
+     * @param depth the AQL expression of the depth of {@code v}
+     * @return the {@code PRUNE} condition, or {@code null}
+     */
+    String pruneCondition(String depth, BindVars bindVars) {
+        if (until == null) {
+            return null;
+        }
+        // PRUNE is also evaluated on the start vertex, even if it is not returned
+        String condition = until.toAql("v", bindVars);
+        return untilFirst ? condition : "(" + condition + ") AND " + depth + " > 0";
+    }
+
+    /**
+     * @param depth the AQL expression of the depth of {@code v}
+     * @return the {@code FILTER} condition on the returned vertices, or {@code null}
+     */
+    String filterCondition(String depth, BindVars bindVars) {
+        String res = null;
+        // with a single depth, only the vertices where the loop terminates are traversed
+        if (until != null || minDepth() < maxDepth) {
+            res = until == null ? depth + " == " + times : untilCondition(depth, bindVars);
+            if (emit != null) {
+                String emitted = depthCondition(emit.getSupport() == FilterSupport.NONE ? null : emit.toAql("v", bindVars), emitFirst, depth);
+                res = emitted == null ? null : "(" + res + ") OR (" + emitted + ")";
+            }
+        }
+        if (filter.getSupport() != FilterSupport.NONE) {
+            String f = filter.toAql("v", bindVars);
+            res = res == null ? f : "(" + res + ") AND (" + f + ")";
+        }
+        return res;
+    }
+
+    private String untilCondition(String depth, BindVars bindVars) {
+        return depthCondition(until.toAql("v", bindVars), untilFirst, depth);
+    }
+
+    /**
+     * @return the condition, restricted to depths greater than 0 unless {@code first}, or {@code null} if it holds
+     * for all the depths of the traversal
+     */
+    private String depthCondition(String condition, boolean first, String depth) {
+        boolean allDepths = first || minDepth() > 0;
+        if (condition == null) {
+            return allDepths ? null : depth + " > 0";
+        }
+        return allDepths ? condition : "(" + condition + ") AND " + depth + " > 0";
+    }
+}
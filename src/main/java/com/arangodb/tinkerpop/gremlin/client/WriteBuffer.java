@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.client;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.PersistentData;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.utils.Fields;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers inserts, updates and deletions of documents and sends them to the server in multi-document requests.
+ * <p/>
+ * Pending writes are keyed by document id, so that subsequent writes of the same document are coalesced. A batch is
+ * sent when the configured max size is reached, after the configured max delay or on {@link #flush()}. Errors of
+ * batches sent in background are collected and thrown on the next {@link #flush()} of the threads that queued the
+ * failed writes, or on {@link #close()}.
+ * <p/>
+ * Documents are written through the collection API, which does not check that the documents referenced by
+ * {@code _from} and {@code _to} exist, unlike the graph API used without write batching.
+ */
+class WriteBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBuffer.class);
+
+    private enum Op {INSERT, UPDATE, REPLACE, DELETE}
+
+    private static final class Write {
+        private final Op op;
+        private final ElementId id;
+        private final JsonNode document;
+        // threads that queued the coalesced writes, to which a failure is reported
+        private final Set<Thread> owners = new HashSet<>();
+
+        private Write(Op op, ElementId id, JsonNode document) {
+            this.op = op;
+            this.id = id;
+            this.document = document;
+            owners.add(Thread.currentThread());
+        }
+    }
+
+    private static final class InFlightBatch {
+        private final Map<ElementId, Write> writes;
+        private final Future<?> future;
+
+        private InFlightBatch(Map<ElementId, Write> writes, Future<?> future) {
+            this.writes = writes;
+            this.future = future;
+        }
+    }
+
+    private final ArangoDatabase db;
+    private final ObjectMapper mapper;
+    private final int maxSize;
+    private final long maxDelay;
+    private final Semaphore inFlightPermits;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Thread, Map<ElementId, RuntimeException>> errors = new HashMap<>();
+    private final List<InFlightBatch> inFlight = new ArrayList<>();
+    private Map<ElementId, Write> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    WriteBuffer(ArangoDatabase db, ObjectMapper mapper, ArangoDBGraphConfig config) {
+        this.db = db;
+        this.mapper = mapper;
+        maxSize = config.writeBatchMaxSize;
+        maxDelay = config.writeBatchMaxDelay;
+        inFlightPermits = new Semaphore(config.writeBatchMaxInFlight);
+        executor = Executors.newFixedThreadPool(config.writeBatchMaxInFlight, daemonThreadFactory("arangodb-write-batch"));
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("arangodb-write-batch-scheduler"));
+    }
+
+    synchronized void insert(PersistentData data) {
+        Write existing = pending.get(data.elementId());
+        if (existing != null && existing.op != Op.DELETE) {
+            throw new IllegalArgumentException("Document with id already exists");
+        }
+        // re-inserting a document deleted within the same batch is equivalent to replacing it
+        Op op = existing == null ? Op.INSERT : Op.REPLACE;
+        enqueue(new Write(op, data.elementId(), mapper.valueToTree(data)));
+    }
+
+    /**
+     * Pending updates of the same document are merged into a single patch. Removed properties and changes of
+     * meta-properties cannot be applied by the multi-document update API, which must keep {@code null} values: in that
+     * case the whole document is replaced.
+     */
+    synchronized void update(PersistentData data, DocumentPatch patch) {
+        Write existing = pending.get(data.elementId());
+        if (existing != null && existing.op == Op.INSERT) {
+            enqueue(new Write(Op.INSERT, data.elementId(), mapper.valueToTree(data)));
+        } else if (patch.hasMetaChanges() || patch.hasRemovedKeys() || (existing != null && existing.op == Op.REPLACE)) {
+            enqueue(new Write(Op.REPLACE, data.elementId(), mapper.valueToTree(data)));
+        } else {
+            ObjectNode document = existing != null ? (ObjectNode) existing.document : mapper.createObjectNode();
+            document.put(Fields.KEY, data.getKey());
+            document.setAll(patch.properties);
+            enqueue(new Write(Op.UPDATE, data.elementId(), document));
+        }
+    }
+
+    synchronized void delete(PersistentData data) {
+        Write existing = pending.get(data.elementId());
+        if (existing != null && existing.op == Op.INSERT) {
+            // never sent to the server
+            pending.remove(data.elementId());
+            return;
+        }
+        enqueue(new Write(Op.DELETE, data.elementId(), null));
+    }
+
+    /**
+     * Sends all the pending writes and waits for all the in-flight batches to complete.
+     *
+     * @throws BatchWriteException if some writes queued by the current thread failed since its last flush
+     */
+    synchronized void flush() {
+        dispatch();
+        awaitInFlight();
+        Map<ElementId, RuntimeException> failed;
+        synchronized (errors) {
+            failed = errors.remove(Thread.currentThread());
+        }
+        if (failed != null) {
+            throw new BatchWriteException(failed);
+        }
+    }
+
+    /**
+     * Sends all the pending writes and stops the background threads.
+     *
+     * @throws BatchWriteException if some writes failed and were not reported yet to the threads that queued them
+     */
+    void close() {
+        try {
+            flush();
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdown();
+        }
+        Map<ElementId, RuntimeException> failed = new LinkedHashMap<>();
+        synchronized (errors) {
+            errors.values().forEach(failed::putAll);
+            errors.clear();
+        }
+        if (!failed.isEmpty()) {
+            throw new BatchWriteException(failed);
+        }
+    }
+
+    private void enqueue(Write write) {
+        Write previous = pending.put(write.id, write);
+        if (previous != null) {
+            write.owners.addAll(previous.owners);
+        }
+        if (pending.size() >= maxSize) {
+            dispatch();
+        } else if (scheduledDispatch == null && maxDelay > 0) {
+            scheduledDispatch = scheduler.schedule(this::dispatchOnTimeout, maxDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void dispatchOnTimeout() {
+        scheduledDispatch = null;
+        dispatch();
+    }
+
+    private void dispatch() {
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<ElementId, Write> batch = pending;
+        pending = new LinkedHashMap<>();
+
+        // writes must not overtake in-flight writes of the same documents
+        inFlight.removeIf(it -> it.future.isDone());
+        if (inFlight.stream().anyMatch(it -> !Collections.disjoint(it.writes.keySet(), batch.keySet()))) {
+            awaitInFlight();
+        }
+
+        inFlightPermits.acquireUninterruptibly();
+        try {
+            Future<?> future = executor.submit(() -> {
+                try {
+                    send(batch.values());
+                } finally {
+                    inFlightPermits.release();
+                }
+            });
+            inFlight.add(new InFlightBatch(batch, future));
+        } catch (RejectedExecutionException e) {
+            inFlightPermits.release();
+            throw e;
+        }
+    }
+
+    private void awaitInFlight() {
+        for (InFlightBatch batch : inFlight) {
+            try {
+                batch.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                TraversalInterruptedException ie = new TraversalInterruptedException();
+                ie.initCause(e);
+                throw ie;
+            } catch (ExecutionException e) {
+                logger.error("Failed to send write batch", e.getCause());
+                RuntimeException error = new IllegalStateException(e.getCause());
+                batch.writes.values().forEach(it -> reportError(it, error));
+            }
+        }
+        inFlight.clear();
+    }
+
+    private void send(Collection<Write> batch) {
+        Map<String, Map<Op, List<Write>>> groups = batch.stream()
+                .collect(Collectors.groupingBy(it -> it.id.getCollection(),
+                        Collectors.groupingBy(it -> it.op, () -> new EnumMap<>(Op.class), Collectors.toList())));
+        for (Map.Entry<String, Map<Op, List<Write>>> byCollection : groups.entrySet()) {
+            ArangoCollection col = db.collection(byCollection.getKey());
+            for (Map.Entry<Op, List<Write>> byOp : byCollection.getValue().entrySet()) {
+                send(col, byOp.getKey(), byOp.getValue());
+            }
+        }
+    }
+
+    private void send(ArangoCollection col, Op op, List<Write> writes) {
+        logger.debug("Sending {} {} operations to collection {}", writes.size(), op, col.name());
+        try {
+            MultiDocumentEntity<?> res;
+            switch (op) {
+                case INSERT:
+                    res = col.insertDocuments(writes.stream().map(it -> it.document).collect(Collectors.toList()));
+                    break;
+                case UPDATE:
+                    res = col.updateDocuments(writes.stream().map(it -> it.document).collect(Collectors.toList()),
+                            new DocumentUpdateOptions().keepNull(true).mergeObjects(false));
+                    break;
+                case REPLACE:
+                    res = col.replaceDocuments(writes.stream().map(it -> it.document).collect(Collectors.toList()));
+                    break;
+                case DELETE:
+                    res = col.deleteDocuments(writes.stream().map(it -> it.id.getKey()).collect(Collectors.toList()));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported operation: " + op);
+            }
+            List<Object> results = res.getDocumentsAndErrors();
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) instanceof ErrorEntity) {
+                    ErrorEntity error = (ErrorEntity) results.get(i);
+                    if (op == Op.DELETE && error.getErrorNum() == 1202) { // document not found
+                        continue;
+                    }
+                    reportError(writes.get(i), ArangoDBGraphClient.mapException(new ArangoDBException(error)));
+                }
+            }
+        } catch (ArangoDBException e) {
+            RuntimeException mapped = ArangoDBGraphClient.mapException(e);
+            writes.forEach(it -> reportError(it, mapped));
+        }
+    }
+
+    private void reportError(Write write, RuntimeException error) {
+        logger.debug("Failed to write document {}", write.id, error);
+        synchronized (errors) {
+            for (Thread owner : write.owners) {
+                errors.computeIfAbsent(owner, it -> new LinkedHashMap<>()).put(write.id, error);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
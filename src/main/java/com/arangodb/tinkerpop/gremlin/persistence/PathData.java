@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.persistence;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Path returned by an AQL path search, made of {@code n} vertices and the {@code n - 1} edges connecting them.
+ */
+public class PathData {
+
+    private final List<VertexData> vertices;
+    private final List<EdgeData> edges;
+
+    public PathData(List<VertexData> vertices, List<EdgeData> edges) {
+        this.vertices = vertices;
+        this.edges = edges;
+    }
+
+    public List<VertexData> getVertices() {
+        return vertices;
+    }
+
+    public List<EdgeData> getEdges() {
+        return edges;
+    }
+
+    @Override
+    public String toString() {
+        return "PathData{" +
+                "vertices=" + vertices +
+                ", edges=" + edges +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PathData)) return false;
+        PathData that = (PathData) o;
+        return Objects.equals(vertices, that.vertices) && Objects.equals(edges, that.edges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vertices, edges);
+    }
+}
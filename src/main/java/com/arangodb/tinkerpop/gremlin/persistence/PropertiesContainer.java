@@ -22,6 +22,9 @@ import java.util.*;
 public abstract class PropertiesContainer<V> {
 
     private final Map<String, V> properties = new HashMap<>();
+    private final Set<String> dirtyKeys = new HashSet<>();
+    private final Set<String> removedKeys = new HashSet<>();
+    private Set<String> loadedKeys;
 
     public Map<String, V> getProperties() {
         return Collections.unmodifiableMap(properties);
@@ -45,10 +48,77 @@ public abstract class PropertiesContainer<V> {
 
     public void put(String key, V value) {
         properties.put(key, value);
+        dirtyKeys.add(key);
+        removedKeys.remove(key);
     }
 
     public void remove(String key) {
-        properties.remove(key);
+        if (properties.containsKey(key)) {
+            properties.remove(key);
+            dirtyKeys.remove(key);
+            removedKeys.add(key);
+        }
+    }
+
+    /**
+     * @return the keys of the properties added or modified since the last call to {@link #clearChanges()}
+     */
+    public Set<String> getDirtyKeys() {
+        return Collections.unmodifiableSet(dirtyKeys);
+    }
+
+    /**
+     * @return the keys of the properties removed since the last call to {@link #clearChanges()}
+     */
+    public Set<String> getRemovedKeys() {
+        return Collections.unmodifiableSet(removedKeys);
+    }
+
+    public boolean hasChanges() {
+        return !dirtyKeys.isEmpty() || !removedKeys.isEmpty();
+    }
+
+    /**
+     * Marks the current state as persisted.
+     */
+    public void clearChanges() {
+        dirtyKeys.clear();
+        removedKeys.clear();
+    }
+
+    /**
+     * Marks the container as partially loaded, i.e. containing only the properties with the given keys, if they
+     * exist.
+     */
+    public void setLoadedKeys(Set<String> keys) {
+        loadedKeys = new HashSet<>(keys);
+    }
+
+    public boolean isFullyLoaded() {
+        return loadedKeys == null;
+    }
+
+    /**
+     * @return whether the property with the given key, if it exists, is available in this container
+     */
+    public boolean isLoaded(String key) {
+        return loadedKeys == null || loadedKeys.contains(key);
+    }
+
+    /**
+     * Completes a partially loaded container with the properties of the fully loaded {@code other}, keeping the
+     * already loaded ones.
+     */
+    public void load(PropertiesContainer<V> other) {
+        if (loadedKeys == null) {
+            return;
+        }
+        other.properties.forEach((k, v) -> {
+            if (!loadedKeys.contains(k)) {
+                properties.put(k, v);
+            }
+        });
+        loadedKeys = null;
     }
 
     @Override
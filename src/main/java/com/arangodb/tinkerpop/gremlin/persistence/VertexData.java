@@ -21,13 +21,27 @@ import java.util.*;
 public class VertexData extends PropertiesContainer<VertexPropertyData> implements PersistentData {
 
     private final ElementId id;
-    private final String label;
+    private String label;
+    private boolean labelLoaded = true;
+    private final Set<String> replacedMetaKeys = new HashSet<>();
 
     public VertexData(String label, ElementId id) {
         this.id = id;
         this.label = label;
     }
 
+    /**
+     * Creates the data of a vertex known only by its id, e.g. the endpoint of an edge. No property is loaded, and the
+     * label is only known if it can be derived from the id, see {@link ElementId#getLabel()}. The remaining data is
+     * meant to be completed with {@link #load(PropertiesContainer)}.
+     */
+    public static VertexData reference(ElementId id) {
+        VertexData data = new VertexData(id.getLabel(), id);
+        data.labelLoaded = id.getLabel() != null;
+        data.setLoadedKeys(Collections.emptySet());
+        return data;
+    }
+
     @Override
     public ElementId elementId() {
         return id;
@@ -38,6 +52,61 @@ public class VertexData extends PropertiesContainer<VertexPropertyData> implemen
         return label;
     }
 
+    /**
+     * @return whether the label is available, i.e. this is not a {@link #reference(ElementId)} yet to be loaded
+     */
+    public boolean isLabelLoaded() {
+        return labelLoaded;
+    }
+
+    @Override
+    public void load(PropertiesContainer<VertexPropertyData> other) {
+        if (!labelLoaded) {
+            label = ((VertexData) other).label;
+            labelLoaded = true;
+        }
+        super.load(other);
+    }
+
+    @Override
+    public void put(String key, VertexPropertyData value) {
+        trackReplacedMeta(key);
+        super.put(key, value);
+    }
+
+    @Override
+    public void remove(String key) {
+        trackReplacedMeta(key);
+        super.remove(key);
+    }
+
+    private void trackReplacedMeta(String key) {
+        VertexPropertyData old = get(key);
+        if (old != null && !old.getProperties().isEmpty()) {
+            replacedMetaKeys.add(key);
+        }
+    }
+
+    /**
+     * @return the keys of the properties whose persisted meta-properties have been discarded, because the property
+     * has been replaced or removed since the last call to {@link #clearChanges()}
+     */
+    public Set<String> getReplacedMetaKeys() {
+        return Collections.unmodifiableSet(replacedMetaKeys);
+    }
+
+    @Override
+    public boolean hasChanges() {
+        return super.hasChanges() || values().stream().anyMatch(PropertiesContainer::hasChanges);
+    }
+
+    @Override
+    public void clearChanges() {
+        super.clearChanges();
+        replacedMetaKeys.clear();
+        values().forEach(PropertiesContainer::clearChanges);
+    }
+
     @Override
     public String toString() {
         return "VertexData{" +
@@ -60,6 +60,7 @@ public class EdgeDataDeserializer extends JsonDeserializer<EdgeData> {
             }
         }
 
+        data.clearChanges();
         return data;
     }
 }
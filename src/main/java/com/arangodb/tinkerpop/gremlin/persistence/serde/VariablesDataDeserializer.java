@@ -51,6 +51,7 @@ public class VariablesDataDeserializer extends JsonDeserializer<VariablesData> {
             }
         }
 
+        data.clearChanges();
         return data;
     }
 }
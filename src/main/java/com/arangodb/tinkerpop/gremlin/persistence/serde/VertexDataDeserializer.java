@@ -67,6 +67,7 @@ class VertexDataDeserializer extends JsonDeserializer<VertexData> {
             }
         }
 
+        data.clearChanges();
         return data;
     }
 }
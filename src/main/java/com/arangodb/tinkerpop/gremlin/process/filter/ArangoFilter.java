@@ -88,5 +88,17 @@ public interface ArangoFilter {
 
     FilterSupport getSupport();
 
-    String toAql(String variableName);
+    /**
+     * @param bindVars collects the values of the filter, referenced in the returned expression as bind parameters
+     * @return the AQL filter expression on the documents bound to {@code variableName}
+     */
+    String toAql(String variableName, BindVars bindVars);
+
+    /**
+     * @return the AQL filter expression on the documents bound to {@code variableName}, with the values inlined as
+     * literals
+     */
+    default String toAql(String variableName) {
+        return toAql(variableName, BindVars.inline());
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.filter;
+
+
+import com.arangodb.tinkerpop.gremlin.process.value.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checks the presence of an attribute, or the type of its value.
+ * <p/>
+ * Predicates of {@code has()} steps only match elements having the property, and comparisons only match values of
+ * the same type, while AQL compares values of any type, including {@code null} for missing attributes.
+ */
+public class AttributeCheckFilter implements ArangoFilter {
+
+    private final String attribute;
+    private final String function;
+
+    /**
+     * @return the filter matching documents having the attribute, even if {@code null}
+     */
+    public static AttributeCheckFilter exists(String attribute) {
+        return new AttributeCheckFilter(attribute, null);
+    }
+
+    /**
+     * @return the filter matching documents having the attribute with a value of the same type as {@code value}, or
+     * {@code null} if {@code value} is {@code null}
+     */
+    public static AttributeCheckFilter sameTypeAs(String attribute, Value value) {
+        String function = typeFunction(value);
+        return function != null ? new AttributeCheckFilter(attribute, function) : null;
+    }
+
+    static String typeFunction(Value value) {
+        Object v = value.value();
+        if (v instanceof Number) {
+            return "IS_NUMBER";
+        } else if (v instanceof String) {
+            return "IS_STRING";
+        } else if (v instanceof Boolean) {
+            return "IS_BOOL";
+        } else if (v instanceof List) {
+            return "IS_ARRAY";
+        } else if (v instanceof Map) {
+            return "IS_OBJECT";
+        }
+        return null;
+    }
+
+    private AttributeCheckFilter(String attribute, String function) {
+        Objects.requireNonNull(attribute, "attribute cannot be null");
+        if (attribute.isEmpty()) {
+            throw new IllegalArgumentException("attribute cannot be empty");
+        }
+        this.attribute = attribute;
+        this.function = function;
+    }
+
+    String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * @return the AQL type function, or {@code null} if this filter only checks the presence of the attribute
+     */
+    String getFunction() {
+        return function;
+    }
+
+    @Override
+    public FilterSupport getSupport() {
+        return FilterSupport.FULL;
+    }
+
+    @Override
+    public String toAql(String variableName, BindVars bindVars) {
+        if (function == null) {
+            return "HAS(`" + variableName + "`, " + Value.of(attribute).toAql() + ")";
+        }
+        return function + "(`" + variableName + "`.`" + attribute + "`)";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof AttributeCheckFilter)) return false;
+        AttributeCheckFilter that = (AttributeCheckFilter) o;
+        return Objects.equals(attribute, that.attribute) && Objects.equals(function, that.function);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attribute, function);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.filter;
+
+import com.arangodb.tinkerpop.gremlin.process.value.Value;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bind parameters collected while translating filters to AQL.
+ * <p/>
+ * Each value is bound to a new parameter {@code @p0}, {@code @p1}, ..., so that the query text only depends on the
+ * shape of the filters and not on their values, and can therefore be cached by the server. Values rendered with
+ * {@link #inline()} are instead written into the query text as AQL literals.
+ */
+public class BindVars {
+    private static final String PREFIX = "p";
+    private static final BindVars INLINE = new BindVars(true);
+
+    private final boolean inline;
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    public BindVars() {
+        this(false);
+    }
+
+    private BindVars(boolean inline) {
+        this.inline = inline;
+    }
+
+    /**
+     * @return bind vars rendering values as AQL literals
+     */
+    public static BindVars inline() {
+        return INLINE;
+    }
+
+    /**
+     * @return the AQL expression referring to the value, either a bind parameter or a literal
+     */
+    public String bind(Value value) {
+        if (inline) {
+            return value.toAql();
+        }
+        String name = PREFIX + values.size();
+        values.put(name, value.value());
+        return "@" + name;
+    }
+
+    public Map<String, Object> values() {
+        return Collections.unmodifiableMap(values);
+    }
+}
@@ -35,13 +35,21 @@ public class CompareLtFilter implements ArangoFilter {
         this.value = Value.of(value);
     }
 
+    String getAttribute() {
+        return attribute;
+    }
+
+    Value getValue() {
+        return value;
+    }
+
     @Override
     public FilterSupport getSupport() {
         return value.getSupport();
     }
 
     @Override
-    public String toAql(String variableName) {
-        return "`" + variableName + "`.`" + attribute + "` < " + value.toAql();
+    public String toAql(String variableName, BindVars bindVars) {
+        return "`" + variableName + "`.`" + attribute + "` < " + bindVars.bind(value);
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.filter;
+
+
+import com.arangodb.tinkerpop.gremlin.process.value.Value;
+
+import java.util.Objects;
+
+/**
+ * Range of values of an attribute, bounded on one or both sides. The bounds of a range on both sides are meant to be
+ * of the same type, so that the range only contains values of that type.
+ */
+public class CompareRangeFilter implements ArangoFilter {
+
+    private final String attribute;
+    private final Value lower;
+    private final boolean lowerInclusive;
+    private final Value upper;
+    private final boolean upperInclusive;
+
+    public static CompareRangeFilter lessThan(String attribute, Object value, boolean inclusive) {
+        return new CompareRangeFilter(attribute, null, false, Value.of(value), inclusive);
+    }
+
+    public static CompareRangeFilter greaterThan(String attribute, Object value, boolean inclusive) {
+        return new CompareRangeFilter(attribute, Value.of(value), inclusive, null, false);
+    }
+
+    CompareRangeFilter(String attribute, Value lower, boolean lowerInclusive, Value upper, boolean upperInclusive) {
+        Objects.requireNonNull(attribute, "attribute cannot be null");
+        if (attribute.isEmpty()) {
+            throw new IllegalArgumentException("attribute cannot be empty");
+        }
+        if (lower == null && upper == null) {
+            throw new IllegalArgumentException("range must be bounded");
+        }
+        this.attribute = attribute;
+        this.lower = lower;
+        this.lowerInclusive = lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = upperInclusive;
+    }
+
+    String getAttribute() {
+        return attribute;
+    }
+
+    Value getLower() {
+        return lower;
+    }
+
+    boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    Value getUpper() {
+        return upper;
+    }
+
+    boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    boolean isBounded() {
+        return lower != null && upper != null;
+    }
+
+    /**
+     * @return one of the bounds
+     */
+    Value getBound() {
+        return lower != null ? lower : upper;
+    }
+
+    @Override
+    public FilterSupport getSupport() {
+        if (lower != null && upper != null && lower.getSupport() != upper.getSupport()) {
+            return FilterSupport.PARTIAL;
+        }
+        return getBound().getSupport();
+    }
+
+    @Override
+    public String toAql(String variableName, BindVars bindVars) {
+        String attr = "`" + variableName + "`.`" + attribute + "`";
+        if (upper == null) {
+            return attr + (lowerInclusive ? " >= " : " > ") + bindVars.bind(lower);
+        } else if (lower == null) {
+            return attr + (upperInclusive ? " <= " : " < ") + bindVars.bind(upper);
+        }
+        return "(" + attr + (lowerInclusive ? " >= " : " > ") + bindVars.bind(lower) + " AND "
+                + attr + (upperInclusive ? " <= " : " < ") + bindVars.bind(upper) + ")";
+    }
+}
@@ -37,13 +37,21 @@ public class ContainsWithinFilter implements ArangoFilter {
         this.value = Value.of(values);
     }
 
+    String getAttribute() {
+        return attribute;
+    }
+
+    ArrayValue getValue() {
+        return value;
+    }
+
     @Override
     public FilterSupport getSupport() {
         return value.getSupport();
     }
 
     @Override
-    public String toAql(String variableName) {
-        return "`" + variableName + "`.`" + attribute + "` IN " + value.toAql();
+    public String toAql(String variableName, BindVars bindVars) {
+        return "`" + variableName + "`.`" + attribute + "` IN " + bindVars.bind(value);
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.filter;
+
+
+import com.arangodb.tinkerpop.gremlin.process.value.ArrayValue;
+import com.arangodb.tinkerpop.gremlin.process.value.Value;
+
+import java.util.Collection;
+import java.util.Objects;
+
+public class ContainsWithoutFilter implements ArangoFilter {
+
+    private final String attribute;
+    private final ArrayValue value;
+
+    public ContainsWithoutFilter(String attribute, Collection<?> values) {
+        Objects.requireNonNull(attribute, "attribute cannot be null");
+        if (attribute.isEmpty()) {
+            throw new IllegalArgumentException("attribute cannot be empty");
+        }
+        this.attribute = attribute;
+        this.value = Value.of(values);
+    }
+
+    String getAttribute() {
+        return attribute;
+    }
+
+    ArrayValue getValue() {
+        return value;
+    }
+
+    @Override
+    public FilterSupport getSupport() {
+        return value.getSupport();
+    }
+
+    @Override
+    public String toAql(String variableName, BindVars bindVars) {
+        return "`" + variableName + "`.`" + attribute + "` NOT IN " + bindVars.bind(value);
+    }
+}
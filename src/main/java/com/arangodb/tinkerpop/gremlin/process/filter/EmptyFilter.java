@@ -32,7 +32,7 @@ public class EmptyFilter implements ArangoFilter {
     }
 
     @Override
-    public String toAql(String variableName) {
+    public String toAql(String variableName, BindVars bindVars) {
         throw new UnsupportedOperationException();
     }
 }
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.filter;
+
+import com.arangodb.tinkerpop.gremlin.process.value.Value;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Normalization of {@link ArangoFilter} trees, producing filters that the AQL optimizer can match against indexes:
+ * <ul>
+ *     <li>{@code lt OR eq} and {@code gt OR eq} on the same value are folded into {@code <=} and {@code >=}</li>
+ *     <li>negations are pushed inward down to the comparisons, e.g. {@code NOT(a < 1)} becomes {@code a >= 1}</li>
+ *     <li>bounds on the same attribute are merged into a single range</li>
+ *     <li>alternatives of {@code ==} and {@code IN} on the same attribute are flattened into a single {@code IN},
+ *     conjunctions of {@code !=} and {@code NOT IN} into a single {@code NOT IN}</li>
+ *     <li>tautologies are dropped: attribute checks implied by other conjuncts, alternatives implied by an attribute
+ *     check and complementary ranges</li>
+ * </ul>
+ * Unlike the original filters, the simplified filters match exactly the Gremlin semantics of the predicates:
+ * comparisons only match attributes with values of the same type, and negated predicates only match documents
+ * having the attribute, see {@link AttributeCheckFilter}.
+ */
+public final class FilterSimplifier {
+
+    private FilterSimplifier() {
+    }
+
+    public static ArangoFilter simplify(ArangoFilter filter) {
+        if (filter.getSupport() == FilterSupport.NONE) {
+            return filter;
+        }
+        return rewrite(filter, false);
+    }
+
+    private static ArangoFilter rewrite(ArangoFilter filter, boolean negated) {
+        if (filter instanceof NotFilter) {
+            return rewrite(((NotFilter) filter).getFilter(), !negated);
+        } else if (filter instanceof AndFilter) {
+            List<ArangoFilter> filters = rewriteAll(((AndFilter) filter).getFilters(), negated);
+            return negated ? or(filters) : and(filters);
+        } else if (filter instanceof OrFilter) {
+            CompareRangeFilter range = foldComparison(((OrFilter) filter).getFilters());
+            if (range != null) {
+                return rewrite(range, negated);
+            }
+            List<ArangoFilter> filters = rewriteAll(((OrFilter) filter).getFilters(), negated);
+            return negated ? and(filters) : or(filters);
+        } else if (filter instanceof CompareEqFilter) {
+            CompareEqFilter eq = (CompareEqFilter) filter;
+            return negated
+                    ? and(AttributeCheckFilter.exists(eq.getAttribute()), new CompareNeqFilter(eq.getAttribute(), eq.getValue().value()))
+                    : eq;
+        } else if (filter instanceof CompareNeqFilter) {
+            CompareNeqFilter neq = (CompareNeqFilter) filter;
+            return negated
+                    ? new CompareEqFilter(neq.getAttribute(), neq.getValue().value())
+                    : and(AttributeCheckFilter.exists(neq.getAttribute()), neq);
+        } else if (filter instanceof CompareLtFilter) {
+            CompareLtFilter lt = (CompareLtFilter) filter;
+            return range(negated
+                    ? new CompareRangeFilter(lt.getAttribute(), lt.getValue(), true, null, false)
+                    : new CompareRangeFilter(lt.getAttribute(), null, false, lt.getValue(), false));
+        } else if (filter instanceof CompareGtFilter) {
+            CompareGtFilter gt = (CompareGtFilter) filter;
+            return range(negated
+                    ? new CompareRangeFilter(gt.getAttribute(), null, false, gt.getValue(), true)
+                    : new CompareRangeFilter(gt.getAttribute(), gt.getValue(), false, null, false));
+        } else if (filter instanceof CompareRangeFilter) {
+            CompareRangeFilter range = (CompareRangeFilter) filter;
+            if (!negated) {
+                return range(range);
+            }
+            List<ArangoFilter> filters = new ArrayList<>();
+            if (range.getLower() != null) {
+                filters.add(range(new CompareRangeFilter(range.getAttribute(), null, false, range.getLower(), !range.isLowerInclusive())));
+            }
+            if (range.getUpper() != null) {
+                filters.add(range(new CompareRangeFilter(range.getAttribute(), range.getUpper(), !range.isUpperInclusive(), null, false)));
+            }
+            return or(filters);
+        } else if (filter instanceof ContainsWithinFilter) {
+            ContainsWithinFilter within = (ContainsWithinFilter) filter;
+            return negated
+                    ? and(AttributeCheckFilter.exists(within.getAttribute()), new ContainsWithoutFilter(within.getAttribute(), within.getValue().value()))
+                    : within;
+        } else if (filter instanceof ContainsWithoutFilter) {
+            ContainsWithoutFilter without = (ContainsWithoutFilter) filter;
+            return negated
+                    ? new ContainsWithinFilter(without.getAttribute(), without.getValue().value())
+                    : and(AttributeCheckFilter.exists(without.getAttribute()), without);
+        } else if (filter instanceof TextContainingFilter) {
+            TextContainingFilter text = (TextContainingFilter) filter;
+            return text(AttributeCheckFilter.sameTypeAs(text.getAttribute(), text.getValue()), text, negated);
+        } else if (filter instanceof TextStartingWithFilter) {
+            TextStartingWithFilter text = (TextStartingWithFilter) filter;
+            return text(AttributeCheckFilter.sameTypeAs(text.getAttribute(), text.getValue()), text, negated);
+        } else if (filter instanceof TextRegexFilter) {
+            TextRegexFilter text = (TextRegexFilter) filter;
+            return text(AttributeCheckFilter.sameTypeAs(text.getAttribute(), text.getValue()), text, negated);
+        }
+        return negated ? NotFilter.of(filter) : filter;
+    }
+
+    private static List<ArangoFilter> rewriteAll(List<ArangoFilter> filters, boolean negated) {
+        return filters.stream()
+                .map(it -> rewrite(it, negated))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Text predicates only match strings, while AQL string functions convert their arguments to strings.
+     */
+    private static ArangoFilter text(AttributeCheckFilter isString, ArangoFilter text, boolean negated) {
+        return and(isString, negated ? NotFilter.of(text) : text);
+    }
+
+    /**
+     * One-sided ranges contain all the values on one side of the bound, in the AQL order of values of any type, so
+     * that they are restricted to values of the type of the bound.
+     */
+    private static ArangoFilter range(CompareRangeFilter range) {
+        if (range.isBounded()) {
+            return range;
+        }
+        AttributeCheckFilter check = AttributeCheckFilter.sameTypeAs(range.getAttribute(), range.getBound());
+        return check != null ? and(check, range) : range;
+    }
+
+    /**
+     * @return the range equivalent to {@code lt OR eq} or {@code gt OR eq} on the same attribute and value, as
+     * created by {@link ArangoFilter#of} for {@code lte} and {@code gte}, or {@code null}
+     */
+    private static CompareRangeFilter foldComparison(List<ArangoFilter> filters) {
+        if (filters.size() != 2) {
+            return null;
+        }
+        CompareEqFilter eq = null;
+        ArangoFilter other = null;
+        for (ArangoFilter filter : filters) {
+            if (filter instanceof CompareEqFilter && eq == null) {
+                eq = (CompareEqFilter) filter;
+            } else {
+                other = filter;
+            }
+        }
+        if (eq == null) {
+            return null;
+        }
+        if (other instanceof CompareLtFilter) {
+            CompareLtFilter lt = (CompareLtFilter) other;
+            if (lt.getAttribute().equals(eq.getAttribute()) && Objects.equals(lt.getValue().value(), eq.getValue().value())) {
+                return new CompareRangeFilter(lt.getAttribute(), null, false, lt.getValue(), true);
+            }
+        } else if (other instanceof CompareGtFilter) {
+            CompareGtFilter gt = (CompareGtFilter) other;
+            if (gt.getAttribute().equals(eq.getAttribute()) && Objects.equals(gt.getValue().value(), eq.getValue().value())) {
+                return new CompareRangeFilter(gt.getAttribute(), gt.getValue(), true, null, false);
+            }
+        }
+        return null;
+    }
+
+    private static ArangoFilter and(ArangoFilter... filters) {
+        return and(Arrays.asList(filters));
+    }
+
+    private static ArangoFilter and(List<ArangoFilter> filters) {
+        List<ArangoFilter> res = new ArrayList<>();
+        for (ArangoFilter filter : flatten(filters, AndFilter.class)) {
+            if (filter.getSupport() != FilterSupport.NONE) {
+                add(res, filter, FilterSimplifier::mergeConjuncts);
+            }
+        }
+        // conjuncts implied by other conjuncts are tautologies
+        res.removeIf(it -> it instanceof AttributeCheckFilter
+                && res.stream().anyMatch(other -> other != it && implies(other, (AttributeCheckFilter) it)));
+        return AndFilter.of(res);
+    }
+
+    private static ArangoFilter or(List<ArangoFilter> filters) {
+        List<ArangoFilter> res = new ArrayList<>();
+        for (ArangoFilter filter : flatten(filters, OrFilter.class)) {
+            if (filter.getSupport() == FilterSupport.NONE) {
+                // no filter, i.e. always true
+                return EmptyFilter.instance();
+            }
+            add(res, filter, FilterSimplifier::mergeAlternatives);
+        }
+        // alternatives implying an attribute check are absorbed by the check
+        res.removeIf(it -> res.stream().anyMatch(other -> other != it
+                && other instanceof AttributeCheckFilter && implies(it, (AttributeCheckFilter) other)));
+        return OrFilter.of(res);
+    }
+
+    private static List<ArangoFilter> flatten(List<ArangoFilter> filters, Class<?> type) {
+        List<ArangoFilter> res = new ArrayList<>();
+        for (ArangoFilter filter : filters) {
+            if (filter instanceof AndFilter && type == AndFilter.class) {
+                res.addAll(((AndFilter) filter).getFilters());
+            } else if (filter instanceof OrFilter && type == OrFilter.class) {
+                res.addAll(((OrFilter) filter).getFilters());
+            } else {
+                res.add(filter);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Adds the filter to the list, merging it into the first filter it can be merged with, if any.
+     */
+    private static void add(List<ArangoFilter> filters, ArangoFilter filter, MergeFunction merge) {
+        for (int i = 0; i < filters.size(); i++) {
+            ArangoFilter merged = merge.apply(filters.get(i), filter);
+            if (merged != null) {
+                filters.remove(i);
+                add(filters, merged, merge);
+                return;
+            }
+        }
+        if (!filters.contains(filter)) {
+            filters.add(filter);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MergeFunction {
+        /**
+         * @return the merged filter, or {@code null} if the filters cannot be merged
+         */
+        ArangoFilter apply(ArangoFilter a, ArangoFilter b);
+    }
+
+    private static ArangoFilter mergeConjuncts(ArangoFilter a, ArangoFilter b) {
+        if (a instanceof CompareRangeFilter && b instanceof CompareRangeFilter) {
+            return intersect((CompareRangeFilter) a, (CompareRangeFilter) b);
+        }
+        String attribute = excludedAttribute(a);
+        if (attribute != null && attribute.equals(excludedAttribute(b))) {
+            Set<Object> values = new LinkedHashSet<>(excludedValues(a));
+            values.addAll(excludedValues(b));
+            return new ContainsWithoutFilter(attribute, values);
+        }
+        return null;
+    }
+
+    private static ArangoFilter mergeAlternatives(ArangoFilter a, ArangoFilter b) {
+        String attribute = includedAttribute(a);
+        if (attribute != null && attribute.equals(includedAttribute(b))) {
+            Set<Object> values = new LinkedHashSet<>(includedValues(a));
+            values.addAll(includedValues(b));
+            return new ContainsWithinFilter(attribute, values);
+        }
+        return complement(guardedRange(a), guardedRange(b));
+    }
+
+    private static String includedAttribute(ArangoFilter filter) {
+        if (filter instanceof CompareEqFilter) {
+            return ((CompareEqFilter) filter).getAttribute();
+        } else if (filter instanceof ContainsWithinFilter) {
+            return ((ContainsWithinFilter) filter).getAttribute();
+        }
+        return null;
+    }
+
+    private static List<?> includedValues(ArangoFilter filter) {
+        if (filter instanceof CompareEqFilter) {
+            return Collections.singletonList(((CompareEqFilter) filter).getValue().value());
+        }
+        return ((ContainsWithinFilter) filter).getValue().value();
+    }
+
+    private static String excludedAttribute(ArangoFilter filter) {
+        if (filter instanceof CompareNeqFilter) {
+            return ((CompareNeqFilter) filter).getAttribute();
+        } else if (filter instanceof ContainsWithoutFilter) {
+            return ((ContainsWithoutFilter) filter).getAttribute();
+        }
+        return null;
+    }
+
+    private static List<?> excludedValues(ArangoFilter filter) {
+        if (filter instanceof CompareNeqFilter) {
+            return Collections.singletonList(((CompareNeqFilter) filter).getValue().value());
+        }
+        return ((ContainsWithoutFilter) filter).getValue().value();
+    }
+
+    /**
+     * @return the intersection of the ranges, or {@code null} if the ranges are on different attributes, have bounds
+     * of different types or have bounds on the same side that cannot be compared
+     */
+    private static CompareRangeFilter intersect(CompareRangeFilter a, CompareRangeFilter b) {
+        if (!a.getAttribute().equals(b.getAttribute()) || !sameType(a.getBound(), b.getBound())) {
+            return null;
+        }
+        if (!comparable(a.getLower(), b.getLower()) || !comparable(a.getUpper(), b.getUpper())) {
+            return null;
+        }
+        boolean lowerA = tighter(a.getLower(), a.isLowerInclusive(), b.getLower(), b.isLowerInclusive(), 1);
+        boolean upperA = tighter(a.getUpper(), a.isUpperInclusive(), b.getUpper(), b.isUpperInclusive(), -1);
+        return new CompareRangeFilter(a.getAttribute(),
+                lowerA ? a.getLower() : b.getLower(), lowerA ? a.isLowerInclusive() : b.isLowerInclusive(),
+                upperA ? a.getUpper() : b.getUpper(), upperA ? a.isUpperInclusive() : b.isUpperInclusive());
+    }
+
+    /**
+     * @param direction {@code 1} for lower bounds, {@code -1} for upper bounds
+     * @return whether the bound {@code x} is at least as tight as the bound {@code y}
+     */
+    private static boolean tighter(Value x, boolean xInclusive, Value y, boolean yInclusive, int direction) {
+        if (x == null || y == null) {
+            return y == null;
+        }
+        int cmp = compare(x, y) * direction;
+        return cmp > 0 || (cmp == 0 && (!xInclusive || yInclusive));
+    }
+
+    /**
+     * @return whether the union of the ranges covers all the values of their type, i.e. the type check of the
+     * ranges, or {@code null}
+     */
+    private static AttributeCheckFilter complement(CompareRangeFilter a, CompareRangeFilter b) {
+        if (a == null || b == null || a.isBounded() || b.isBounded() || !a.getAttribute().equals(b.getAttribute())
+                || !sameType(a.getBound(), b.getBound())) {
+            return null;
+        }
+        CompareRangeFilter lower = a.getLower() != null ? a : b;
+        CompareRangeFilter upper = a.getUpper() != null ? a : b;
+        if (lower == upper || !comparable(lower.getLower(), upper.getUpper())) {
+            return null;
+        }
+        int cmp = compare(lower.getLower(), upper.getUpper());
+        if (cmp < 0 || (cmp == 0 && (lower.isLowerInclusive() || upper.isUpperInclusive()))) {
+            return AttributeCheckFilter.sameTypeAs(lower.getAttribute(), lower.getLower());
+        }
+        return null;
+    }
+
+    /**
+     * @return the range of a filter created by {@link #range(CompareRangeFilter)}, or {@code null}
+     */
+    private static CompareRangeFilter guardedRange(ArangoFilter filter) {
+        if (filter instanceof CompareRangeFilter) {
+            return (CompareRangeFilter) filter;
+        } else if (filter instanceof AndFilter) {
+            List<ArangoFilter> filters = ((AndFilter) filter).getFilters();
+            if (filters.size() == 2 && filters.get(0) instanceof AttributeCheckFilter && filters.get(1) instanceof CompareRangeFilter) {
+                return (CompareRangeFilter) filters.get(1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether all the documents matched by {@code filter} are matched by {@code check}
+     */
+    private static boolean implies(ArangoFilter filter, AttributeCheckFilter check) {
+        String attribute = check.getAttribute();
+        String function = check.getFunction();
+        if (filter instanceof AttributeCheckFilter) {
+            AttributeCheckFilter other = (AttributeCheckFilter) filter;
+            return other.getAttribute().equals(attribute) && (function == null || function.equals(other.getFunction()));
+        } else if (filter instanceof CompareEqFilter) {
+            CompareEqFilter eq = (CompareEqFilter) filter;
+            return eq.getAttribute().equals(attribute) && hasType(eq.getValue().value(), function);
+        } else if (filter instanceof ContainsWithinFilter) {
+            ContainsWithinFilter within = (ContainsWithinFilter) filter;
+            List<?> values = within.getValue().value();
+            return within.getAttribute().equals(attribute) && !values.isEmpty()
+                    && values.stream().allMatch(it -> hasType(it, function));
+        } else if (filter instanceof CompareRangeFilter) {
+            CompareRangeFilter range = (CompareRangeFilter) filter;
+            return range.getAttribute().equals(attribute) && range.isBounded()
+                    && hasType(range.getLower().value(), function) && hasType(range.getUpper().value(), function);
+        } else if (filter instanceof AndFilter) {
+            return ((AndFilter) filter).getFilters().stream().anyMatch(it -> implies(it, check));
+        }
+        return false;
+    }
+
+    /**
+     * @param function the AQL type function, or {@code null} for any type
+     */
+    private static boolean hasType(Object value, String function) {
+        if (value == null) {
+            return false;
+        }
+        return function == null || function.equals(AttributeCheckFilter.typeFunction(Value.of(value)));
+    }
+
+    private static boolean sameType(Value a, Value b) {
+        String type = AttributeCheckFilter.typeFunction(a);
+        return type != null && type.equals(AttributeCheckFilter.typeFunction(b));
+    }
+
+    /**
+     * Numbers are compared as in AQL, other values can only be compared for equality.
+     */
+    private static boolean comparable(Value a, Value b) {
+        return a == null || b == null
+                || (a.value() instanceof Number && b.value() instanceof Number)
+                || Objects.equals(a.value(), b.value());
+    }
+
+    private static int compare(Value a, Value b) {
+        if (a.value() instanceof Number && b.value() instanceof Number) {
+            return Double.compare(((Number) a.value()).doubleValue(), ((Number) b.value()).doubleValue());
+        }
+        return 0;
+    }
+}
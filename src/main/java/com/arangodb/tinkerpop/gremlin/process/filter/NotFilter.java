@@ -30,6 +30,10 @@ public class NotFilter implements ArangoFilter {
         this.filter = filter;
     }
 
+    ArangoFilter getFilter() {
+        return filter;
+    }
+
     /**
      * +---------++---------+
      * |   v     || NOT(v)  |
@@ -45,7 +49,7 @@ public class NotFilter implements ArangoFilter {
     }
 
     @Override
-    public String toAql(String variableName) {
-        return "NOT(" + filter.toAql(variableName) + ")";
+    public String toAql(String variableName, BindVars bindVars) {
+        return "NOT(" + filter.toAql(variableName, bindVars) + ")";
     }
 }
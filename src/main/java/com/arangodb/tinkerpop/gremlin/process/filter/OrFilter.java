@@ -40,6 +40,10 @@ public class OrFilter implements ArangoFilter {
         this.filters = filters;
     }
 
+    List<ArangoFilter> getFilters() {
+        return filters;
+    }
+
     /**
      * +---------++---------+---------+------+
      * |   OR    ||  FULL   | PARTIAL | NONE |
@@ -59,9 +63,9 @@ public class OrFilter implements ArangoFilter {
     }
 
     @Override
-    public String toAql(String variableName) {
+    public String toAql(String variableName, BindVars bindVars) {
         return filters.stream()
-                .map(it -> it.toAql(variableName))
+                .map(it -> it.toAql(variableName, bindVars))
                 .collect(Collectors.joining(" OR ", "(", ")"));
     }
 }
@@ -36,13 +36,21 @@ public class TextContainingFilter implements ArangoFilter {
         this.value = Value.of(value);
     }
 
+    String getAttribute() {
+        return attribute;
+    }
+
+    StringValue getValue() {
+        return value;
+    }
+
     @Override
     public FilterSupport getSupport() {
         return FilterSupport.FULL;
     }
 
     @Override
-    public String toAql(String variableName) {
-        return "CONTAINS(`" + variableName + "`.`" + attribute + "`, " + value.toAql() + ")";
+    public String toAql(String variableName, BindVars bindVars) {
+        return "CONTAINS(`" + variableName + "`.`" + attribute + "`, " + bindVars.bind(value) + ")";
     }
 }
@@ -36,13 +36,21 @@ public class TextRegexFilter implements ArangoFilter {
         this.value = Value.of(value);
     }
 
+    String getAttribute() {
+        return attribute;
+    }
+
+    StringValue getValue() {
+        return value;
+    }
+
     @Override
     public FilterSupport getSupport() {
         return FilterSupport.FULL;
     }
 
     @Override
-    public String toAql(String variableName) {
-        return "REGEX_TEST(`" + variableName + "`.`" + attribute + "`, " + value.toAql() + ")";
+    public String toAql(String variableName, BindVars bindVars) {
+        return "REGEX_TEST(`" + variableName + "`.`" + attribute + "`, " + bindVars.bind(value) + ")";
     }
 }
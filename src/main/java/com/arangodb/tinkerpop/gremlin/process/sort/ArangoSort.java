@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.sort;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Sort criteria of an AQL {@code SORT} operation, i.e. a list of document attributes, each one with its own
+ * direction.
+ * <p/>
+ * Like {@code order().by(key)}, which filters out the elements without the property {@code key}, the documents
+ * without the sort attributes are meant to be filtered out, see {@link #filterToAql(String)}.
+ * <p/>
+ * Strings are sorted according to the ICU collation of the database, unlike Gremlin, which compares their chars,
+ * therefore {@code order()} is only pushed down if enabled by {@code graph.enableSortPushdown}.
+ */
+public final class ArangoSort {
+
+    private static final ArangoSort EMPTY = new ArangoSort(Collections.emptyList());
+
+    private final List<Field> fields;
+
+    public static ArangoSort empty() {
+        return EMPTY;
+    }
+
+    private ArangoSort(List<Field> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * @return a new {@link ArangoSort} with an additional sort attribute, with lower priority than the existing ones
+     */
+    public ArangoSort then(String attribute, boolean descending) {
+        List<Field> res = new ArrayList<>(fields);
+        res.add(new Field(attribute, descending));
+        return new ArangoSort(Collections.unmodifiableList(res));
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * @return the AQL expression requiring the presence of all the sort attributes
+     */
+    public String filterToAql(String variableName) {
+        return fields.stream()
+                .map(it -> "HAS(`" + variableName + "`, " + quote(it.attribute) + ")")
+                .collect(Collectors.joining(" AND "));
+    }
+
+    /**
+     * @return the AQL sort expressions, to be used after {@code SORT}
+     */
+    public String toAql(String variableName) {
+        return fields.stream()
+                .map(it -> "`" + variableName + "`.`" + it.attribute + "` " + (it.descending ? "DESC" : "ASC"))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return fields.stream()
+                .map(it -> it.attribute + ":" + (it.descending ? "desc" : "asc"))
+                .collect(Collectors.joining(",", "sort(", ")"));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ArangoSort)) return false;
+        return fields.equals(((ArangoSort) o).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    private static final class Field {
+        private final String attribute;
+        private final boolean descending;
+
+        private Field(String attribute, boolean descending) {
+            Objects.requireNonNull(attribute, "attribute cannot be null");
+            if (attribute.isEmpty()) {
+                throw new IllegalArgumentException("attribute cannot be empty");
+            }
+            this.attribute = attribute;
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Field)) return false;
+            Field that = (Field) o;
+            return descending == that.descending && attribute.equals(that.attribute);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(attribute, descending);
+        }
+    }
+}
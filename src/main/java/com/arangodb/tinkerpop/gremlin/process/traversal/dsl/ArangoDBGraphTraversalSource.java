@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.traversal.dsl;
+
+import com.arangodb.tinkerpop.gremlin.client.PathType;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoPathStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * {@link GraphTraversalSource} with additional start steps searching paths between two vertices with AQL, e.g.:
+ * <pre>{@code
+ * ArangoDBGraphTraversalSource g = graph.traversal(ArangoDBGraphTraversalSource.class);
+ * Path path = g.shortestPath("a", "b", new ArangoPathOptions().direction(Direction.OUT).weightAttribute("distance")).next();
+ * List<Path> paths = g.kShortestPaths("a", "b").limit(3).toList();
+ * }</pre>
+ * The steps emit {@link Path} objects made of the vertices and the edges of the paths, alternated. The start and the
+ * target vertices can be given either as vertices or as vertex ids. In SIMPLE graphs, edge labels are evaluated by
+ * filtering the found paths, therefore they are not supported by {@code allShortestPaths()}.
+ */
+public class ArangoDBGraphTraversalSource extends GraphTraversalSource {
+
+    public static final class Symbols {
+        private Symbols() {
+        }
+
+        public static final String shortestPath = "shortestPath";
+        public static final String kShortestPaths = "kShortestPaths";
+        public static final String kPaths = "kPaths";
+        public static final String allShortestPaths = "allShortestPaths";
+    }
+
+    public ArangoDBGraphTraversalSource(final Graph graph, final TraversalStrategies traversalStrategies) {
+        super(graph, traversalStrategies);
+    }
+
+    public ArangoDBGraphTraversalSource(final Graph graph) {
+        super(graph);
+    }
+
+    /**
+     * Spawns a traversal emitting the shortest path between the given vertices, if any, with AQL
+     * {@code SHORTEST_PATH}.
+     */
+    public GraphTraversal<Path, Path> shortestPath(final Object from, final Object to) {
+        return shortestPath(from, to, new ArangoPathOptions());
+    }
+
+    /**
+     * Spawns a traversal emitting the shortest path between the given vertices, if any, with AQL
+     * {@code SHORTEST_PATH}. In SIMPLE graphs, edge labels require a max depth of the options.
+     */
+    public GraphTraversal<Path, Path> shortestPath(final Object from, final Object to, final ArangoPathOptions options) {
+        checkEdgeLabels(Symbols.shortestPath, options);
+        return path(Symbols.shortestPath, PathType.SHORTEST_PATH, from, to, options);
+    }
+
+    /**
+     * Spawns a traversal emitting the paths between the given vertices in order of increasing length, or weight, with
+     * AQL {@code K_SHORTEST_PATHS}. The paths are computed lazily, the traversal should be limited with
+     * {@code limit()}, which is executed by the server.
+     */
+    public GraphTraversal<Path, Path> kShortestPaths(final Object from, final Object to) {
+        return kShortestPaths(from, to, new ArangoPathOptions());
+    }
+
+    /**
+     * Spawns a traversal emitting the paths between the given vertices in order of increasing length, or weight, with
+     * AQL {@code K_SHORTEST_PATHS}. The paths are computed lazily, the traversal should be limited with
+     * {@code limit()}, which is executed by the server. In SIMPLE graphs, edge labels require a max depth of the
+     * options.
+     */
+    public GraphTraversal<Path, Path> kShortestPaths(final Object from, final Object to, final ArangoPathOptions options) {
+        checkEdgeLabels(Symbols.kShortestPaths, options);
+        return path(Symbols.kShortestPaths, PathType.K_SHORTEST_PATHS, from, to, options);
+    }
+
+    /**
+     * Spawns a traversal emitting all the paths between the given vertices up to the max depth of the options, with
+     * AQL {@code K_PATHS}.
+     */
+    public GraphTraversal<Path, Path> kPaths(final Object from, final Object to, final ArangoPathOptions options) {
+        if (options.getMaxDepth() == null) {
+            throw new IllegalArgumentException("kPaths() requires a max depth");
+        }
+        if (options.getWeightAttribute() != null) {
+            throw new IllegalArgumentException("kPaths() does not support weights");
+        }
+        return path(Symbols.kPaths, PathType.K_PATHS, from, to, options);
+    }
+
+    /**
+     * Spawns a traversal emitting all the shortest paths between the given vertices, with AQL
+     * {@code ALL_SHORTEST_PATHS}.
+     */
+    public GraphTraversal<Path, Path> allShortestPaths(final Object from, final Object to) {
+        return allShortestPaths(from, to, new ArangoPathOptions());
+    }
+
+    /**
+     * Spawns a traversal emitting all the shortest paths between the given vertices, with AQL
+     * {@code ALL_SHORTEST_PATHS}.
+     */
+    public GraphTraversal<Path, Path> allShortestPaths(final Object from, final Object to, final ArangoPathOptions options) {
+        if (options.getWeightAttribute() != null) {
+            throw new IllegalArgumentException("allShortestPaths() does not support weights");
+        }
+        if (options.getEdgeLabels().length > 0 && isSimpleGraph()) {
+            throw new IllegalArgumentException("allShortestPaths() does not support edge labels in SIMPLE graphs");
+        }
+        return path(Symbols.allShortestPaths, PathType.ALL_SHORTEST_PATHS, from, to, options);
+    }
+
+    /**
+     * In SIMPLE graphs, paths filtered by edge labels are searched with a traversal bounded by the max depth.
+     */
+    private void checkEdgeLabels(final String symbol, final ArangoPathOptions options) {
+        if (options.getEdgeLabels().length > 0 && options.getMaxDepth() == null && isSimpleGraph()) {
+            throw new IllegalArgumentException(symbol + "() requires a max depth with edge labels in SIMPLE graphs");
+        }
+    }
+
+    private boolean isSimpleGraph() {
+        return getGraph() instanceof ArangoDBGraph
+                && ((ArangoDBGraph) getGraph()).type() == ArangoDBGraphConfig.GraphType.SIMPLE;
+    }
+
+    private GraphTraversal<Path, Path> path(final String symbol, final PathType type, final Object from, final Object to, final ArangoPathOptions options) {
+        final ArangoDBGraphTraversalSource clone = this.clone();
+        clone.getBytecode().addStep(symbol, from, to, options);
+        final GraphTraversal.Admin<Path, Path> traversal = new DefaultGraphTraversal<>(clone);
+        return traversal.addStep(new ArangoPathStep(traversal, type, from, to, options));
+    }
+
+    @Override
+    public ArangoDBGraphTraversalSource clone() {
+        return (ArangoDBGraphTraversalSource) super.clone();
+    }
+
+    @Override
+    public ArangoDBGraphTraversalSource with(final String key) {
+        return (ArangoDBGraphTraversalSource) super.with(key);
+    }
+
+    @Override
+    public ArangoDBGraphTraversalSource with(final String key, final Object value) {
+        return (ArangoDBGraphTraversalSource) super.with(key, value);
+    }
+
+    @Override
+    public ArangoDBGraphTraversalSource withStrategies(final TraversalStrategy... traversalStrategies) {
+        return (ArangoDBGraphTraversalSource) super.withStrategies(traversalStrategies);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "varargs"})
+    public ArangoDBGraphTraversalSource withoutStrategies(final Class<? extends TraversalStrategy>... traversalStrategyClasses) {
+        return (ArangoDBGraphTraversalSource) super.withoutStrategies(traversalStrategyClasses);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.traversal.dsl;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Options of the path steps of {@link ArangoDBGraphTraversalSource}.
+ */
+public class ArangoPathOptions {
+
+    private Direction direction = Direction.BOTH;
+    private String[] edgeLabels = new String[0];
+    private String weightAttribute;
+    private double defaultWeight = 1;
+    private Integer maxDepth;
+
+    /**
+     * Sets the direction of the edges to follow.
+     * Default: {@link Direction#BOTH}
+     *
+     * @param direction the direction
+     * @return this
+     */
+    public ArangoPathOptions direction(Direction direction) {
+        this.direction = Objects.requireNonNull(direction);
+        return this;
+    }
+
+    /**
+     * Sets the labels of the edges to follow, i.e. the edge collections in COMPLEX graphs.
+     * Default: all the edges
+     *
+     * @param edgeLabels the edge labels
+     * @return this
+     */
+    public ArangoPathOptions edgeLabels(String... edgeLabels) {
+        this.edgeLabels = edgeLabels.clone();
+        return this;
+    }
+
+    /**
+     * Sets the edge attribute holding the weight of the edges. Not supported by {@code kPaths()} and
+     * {@code allShortestPaths()}.
+     * Default: none, all the edges have weight {@code 1}
+     *
+     * @param weightAttribute the weight attribute
+     * @return this
+     */
+    public ArangoPathOptions weightAttribute(String weightAttribute) {
+        this.weightAttribute = weightAttribute;
+        return this;
+    }
+
+    /**
+     * Sets the weight of the edges without weight attribute.
+     * Default: {@code 1}
+     *
+     * @param defaultWeight the default weight
+     * @return this
+     */
+    public ArangoPathOptions defaultWeight(double defaultWeight) {
+        this.defaultWeight = defaultWeight;
+        return this;
+    }
+
+    /**
+     * Sets the max number of edges of the returned paths. Required by {@code kPaths()}, and by
+     * {@code shortestPath()} and {@code kShortestPaths()} with edge labels in SIMPLE graphs.
+     * Default: none
+     *
+     * @param maxDepth the max depth
+     * @return this
+     */
+    public ArangoPathOptions maxDepth(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Max depth must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public String[] getEdgeLabels() {
+        return edgeLabels.clone();
+    }
+
+    public String getWeightAttribute() {
+        return weightAttribute;
+    }
+
+    public double getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public Integer getMaxDepth() {
+        return maxDepth;
+    }
+
+    @Override
+    public String toString() {
+        return "ArangoPathOptions{" +
+                "direction=" + direction +
+                ", edgeLabels=" + Arrays.toString(edgeLabels) +
+                ", weightAttribute='" + weightAttribute + '\'' +
+                ", defaultWeight=" + defaultWeight +
+                ", maxDepth=" + maxDepth +
+                '}';
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.client.Aggregation;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.*;
+
+/**
+ * Start step replacing {@code ArangoStep} followed by reducing steps: the matching elements are aggregated on the
+ * server side, see {@link ArangoStep#aggregate(Aggregation)}, and the result is the same returned by the replaced
+ * steps, i.e.:
+ * <ul>
+ *     <li>a {@link Map} for grouping steps, like {@code groupCount().by("status")} or
+ *     {@code group().by("country").by(count())}</li>
+ *     <li>a single value for numeric reducers of property values, like {@code values("amount").sum()}, or no value
+ *     if there is no property value</li>
+ * </ul>
+ * If the aggregation cannot be computed on the server side, because some of the aggregated values are not numeric,
+ * the matching elements are fetched and reduced by the replaced steps.
+ */
+public final class ArangoAggregateStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+
+    private ArangoStep<?, ?> graphStep;
+    private final Aggregation aggregation;
+    private List<Step<?, ?>> reducingSteps;
+    private boolean done = false;
+
+    /**
+     * @param reducingSteps the replaced steps following the graph step, the last one being a {@link ReducingBarrierStep}
+     */
+    public ArangoAggregateStep(final ArangoStep<?, ?> graphStep, final Aggregation aggregation, final List<Step<?, ?>> reducingSteps) {
+        super(graphStep.getTraversal());
+        if (reducingSteps.isEmpty() || !(reducingSteps.get(reducingSteps.size() - 1) instanceof ReducingBarrierStep)) {
+            throw new IllegalArgumentException("Missing reducing step: " + reducingSteps);
+        }
+        this.graphStep = graphStep;
+        this.aggregation = aggregation;
+        this.reducingSteps = detach(reducingSteps);
+    }
+
+    public ArangoStep<?, ?> getGraphStep() {
+        return graphStep;
+    }
+
+    public Aggregation getAggregation() {
+        return aggregation;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A, B> List<Traversal.Admin<A, B>> getLocalChildren() {
+        List<Traversal.Admin<A, B>> children = new ArrayList<>();
+        for (Step<?, ?> step : reducingSteps) {
+            if (step instanceof TraversalParent) {
+                children.addAll(((TraversalParent) step).getLocalChildren());
+            }
+        }
+        return children;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Traverser.Admin<E> processNextStart() {
+        if (done) {
+            throw FastNoSuchElementException.instance();
+        }
+        done = true;
+        Map<Object, Object> aggregated = graphStep.aggregate(aggregation);
+        if (aggregated == null) {
+            return getTraversal().getTraverserGenerator().generate(reduce(), (Step) this, 1L);
+        }
+        if (aggregation.isGrouped()) {
+            return getTraversal().getTraverserGenerator().generate((E) aggregated, (Step) this, 1L);
+        }
+        if (aggregated.isEmpty()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return getTraversal().getTraverserGenerator().generate((E) aggregated.get(null), (Step) this, 1L);
+    }
+
+    /**
+     * @return the result of the replaced steps, evaluated on the client side
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private E reduce() {
+        graphStep.reset();
+        Step<?, ?> previous = graphStep;
+        for (Step<?, ?> step : reducingSteps) {
+            step.reset();
+            step.addStarts((Iterator) previous);
+            previous = step;
+        }
+        if (!previous.hasNext()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return (E) previous.next().get();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        done = false;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        graphStep.setTraversal(traversal);
+        reducingSteps.forEach(it -> it.setTraversal(traversal));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ArangoAggregateStep<S, E> clone() {
+        ArangoAggregateStep<S, E> clone = (ArangoAggregateStep<S, E>) super.clone();
+        clone.graphStep = (ArangoStep<?, ?>) graphStep.clone();
+        List<Step<?, ?>> reducingStepsClone = new ArrayList<>();
+        reducingSteps.forEach(it -> reducingStepsClone.add(it.clone()));
+        clone.reducingSteps = detach(reducingStepsClone);
+        clone.done = false;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, graphStep, aggregation);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ graphStep.hashCode() ^ aggregation.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        ArangoAggregateStep<?, ?> that = (ArangoAggregateStep<?, ?>) o;
+        return Objects.equals(graphStep, that.graphStep) && Objects.equals(aggregation, that.aggregation);
+    }
+
+    /**
+     * @return the given steps, unlinked from the steps of the traversal, so that they only process the added starts
+     */
+    private static List<Step<?, ?>> detach(List<Step<?, ?>> steps) {
+        for (Step<?, ?> step : steps) {
+            step.setPreviousStep(EmptyStep.instance());
+            step.setNextStep(EmptyStep.instance());
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Objects;
+
+/**
+ * Start step replacing {@code ArangoStep} followed by {@code count()}: the matching elements are counted on the server
+ * side, see {@link ArangoStep#count()}.
+ */
+public final class ArangoCountStep<S> extends AbstractStep<S, Long> {
+
+    private ArangoStep<?, ?> graphStep;
+    private boolean done = false;
+
+    public ArangoCountStep(final ArangoStep<?, ?> graphStep) {
+        super(graphStep.getTraversal());
+        this.graphStep = graphStep;
+    }
+
+    public ArangoStep<?, ?> getGraphStep() {
+        return graphStep;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Traverser.Admin<Long> processNextStart() {
+        if (done) {
+            throw FastNoSuchElementException.instance();
+        }
+        done = true;
+        return getTraversal().getTraverserGenerator().generate(graphStep.count(), (Step) this, 1L);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        done = false;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        graphStep.setTraversal(traversal);
+    }
+
+    @Override
+    public ArangoCountStep<S> clone() {
+        ArangoCountStep<S> clone = (ArangoCountStep<S>) super.clone();
+        clone.graphStep = (ArangoStep<?, ?>) graphStep.clone();
+        clone.done = false;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, graphStep);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ graphStep.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        ArangoCountStep<?> that = (ArangoCountStep<?>) o;
+        return Objects.equals(graphStep, that.graphStep);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Start step replacing {@code ArangoStep} followed by {@code values(key).dedup()}: the distinct values of the property
+ * are computed on the server side, see {@link ArangoStep#distinctValues(String)}, and each of them is emitted once.
+ */
+public final class ArangoDistinctValuesStep<S, E> extends AbstractStep<S, E> {
+
+    private ArangoStep<?, ?> graphStep;
+    private final String key;
+    private Iterator<Object> values = null;
+
+    public ArangoDistinctValuesStep(final ArangoStep<?, ?> graphStep, final String key) {
+        super(graphStep.getTraversal());
+        this.graphStep = graphStep;
+        this.key = Objects.requireNonNull(key);
+    }
+
+    public ArangoStep<?, ?> getGraphStep() {
+        return graphStep;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Traverser.Admin<E> processNextStart() {
+        if (values == null) {
+            values = graphStep.distinctValues(key);
+        }
+        if (!values.hasNext()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return getTraversal().getTraverserGenerator().generate((E) values.next(), (Step) this, 1L);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        values = null;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        graphStep.setTraversal(traversal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ArangoDistinctValuesStep<S, E> clone() {
+        ArangoDistinctValuesStep<S, E> clone = (ArangoDistinctValuesStep<S, E>) super.clone();
+        clone.graphStep = (ArangoStep<?, ?>) graphStep.clone();
+        clone.values = null;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, graphStep, Collections.singletonList(key));
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ graphStep.hashCode() ^ key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        ArangoDistinctValuesStep<?, ?> that = (ArangoDistinctValuesStep<?, ?>) o;
+        return Objects.equals(graphStep, that.graphStep) && key.equals(that.key);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.*;
+
+/**
+ * {@link EdgeVertexStep} that hydrates the endpoints of the incoming edges in chunks.
+ * <p/>
+ * The endpoints of edges are lazy references, whose documents are only read on first access to their label or
+ * properties. If the following steps access them, this step reads the documents of all the endpoints of a chunk of
+ * traversers with a single query, instead of reading them one by one.
+ */
+public final class ArangoEdgeVertexStep extends EdgeVertexStep {
+
+    private Iterator<Traverser.Admin<Vertex>> results = Collections.emptyIterator();
+
+    public ArangoEdgeVertexStep(final EdgeVertexStep originalEdgeVertexStep) {
+        super(originalEdgeVertexStep.getTraversal(), originalEdgeVertexStep.getDirection());
+        originalEdgeVertexStep.getLabels().forEach(this::addLabel);
+    }
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        while (!results.hasNext()) {
+            results = expand(nextChunk());
+        }
+        return results.next();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        results = Collections.emptyIterator();
+    }
+
+    @Override
+    public ArangoEdgeVertexStep clone() {
+        ArangoEdgeVertexStep clone = (ArangoEdgeVertexStep) super.clone();
+        clone.results = Collections.emptyIterator();
+        return clone;
+    }
+
+    private List<Traverser.Admin<Edge>> nextChunk() {
+        int batchSize = graph().config.vertexStepBatchSize;
+        List<Traverser.Admin<Edge>> chunk = new ArrayList<>();
+        while (chunk.size() < batchSize && starts.hasNext()) {
+            chunk.add(starts.next());
+        }
+        if (chunk.isEmpty()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return chunk;
+    }
+
+    private Iterator<Traverser.Admin<Vertex>> expand(List<Traverser.Admin<Edge>> chunk) {
+        List<Traverser.Admin<Vertex>> res = new ArrayList<>();
+        List<VertexData> references = new ArrayList<>();
+        for (Traverser.Admin<Edge> traverser : chunk) {
+            flatMap(traverser).forEachRemaining(it -> {
+                if (it instanceof ArangoDBVertex) {
+                    references.add(((ArangoDBVertex) it).data());
+                }
+                // split() keeps the bulk of the parent traverser
+                res.add(traverser.split(it, this));
+            });
+        }
+        graph().getClient().loadVertices(references);
+        return res.iterator();
+    }
+
+    @SuppressWarnings("resource")
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) getTraversal().getGraph().orElseThrow(IllegalStateException::new);
+    }
+}
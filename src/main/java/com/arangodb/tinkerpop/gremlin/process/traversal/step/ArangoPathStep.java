@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.client.PathType;
+import com.arangodb.tinkerpop.gremlin.client.QueryOptions;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.PathData;
+import com.arangodb.tinkerpop.gremlin.process.traversal.dsl.ArangoPathOptions;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Start step emitting the paths between two vertices, found with an AQL path search.
+ * <p/>
+ * A following {@code range()} or {@code limit()} can be folded into this step, in which case it is executed by the
+ * server.
+ */
+public final class ArangoPathStep extends AbstractStep<Path, Path> {
+
+    private final PathType type;
+    private final Object from;
+    private final Object to;
+    private final ArangoPathOptions options;
+    private long low = 0;
+    private long high = -1;
+    private Iterator<PathData> results;
+
+    public ArangoPathStep(final Traversal.Admin traversal, final PathType type, final Object from, final Object to, final ArangoPathOptions options) {
+        super(traversal);
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.options = options;
+    }
+
+    public PathType getType() {
+        return type;
+    }
+
+    public boolean hasRange() {
+        return low != 0 || high != -1;
+    }
+
+    /**
+     * @param high the end of the range, exclusive, or {@code -1} for no upper bound
+     */
+    public void setRange(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    @Override
+    protected Traverser.Admin<Path> processNextStart() {
+        if (results == null) {
+            results = search();
+        }
+        if (!results.hasNext()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return getTraversal().getTraverserGenerator().generate(toPath(results.next()), this, 1L);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        results = null;
+    }
+
+    @Override
+    public String toString() {
+        List<Object> args = new ArrayList<>();
+        args.add(type);
+        args.add(from);
+        args.add(to);
+        args.add(options);
+        if (hasRange()) args.add("range(" + low + ", " + high + ")");
+        return StringFactory.stepString(this, args.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ type.hashCode() ^ from.hashCode() ^ to.hashCode() ^ Long.hashCode(low) ^ Long.hashCode(high);
+    }
+
+    @Override
+    public ArangoPathStep clone() {
+        ArangoPathStep clone = (ArangoPathStep) super.clone();
+        clone.results = null;
+        return clone;
+    }
+
+    private Iterator<PathData> search() {
+        ArangoDBGraph graph = graph();
+        ElementId fromId = graph.getIdFactory().parseVertexId(from);
+        ElementId toId = graph.getIdFactory().parseVertexId(to);
+        if (high >= 0 && high <= low) {
+            return Collections.emptyIterator();
+        }
+        return graph.getClient().getPaths(type, fromId, toId, options.getDirection(), options.getEdgeLabels(),
+                options.getWeightAttribute(), options.getDefaultWeight(), options.getMaxDepth(), low, high,
+                QueryOptions.of(graph.config, getTraversal())).iterator();
+    }
+
+    private Path toPath(PathData data) {
+        ArangoDBGraph graph = graph();
+        Path path = MutablePath.make();
+        for (int i = 0; i < data.getVertices().size(); i++) {
+            if (i > 0) {
+                path.extend(new ArangoDBEdge(graph, data.getEdges().get(i - 1)), Collections.emptySet());
+            }
+            path.extend(new ArangoDBVertex(graph, data.getVertices().get(i)), Collections.emptySet());
+        }
+        return path;
+    }
+
+    @SuppressWarnings("resource")
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) getTraversal().getGraph().orElseThrow(IllegalStateException::new);
+    }
+}
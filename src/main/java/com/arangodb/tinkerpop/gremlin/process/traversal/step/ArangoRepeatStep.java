@@ -0,0 +1,317 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.client.QueryOptions;
+import com.arangodb.tinkerpop.gremlin.client.RepeatTraversal;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.persistence.VertexData;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Step replacing a {@code repeat()} of a single adjacent vertices step, e.g. {@code repeat(out("knows")).times(2)},
+ * or a sequence of identical adjacent vertices steps, e.g. {@code out("knows").out("knows")}. The incoming traversers
+ * are expanded in chunks, all the vertices reached from the traversers of a chunk are fetched with a single AQL
+ * traversal.
+ * <p/>
+ * The has containers of {@code until()} and {@code emit()}, and those folded into this step, are translated into AQL
+ * filters and must be fully supported. If the traversal requires paths, the vertices visited by the AQL traversal are
+ * added to the paths of the emitted traversers.
+ * <p/>
+ * In count-only mode, which is only valid if the step is followed by {@code count()}, the reached vertices are
+ * counted on the server side and each incoming traverser is emitted once, with its bulk multiplied by the count.
+ */
+public final class ArangoRepeatStep extends AbstractStep<Vertex, Vertex> implements HasContainerHolder<Vertex, Vertex> {
+
+    private final Direction direction;
+    private final String[] edgeLabels;
+    private int times = -1;
+    private List<HasContainer> until = Collections.emptyList();
+    private boolean untilFirst = false;
+    private List<HasContainer> emit = null;
+    private boolean emitFirst = false;
+    private boolean simplePath = false;
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private boolean countOnly = false;
+    private Boolean paths = null;
+    private Iterator<Traverser.Admin<Vertex>> results = Collections.emptyIterator();
+
+    public ArangoRepeatStep(final Traversal.Admin traversal, final Direction direction, final String... edgeLabels) {
+        super(traversal);
+        this.direction = direction;
+        this.edgeLabels = edgeLabels;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public String[] getEdgeLabels() {
+        return edgeLabels;
+    }
+
+    /**
+     * Terminates the loop after the given number of iterations, as in {@code times(n)}.
+     *
+     * @param untilFirst whether {@code times()} precedes {@code repeat()}
+     */
+    public void setTimes(int times, boolean untilFirst) {
+        this.times = times;
+        this.until = Collections.emptyList();
+        this.untilFirst = untilFirst;
+    }
+
+    /**
+     * Terminates the loop at the vertices matching the given has containers, as in {@code until(has(...))}.
+     *
+     * @param untilFirst whether {@code until()} precedes {@code repeat()}
+     */
+    public void setUntil(List<HasContainer> until, boolean untilFirst) {
+        until.forEach(it -> HasContainers.normalizePredicate(it.getPredicate()));
+        this.times = -1;
+        this.until = new ArrayList<>(until);
+        this.untilFirst = untilFirst;
+    }
+
+    /**
+     * Emits the vertices matching the given has containers, as in {@code emit(has(...))}, or all the vertices if
+     * empty, as in {@code emit()}.
+     *
+     * @param emitFirst whether {@code emit()} precedes {@code repeat()}
+     */
+    public void setEmit(List<HasContainer> emit, boolean emitFirst) {
+        emit.forEach(it -> HasContainers.normalizePredicate(it.getPredicate()));
+        this.emit = new ArrayList<>(emit);
+        this.emitFirst = emitFirst;
+    }
+
+    /**
+     * Does not visit the same vertex twice along a path, as in {@code repeat(out().simplePath())}. Only valid if the
+     * paths of the incoming traversers consist of the start vertex only.
+     */
+    public void setSimplePath(boolean simplePath) {
+        this.simplePath = simplePath;
+    }
+
+    @Override
+    public List<HasContainer> getHasContainers() {
+        return Collections.unmodifiableList(hasContainers);
+    }
+
+    @Override
+    public void addHasContainer(final HasContainer hasContainer) {
+        HasContainers.normalizePredicate(hasContainer.getPredicate());
+        hasContainers.add(hasContainer);
+    }
+
+    /**
+     * @return whether all the has containers are evaluated on the server side
+     */
+    public boolean isFilterFullySupported(ArangoDBGraphConfig config) {
+        return HasContainers.isFilterFullySupported(until, config, false)
+                && (emit == null || HasContainers.isFilterFullySupported(emit, config, false))
+                && HasContainers.isFilterFullySupported(hasContainers, config, false);
+    }
+
+    /**
+     * @return whether the has containers, including the ones of {@code until()} and {@code emit()}, only use
+     * predicates evaluated on the server side exactly as by Gremlin, since the results are not filtered again on the
+     * client side
+     */
+    public boolean hasOnlyPortablePredicates() {
+        return HasContainers.hasOnlyPortablePredicates(until)
+                && (emit == null || HasContainers.hasOnlyPortablePredicates(emit))
+                && HasContainers.hasOnlyPortablePredicates(hasContainers);
+    }
+
+    public void setCountOnly(boolean countOnly) {
+        this.countOnly = countOnly;
+    }
+
+    public boolean isCountOnly() {
+        return countOnly;
+    }
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        while (!results.hasNext()) {
+            List<Traverser.Admin<Vertex>> chunk = nextChunk();
+            results = countOnly ? count(chunk) : expand(chunk);
+        }
+        return results.next();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        results = Collections.emptyIterator();
+    }
+
+    @Override
+    public String toString() {
+        List<Object> args = new ArrayList<>();
+        args.add(direction);
+        args.add(Arrays.asList(edgeLabels));
+        args.add(times >= 0 ? "times(" + times + ")" : "until(" + until + ")");
+        if (emit != null) args.add("emit(" + emit + ")");
+        if (simplePath) args.add("simplePath");
+        if (!hasContainers.isEmpty()) args.add(hasContainers);
+        if (countOnly) args.add("count");
+        return StringFactory.stepString(this, args.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ direction.hashCode() ^ Arrays.hashCode(edgeLabels) ^ Integer.hashCode(times)
+                ^ until.hashCode() ^ Objects.hashCode(emit) ^ Boolean.hashCode(simplePath)
+                ^ hasContainers.hashCode() ^ Boolean.hashCode(countOnly);
+    }
+
+    @Override
+    public ArangoRepeatStep clone() {
+        ArangoRepeatStep clone = (ArangoRepeatStep) super.clone();
+        clone.hasContainers = new ArrayList<>(hasContainers);
+        clone.paths = null;
+        clone.results = Collections.emptyIterator();
+        return clone;
+    }
+
+    private List<Traverser.Admin<Vertex>> nextChunk() {
+        int batchSize = graph().config.vertexStepBatchSize;
+        List<Traverser.Admin<Vertex>> chunk = new ArrayList<>();
+        while (chunk.size() < batchSize && starts.hasNext()) {
+            chunk.add(starts.next());
+        }
+        if (chunk.isEmpty()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return chunk;
+    }
+
+    private Set<ElementId> startIds(List<Traverser.Admin<Vertex>> chunk) {
+        return chunk.stream()
+                .map(it -> elementId(it.get()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private ElementId elementId(Vertex vertex) {
+        if (vertex instanceof ArangoDBVertex) {
+            return ((ArangoDBVertex) vertex).elementId();
+        }
+        return ((ArangoDBVertex) graph().vertices(vertex.id()).next()).elementId();
+    }
+
+    private Iterator<Traverser.Admin<Vertex>> expand(List<Traverser.Admin<Vertex>> chunk) {
+        ArangoDBGraph graph = graph();
+        Set<String> edgeCollections = getQueryEdgeCollections(graph);
+        boolean paths = requiresPaths();
+        Map<ElementId, List<List<VertexData>>> reached = edgeCollections.isEmpty() ? Collections.emptyMap() :
+                graph.getClient().getVerticesRepeat(startIds(chunk), edgeCollections, direction, edgeLabels, repeat(graph), paths, QueryOptions.of(graph.config, getTraversal()));
+
+        List<Traverser.Admin<Vertex>> res = new ArrayList<>();
+        for (Traverser.Admin<Vertex> traverser : chunk) {
+            for (List<VertexData> vertices : reached.getOrDefault(elementId(traverser.get()), Collections.emptyList())) {
+                if (vertices.isEmpty()) {
+                    // the start vertex itself
+                    res.add(traverser.split());
+                    continue;
+                }
+                // split() keeps the bulk of the parent traverser, the labels of this step are added to the last
+                // vertex only, when the traverser is emitted
+                Traverser.Admin<Vertex> split = traverser;
+                for (VertexData vertex : vertices) {
+                    split = split.split(new ArangoDBVertex(graph, vertex), EmptyStep.instance());
+                }
+                res.add(split);
+            }
+        }
+        return res.iterator();
+    }
+
+    private Iterator<Traverser.Admin<Vertex>> count(List<Traverser.Admin<Vertex>> chunk) {
+        ArangoDBGraph graph = graph();
+        Set<String> edgeCollections = getQueryEdgeCollections(graph);
+        Map<ElementId, Long> counts = edgeCollections.isEmpty() ? Collections.emptyMap() :
+                graph.getClient().countVerticesRepeat(startIds(chunk), edgeCollections, direction, edgeLabels, repeat(graph), QueryOptions.of(graph.config, getTraversal()));
+
+        List<Traverser.Admin<Vertex>> res = new ArrayList<>();
+        for (Traverser.Admin<Vertex> traverser : chunk) {
+            long count = counts.getOrDefault(elementId(traverser.get()), 0L);
+            if (count > 0) {
+                // the emitted object is irrelevant for the following count()
+                Traverser.Admin<Vertex> split = traverser.split();
+                split.setBulk(traverser.bulk() * count);
+                res.add(split);
+            }
+        }
+        return res.iterator();
+    }
+
+    private RepeatTraversal repeat(ArangoDBGraph graph) {
+        RepeatTraversal repeat = times >= 0
+                ? RepeatTraversal.times(times, untilFirst)
+                : RepeatTraversal.until(HasContainers.toArangoFilter(until, graph.config), untilFirst, graph.config.repeatMaxDepth);
+        if (emit != null) {
+            repeat = repeat.withEmit(HasContainers.toArangoFilter(emit, graph.config), emitFirst);
+        }
+        if (simplePath) {
+            repeat = repeat.withSimplePath();
+        }
+        return repeat.withFilter(HasContainers.toArangoFilter(hasContainers, graph.config));
+    }
+
+    /**
+     * @return whether the whole paths of the emitted traversers are needed, otherwise only the last vertex is added
+     */
+    private boolean requiresPaths() {
+        if (paths == null) {
+            paths = TraversalHelper.getRootTraversal(getTraversal()).getTraverserRequirements().contains(TraverserRequirement.PATH);
+        }
+        return paths;
+    }
+
+    private Set<String> getQueryEdgeCollections(ArangoDBGraph graph) {
+        if (graph.type() == ArangoDBGraphConfig.GraphType.SIMPLE || edgeLabels.length == 0) {
+            return graph.edgeCollections();
+        }
+        return Arrays.stream(edgeLabels)
+                .filter(graph.edgeCollections()::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("resource")
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) getTraversal().getGraph().orElseThrow(IllegalStateException::new);
+    }
+}
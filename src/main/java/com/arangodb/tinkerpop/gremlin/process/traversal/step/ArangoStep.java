@@ -16,18 +16,20 @@
 
 package com.arangodb.tinkerpop.gremlin.process.traversal.step;
 
-import com.arangodb.tinkerpop.gremlin.process.filter.*;
+import com.arangodb.tinkerpop.gremlin.client.Aggregation;
+import com.arangodb.tinkerpop.gremlin.client.ArangoDBGraphClient;
+import com.arangodb.tinkerpop.gremlin.client.QueryOptions;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.filter.ArangoFilter;
+import com.arangodb.tinkerpop.gremlin.process.sort.ArangoSort;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
-import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
-import com.arangodb.tinkerpop.gremlin.utils.Fields;
 import org.apache.tinkerpop.gremlin.process.traversal.*;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
-import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -41,6 +43,12 @@ import java.util.stream.Stream;
 public final class ArangoStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder<S, E> {
 
     private final List<HasContainer> hasContainers = new ArrayList<>();
+    private ArangoSort sort = ArangoSort.empty();
+    private Set<String> projection;
+    private long low = 0;
+    private long high = -1;
+    // the stream of the returned elements, holding the server side cursors until closed
+    private Stream<E> stream;
 
     public ArangoStep(final GraphStep<S, E> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
@@ -50,12 +58,16 @@ public final class ArangoStep<S, E extends Element> extends GraphStep<S, E> impl
 
     @Override
     public String toString() {
-        if (hasContainers.isEmpty())
+        if (hasContainers.isEmpty() && !hasSort() && !hasProjection() && !hasRange())
             return super.toString();
-        else
-            return 0 == ids.length ?
-                    StringFactory.stepString(this, returnClass.getSimpleName().toLowerCase(), hasContainers) :
-                    StringFactory.stepString(this, returnClass.getSimpleName().toLowerCase(), Arrays.toString(ids), hasContainers);
+        List<Object> args = new ArrayList<>();
+        args.add(returnClass.getSimpleName().toLowerCase());
+        if (0 != ids.length) args.add(Arrays.toString(ids));
+        if (!hasContainers.isEmpty()) args.add(hasContainers);
+        if (hasSort()) args.add(sort);
+        if (hasProjection()) args.add("keep" + projection);
+        if (hasRange()) args.add("range(" + low + "," + high + ")");
+        return StringFactory.stepString(this, args.toArray());
     }
 
     @Override
@@ -65,13 +77,74 @@ public final class ArangoStep<S, E extends Element> extends GraphStep<S, E> impl
 
     @Override
     public void addHasContainer(final HasContainer hasContainer) {
-        normalizePredicate(hasContainer.getPredicate());
+        HasContainers.normalizePredicate(hasContainer.getPredicate());
         hasContainers.add(hasContainer);
     }
 
+    /**
+     * Sorts the returned elements on the server side. Like {@code order().by(key)}, elements without the sort
+     * attributes are filtered out.
+     */
+    public void setSort(ArangoSort sort) {
+        this.sort = Objects.requireNonNull(sort);
+    }
+
+    public boolean hasSort() {
+        return !sort.isEmpty();
+    }
+
+    /**
+     * Loads only the properties with the given keys, together with the properties referenced by the has containers.
+     * The returned elements are partially loaded and fetch the remaining properties on demand.
+     */
+    public void setProjection(Set<String> keys) {
+        projection = new LinkedHashSet<>(keys);
+    }
+
+    public boolean hasProjection() {
+        return projection != null;
+    }
+
+    /**
+     * Limits the returned elements to the range {@code [low, high)}. The range is applied on the server side, so it
+     * should only be set if all the has containers can be fully translated into AQL filters, see
+     * {@link #isFilterFullySupported(ArangoDBGraphConfig)}, evaluated exactly as by Gremlin, see
+     * {@link #hasOnlyPortablePredicates()}.
+     *
+     * @param low  the number of elements to skip
+     * @param high the index of the first element not to return
+     */
+    public void setRange(long low, long high) {
+        if (low < 0 || high < low) {
+            throw new IllegalArgumentException("Invalid range: [" + low + ", " + high + ")");
+        }
+        this.low = low;
+        this.high = high;
+    }
+
+    public boolean hasRange() {
+        return high >= 0;
+    }
+
+    /**
+     * @return whether all the has containers are evaluated on the server side
+     */
+    public boolean isFilterFullySupported(ArangoDBGraphConfig config) {
+        return HasContainers.isFilterFullySupported(hasContainers, config, true);
+    }
+
+    /**
+     * @return whether the has containers only use predicates evaluated on the server side exactly as by Gremlin,
+     * regardless of the string collation of the database, as required by the strategies whose results are not
+     * filtered again on the client side
+     */
+    public boolean hasOnlyPortablePredicates() {
+        return HasContainers.hasOnlyPortablePredicates(hasContainers);
+    }
+
     @Override
     public int hashCode() {
-        return super.hashCode() ^ hasContainers.hashCode();
+        return super.hashCode() ^ hasContainers.hashCode() ^ sort.hashCode() ^ Objects.hashCode(projection) ^ Long.hashCode(low) ^ Long.hashCode(high);
     }
 
     @Override
@@ -79,38 +152,20 @@ public final class ArangoStep<S, E extends Element> extends GraphStep<S, E> impl
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         ArangoStep<?, ?> that = (ArangoStep<?, ?>) o;
-        return Objects.equals(hasContainers, that.hasContainers);
-    }
-
-    private void normalizePredicate(P<?> p) {
-        if (p instanceof ConnectiveP) {
-            ((ConnectiveP<?>) p).getPredicates().forEach(this::normalizePredicate);
-        } else {
-            p.setValue(ArangoDBUtil.normalizeValue(p.getValue()));
-        }
+        return Objects.equals(hasContainers, that.hasContainers) && sort.equals(that.sort)
+                && Objects.equals(projection, that.projection) && low == that.low && high == that.high;
     }
 
-    private String mapKey(String key, ArangoDBGraphConfig config) {
-        if (key.equals(T.label.getAccessor())) {
-            return config.labelField;
-        } else if (key.equals(T.id.getAccessor())) {
-            if (config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
-                return Fields.KEY;
-            } else {
-                return Fields.ID;
-            }
-        } else {
-            return key;
+    private Set<String> getLoadedKeys() {
+        if (projection == null) {
+            return null;
         }
-    }
-
-    private ArangoFilter getArangoFilter(ArangoDBGraphConfig config) {
-        return AndFilter.of(hasContainers.stream()
-                .filter(it -> it.getKey() != null)
-                .filter(it -> config.graphType != ArangoDBGraphConfig.GraphType.COMPLEX || !T.label.getAccessor().equals(it.getKey()))
-                .map(it -> ArangoFilter.of(mapKey(it.getKey(), config), it.getPredicate()))
-                .filter(it -> it.getSupport() != FilterSupport.NONE)
-                .collect(Collectors.toList()));
+        Set<String> keys = new HashSet<>(projection);
+        hasContainers.stream()
+                .map(HasContainer::getKey)
+                .filter(Objects::nonNull)
+                .forEach(keys::add);
+        return keys;
     }
 
     private Set<String> getCollections(ArangoDBGraphConfig config) {
@@ -138,29 +193,193 @@ public final class ArangoStep<S, E extends Element> extends GraphStep<S, E> impl
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Counts the matching elements on the server side, without fetching them. This should only be used if all the
+     * has containers can be fully translated into AQL filters, see {@link #isFilterFullySupported(ArangoDBGraphConfig)}.
+     *
+     * @return the number of elements that this step would return
+     */
+    public long count() {
+        if (null == ids)
+            return 0;
+
+        Query q = query();
+        return q.vertices
+                ? q.client().countGraphVertices(q.ids, q.filter, q.collections, low, high, q.options)
+                : q.client().countGraphEdges(q.ids, q.filter, q.collections, low, high, q.options);
+    }
+
+    /**
+     * Removes the matching elements on the server side, without fetching them. The incident edges of the removed
+     * vertices are removed as well. This should only be used if all the has containers can be fully translated into
+     * AQL filters, see {@link #isFilterFullySupported(ArangoDBGraphConfig)}, and if no range is set.
+     */
+    public void drop() {
+        if (null == ids)
+            return;
+
+        Query q = query();
+        if (q.vertices) {
+            q.client().removeGraphVertices(q.ids, q.filter, q.collections, q.options);
+        } else {
+            q.client().removeGraphEdges(q.ids, q.filter, q.collections, q.options);
+        }
+    }
+
+    /**
+     * Sets the properties of the matching elements on the server side, without fetching them. This should only be
+     * used if all the has containers can be fully translated into AQL filters, see
+     * {@link #isFilterFullySupported(ArangoDBGraphConfig)}, and if no range is set.
+     *
+     * @param values         the new property values, by key
+     * @param metaProperties the meta-properties of the new vertex properties, by property key
+     * @param returnNew      whether to return the updated elements
+     * @return the updated elements, if {@code returnNew}, otherwise an empty iterator
+     */
+    @SuppressWarnings("unchecked")
+    public Iterator<E> update(Map<String, Object> values, Map<String, Map<String, Object>> metaProperties, boolean returnNew) {
+        if (null == ids)
+            return Collections.emptyIterator();
+
+        Query q = query();
+        if (q.vertices) {
+            return q.client().updateGraphVertices(q.ids, q.filter, q.collections, values, metaProperties, returnNew, q.options)
+                    .stream()
+                    .map(it -> (E) new ArangoDBVertex(q.graph, it))
+                    .iterator();
+        } else {
+            return q.client().updateGraphEdges(q.ids, q.filter, q.collections, values, returnNew, q.options)
+                    .stream()
+                    .map(it -> (E) new ArangoDBEdge(q.graph, it))
+                    .iterator();
+        }
+    }
+
+    /**
+     * Aggregates the matching elements on the server side, without fetching them. This should only be used if all
+     * the has containers can be fully translated into AQL filters, see
+     * {@link #isFilterFullySupported(ArangoDBGraphConfig)}, and if no range is set.
+     *
+     * @return the aggregated values, by group key, or {@code null} if they must be computed on the client side, see
+     * {@code ArangoDBGraphClient#aggregateGraphVertices()}
+     */
+    public Map<Object, Object> aggregate(Aggregation aggregation) {
+        if (null == ids)
+            return new HashMap<>();
+
+        Query q = query();
+        return q.vertices
+                ? q.client().aggregateGraphVertices(q.ids, q.filter, q.collections, aggregation, q.options)
+                : q.client().aggregateGraphEdges(q.ids, q.filter, q.collections, aggregation, q.options);
+    }
+
+    /**
+     * Reads the distinct values of a property of the matching elements on the server side, without fetching them.
+     * This should only be used if all the has containers can be fully translated into AQL filters, see
+     * {@link #isFilterFullySupported(ArangoDBGraphConfig)}, and if no range is set.
+     *
+     * @return the values that {@code values(key).dedup()} would return after this step
+     */
+    public Iterator<Object> distinctValues(String key) {
+        if (null == ids)
+            return Collections.emptyIterator();
+
+        Query q = query();
+        return q.client().getGraphDistinctValues(q.ids, q.filter, q.collections, key, q.options).iterator();
+    }
+
     @SuppressWarnings("unchecked")
     private Iterator<E> elements() {
         if (null == ids)
             return Collections.emptyIterator();
 
+        Query q = query();
+        Stream<E> res = q.vertices
+                ? q.client().getGraphVertices(q.ids, q.filter, sort, getLoadedKeys(), q.collections, low, high, q.options)
+                        .map(it -> (E) new ArangoDBVertex(q.graph, it))
+                : q.client().getGraphEdges(q.ids, q.filter, sort, getLoadedKeys(), q.collections, low, high, q.options)
+                        .map(it -> (E) new ArangoDBEdge(q.graph, it));
+
+        closeStream();
+        stream = res.filter(it -> HasContainer.testAll(it, hasContainers));
+        return stream.iterator();
+    }
+
+    private void closeStream() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        closeStream();
+    }
+
+    /**
+     * Closes the cursors of the elements not consumed yet, e.g. if the traversal is not iterated to the end.
+     */
+    @Override
+    public void close() {
+        super.close();
+        closeStream();
+    }
+
+    /**
+     * @return the arguments of the client requests for the matching elements
+     */
+    private Query query() {
         @SuppressWarnings("resource")
         ArangoDBGraph graph = (ArangoDBGraph) getTraversal().getGraph().orElseThrow(IllegalStateException::new);
         ArangoDBGraphConfig config = graph.config;
         convertElementsToIds();
-        Stream<E> res;
+        boolean vertices;
+        List<ElementId> elementIds;
         if (Vertex.class.isAssignableFrom(returnClass)) {
-            res = graph.getClient().getGraphVertices(graph.getIdFactory().parseVertexIds(ids), getArangoFilter(config), getCollections(config))
-                    .map(it -> (E) new ArangoDBVertex(graph, it));
+            vertices = true;
+            elementIds = graph.getIdFactory().parseVertexIds(ids);
         } else if (Edge.class.isAssignableFrom(returnClass)) {
-            res = graph.getClient().getGraphEdges(graph.getIdFactory().parseEdgeIds(ids), getArangoFilter(config), getCollections(config))
-                    .map(it -> (E) new ArangoDBEdge(graph, it));
+            vertices = false;
+            elementIds = graph.getIdFactory().parseEdgeIds(ids);
         } else {
             throw new UnsupportedOperationException("Unsupported return type: " + returnClass);
         }
+        return new Query(graph, vertices, elementIds, HasContainers.toArangoFilter(hasContainers, config),
+                getCollections(config), QueryOptions.of(config, getTraversal()));
+    }
+
+    private static final class Query {
+        private final ArangoDBGraph graph;
+        // whether the step returns vertices, otherwise edges
+        private final boolean vertices;
+        private final List<ElementId> ids;
+        private final ArangoFilter filter;
+        private final Set<String> collections;
+        private final QueryOptions options;
 
-        return res
-                .filter(it -> HasContainer.testAll(it, hasContainers))
-                .iterator();
+        private Query(ArangoDBGraph graph, boolean vertices, List<ElementId> ids, ArangoFilter filter, Set<String> collections, QueryOptions options) {
+            this.graph = graph;
+            this.vertices = vertices;
+            this.ids = ids;
+            this.filter = filter;
+            this.collections = collections;
+            this.options = options;
+        }
+
+        private ArangoDBGraphClient client() {
+            return graph.getClient();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ArangoStep<S, E> clone() {
+        ArangoStep<S, E> clone = (ArangoStep<S, E>) super.clone();
+        clone.stream = null;
+        clone.setIteratorSupplier(clone::elements);
+        return clone;
     }
 
 }
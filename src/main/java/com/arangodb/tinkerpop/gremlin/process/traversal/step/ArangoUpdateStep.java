@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Start step replacing {@code ArangoStep} followed by {@code property(key, value)} steps with constant values: the
+ * properties of the matching elements are set on the server side, see
+ * {@link ArangoStep#update(Map, Map, boolean)}. The updated elements are only emitted if {@code returnElements} is
+ * set, i.e. if they are read by the following steps.
+ */
+public final class ArangoUpdateStep<S, E> extends AbstractStep<S, E> {
+
+    private ArangoStep<?, ?> graphStep;
+    private final Map<String, Object> values;
+    private final Map<String, Map<String, Object>> metaProperties;
+    private final boolean returnElements;
+    private Iterator<?> elements = null;
+
+    public ArangoUpdateStep(final ArangoStep<?, ?> graphStep, final Map<String, Object> values,
+                            final Map<String, Map<String, Object>> metaProperties, final boolean returnElements) {
+        super(graphStep.getTraversal());
+        this.graphStep = graphStep;
+        this.values = Objects.requireNonNull(values);
+        this.metaProperties = Objects.requireNonNull(metaProperties);
+        this.returnElements = returnElements;
+    }
+
+    public ArangoStep<?, ?> getGraphStep() {
+        return graphStep;
+    }
+
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    public Map<String, Map<String, Object>> getMetaProperties() {
+        return metaProperties;
+    }
+
+    public boolean isReturnElements() {
+        return returnElements;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Traverser.Admin<E> processNextStart() {
+        if (elements == null) {
+            elements = graphStep.update(values, metaProperties, returnElements);
+        }
+        if (!elements.hasNext()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return getTraversal().getTraverserGenerator().generate((E) elements.next(), (Step) this, 1L);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        elements = null;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        graphStep.setTraversal(traversal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ArangoUpdateStep<S, E> clone() {
+        ArangoUpdateStep<S, E> clone = (ArangoUpdateStep<S, E>) super.clone();
+        clone.graphStep = (ArangoStep<?, ?>) graphStep.clone();
+        clone.elements = null;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return returnElements
+                ? StringFactory.stepString(this, graphStep, values, "return")
+                : StringFactory.stepString(this, graphStep, values);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ graphStep.hashCode() ^ values.hashCode() ^ metaProperties.hashCode() ^ Boolean.hashCode(returnElements);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        ArangoUpdateStep<?, ?> that = (ArangoUpdateStep<?, ?>) o;
+        return Objects.equals(graphStep, that.graphStep) && values.equals(that.values)
+                && metaProperties.equals(that.metaProperties) && returnElements == that.returnElements;
+    }
+}
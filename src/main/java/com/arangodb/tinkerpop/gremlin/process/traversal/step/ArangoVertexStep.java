@@ -0,0 +1,309 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.client.QueryOptions;
+import com.arangodb.tinkerpop.gremlin.persistence.ElementId;
+import com.arangodb.tinkerpop.gremlin.process.filter.ArangoFilter;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBPersistentElement;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * {@link VertexStep} that expands the incoming traversers in chunks, fetching the adjacent vertices or incident edges
+ * of all the traversers of a chunk with a single query.
+ * <p/>
+ * The has containers folded into this step are translated into AQL filters on the adjacent vertices or incident
+ * edges, as far as supported, and are evaluated again on the client side.
+ * <p/>
+ * In count-only mode, which is only valid if the step is followed by {@code count()}, the adjacent documents are
+ * counted on the server side and each incoming traverser is emitted once, with its bulk multiplied by the count.
+ * <p/>
+ * In dedup mode, which replaces a following {@code dedup()}, the adjacent documents of a chunk are deduplicated on
+ * the server side and each element is emitted only once, with bulk 1, also across chunks.
+ * <p/>
+ * With a projection, only the given properties of the adjacent documents are fetched, e.g. none of them for
+ * {@code out().id()}, and the remaining ones are loaded on demand.
+ */
+public final class ArangoVertexStep<E extends Element> extends VertexStep<E> implements HasContainerHolder<Vertex, E> {
+
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private Iterator<Traverser.Admin<E>> results = Collections.emptyIterator();
+    private boolean countOnly = false;
+    private boolean dedup = false;
+    private Set<String> projection;
+    private Set<Object> seen = new HashSet<>();
+
+    public ArangoVertexStep(final VertexStep<E> originalVertexStep) {
+        super(originalVertexStep.getTraversal(), originalVertexStep.getReturnClass(), originalVertexStep.getDirection(), originalVertexStep.getEdgeLabels());
+        originalVertexStep.getLabels().forEach(this::addLabel);
+    }
+
+    @Override
+    public List<HasContainer> getHasContainers() {
+        return Collections.unmodifiableList(hasContainers);
+    }
+
+    @Override
+    public void addHasContainer(final HasContainer hasContainer) {
+        HasContainers.normalizePredicate(hasContainer.getPredicate());
+        hasContainers.add(hasContainer);
+    }
+
+    /**
+     * @return whether all the has containers are evaluated on the server side
+     */
+    public boolean isFilterFullySupported(ArangoDBGraphConfig config) {
+        return HasContainers.isFilterFullySupported(hasContainers, config, false);
+    }
+
+    /**
+     * @return whether the has containers only use predicates evaluated on the server side exactly as by Gremlin,
+     * regardless of the string collation of the database, as required in count-only mode
+     */
+    public boolean hasOnlyPortablePredicates() {
+        return HasContainers.hasOnlyPortablePredicates(hasContainers);
+    }
+
+    public void setCountOnly(boolean countOnly) {
+        this.countOnly = countOnly;
+    }
+
+    public boolean isCountOnly() {
+        return countOnly;
+    }
+
+    public void setDedup(boolean dedup) {
+        this.dedup = dedup;
+    }
+
+    public boolean isDedup() {
+        return dedup;
+    }
+
+    /**
+     * Loads only the properties with the given keys, together with the properties referenced by the has containers.
+     * The returned elements are partially loaded and fetch the remaining properties on demand.
+     */
+    public void setProjection(Set<String> keys) {
+        projection = new LinkedHashSet<>(keys);
+    }
+
+    public boolean hasProjection() {
+        return projection != null;
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() {
+        while (!results.hasNext()) {
+            List<Traverser.Admin<Vertex>> chunk = nextChunk();
+            results = countOnly ? count(chunk) : expand(chunk);
+        }
+        return results.next();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        results = Collections.emptyIterator();
+        seen.clear();
+    }
+
+    @Override
+    public String toString() {
+        if (hasContainers.isEmpty() && !countOnly && !dedup && !hasProjection())
+            return super.toString();
+        List<Object> args = new ArrayList<>();
+        args.add(getDirection());
+        args.add(Arrays.asList(getEdgeLabels()));
+        args.add(getReturnClass().getSimpleName().toLowerCase());
+        if (!hasContainers.isEmpty()) args.add(hasContainers);
+        if (countOnly) args.add("count");
+        if (dedup) args.add("dedup");
+        if (hasProjection()) args.add("keep" + projection);
+        return StringFactory.stepString(this, args.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ hasContainers.hashCode() ^ Boolean.hashCode(countOnly) ^ Boolean.hashCode(dedup) ^ Objects.hashCode(projection);
+    }
+
+    @Override
+    public ArangoVertexStep<E> clone() {
+        ArangoVertexStep<E> clone = (ArangoVertexStep<E>) super.clone();
+        clone.hasContainers = new ArrayList<>(hasContainers);
+        clone.results = Collections.emptyIterator();
+        clone.seen = new HashSet<>();
+        if (projection != null) {
+            clone.projection = new LinkedHashSet<>(projection);
+        }
+        return clone;
+    }
+
+    private List<Traverser.Admin<Vertex>> nextChunk() {
+        int batchSize = graph().config.vertexStepBatchSize;
+        List<Traverser.Admin<Vertex>> chunk = new ArrayList<>();
+        while (chunk.size() < batchSize && starts.hasNext()) {
+            chunk.add(starts.next());
+        }
+        if (chunk.isEmpty()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return chunk;
+    }
+
+    private static Set<ElementId> startIds(List<Traverser.Admin<Vertex>> chunk) {
+        return chunk.stream()
+                .map(Traverser::get)
+                .filter(ArangoDBVertex.class::isInstance)
+                .map(it -> ((ArangoDBVertex) it).elementId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Iterator<Traverser.Admin<E>> expand(List<Traverser.Admin<Vertex>> chunk) {
+        Set<ElementId> ids = startIds(chunk);
+        Map<ElementId, List<E>> adjacent = ids.isEmpty() ? Collections.emptyMap() : fetch(ids);
+
+        List<Traverser.Admin<E>> res = new ArrayList<>();
+        for (Traverser.Admin<Vertex> traverser : chunk) {
+            Iterator<E> elements;
+            if (traverser.get() instanceof ArangoDBVertex) {
+                elements = adjacent.getOrDefault(((ArangoDBVertex) traverser.get()).elementId(), Collections.emptyList()).iterator();
+            } else {
+                elements = flatMap(traverser);
+            }
+            // split() keeps the bulk of the parent traverser
+            elements.forEachRemaining(it -> {
+                if (!HasContainer.testAll(it, hasContainers)) {
+                    return;
+                }
+                if (!dedup) {
+                    res.add(traverser.split(it, this));
+                } else if (seen.add(dedupKey(it))) {
+                    Traverser.Admin<E> split = traverser.split(it, this);
+                    split.setBulk(1L);
+                    res.add(split);
+                }
+            });
+        }
+        return res.iterator();
+    }
+
+    private static Object dedupKey(Element element) {
+        return element instanceof ArangoDBPersistentElement ? ((ArangoDBPersistentElement) element).elementId() : element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterator<Traverser.Admin<E>> count(List<Traverser.Admin<Vertex>> chunk) {
+        Set<ElementId> ids = startIds(chunk);
+        ArangoDBGraph graph = graph();
+        Set<String> edgeCollections = getQueryEdgeCollections(graph);
+        Map<ElementId, Long> counts;
+        if (ids.isEmpty() || edgeCollections.isEmpty()) {
+            counts = Collections.emptyMap();
+        } else if (returnsVertex()) {
+            counts = graph.getClient().countVerticesNeighbors(ids, edgeCollections, getDirection(), getEdgeLabels(), filter(graph), QueryOptions.of(graph.config, getTraversal()));
+        } else {
+            counts = graph.getClient().countVerticesEdges(ids, edgeCollections, getDirection(), getEdgeLabels(), filter(graph), QueryOptions.of(graph.config, getTraversal()));
+        }
+
+        List<Traverser.Admin<E>> res = new ArrayList<>();
+        for (Traverser.Admin<Vertex> traverser : chunk) {
+            long count;
+            if (traverser.get() instanceof ArangoDBVertex) {
+                count = counts.getOrDefault(((ArangoDBVertex) traverser.get()).elementId(), 0L);
+            } else {
+                count = IteratorUtils.count(IteratorUtils.filter(flatMap(traverser), it -> HasContainer.testAll(it, hasContainers)));
+            }
+            if (count > 0) {
+                // the emitted object is irrelevant for the following count()
+                Traverser.Admin<E> split = traverser.split((E) traverser.get(), this);
+                split.setBulk(traverser.bulk() * count);
+                res.add(split);
+            }
+        }
+        return res.iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<ElementId, List<E>> fetch(Set<ElementId> ids) {
+        ArangoDBGraph graph = graph();
+        Set<String> edgeCollections = getQueryEdgeCollections(graph);
+        if (edgeCollections.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<ElementId, List<E>> res = new HashMap<>();
+        if (returnsVertex()) {
+            graph.getClient().getVerticesNeighbors(ids, edgeCollections, getDirection(), getEdgeLabels(), filter(graph), dedup, getLoadedKeys(), QueryOptions.of(graph.config, getTraversal()))
+                    .forEach((k, v) -> res.put(k, v.stream()
+                            .map(it -> (E) new ArangoDBVertex(graph, it))
+                            .collect(Collectors.toList())));
+        } else {
+            graph.getClient().getVerticesEdges(ids, edgeCollections, getDirection(), getEdgeLabels(), filter(graph), dedup, getLoadedKeys(), QueryOptions.of(graph.config, getTraversal()))
+                    .forEach((k, v) -> res.put(k, v.stream()
+                            .map(it -> (E) new ArangoDBEdge(graph, it))
+                            .collect(Collectors.toList())));
+        }
+        return res;
+    }
+
+    private Set<String> getLoadedKeys() {
+        if (projection == null) {
+            return null;
+        }
+        Set<String> keys = new HashSet<>(projection);
+        hasContainers.stream()
+                .map(HasContainer::getKey)
+                .filter(Objects::nonNull)
+                .forEach(keys::add);
+        return keys;
+    }
+
+    private ArangoFilter filter(ArangoDBGraph graph) {
+        return HasContainers.toArangoFilter(hasContainers, graph.config);
+    }
+
+    private Set<String> getQueryEdgeCollections(ArangoDBGraph graph) {
+        String[] edgeLabels = getEdgeLabels();
+        if (graph.type() == ArangoDBGraphConfig.GraphType.SIMPLE || edgeLabels.length == 0) {
+            return graph.edgeCollections();
+        }
+        return Arrays.stream(edgeLabels)
+                .filter(graph.edgeCollections()::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("resource")
+    private ArangoDBGraph graph() {
+        return (ArangoDBGraph) getTraversal().getGraph().orElseThrow(IllegalStateException::new);
+    }
+}
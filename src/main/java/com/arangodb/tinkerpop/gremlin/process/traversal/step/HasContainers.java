@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.step;
+
+import com.arangodb.tinkerpop.gremlin.process.filter.AndFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.ArangoFilter;
+import com.arangodb.tinkerpop.gremlin.process.filter.FilterSimplifier;
+import com.arangodb.tinkerpop.gremlin.process.filter.FilterSupport;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
+import com.arangodb.tinkerpop.gremlin.utils.Fields;
+import org.apache.tinkerpop.gremlin.process.traversal.NotP;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Translation of {@link HasContainer}s into {@link ArangoFilter}s.
+ * <p/>
+ * In {@code COMPLEX} graphs, labels are collection names, so that label containers are not translated into filters,
+ * but can be evaluated exactly by restricting the queried collections.
+ */
+final class HasContainers {
+
+    private HasContainers() {
+    }
+
+    static void normalizePredicate(P<?> p) {
+        if (p instanceof ConnectiveP) {
+            ((ConnectiveP<?>) p).getPredicates().forEach(HasContainers::normalizePredicate);
+        } else {
+            p.setValue(ArangoDBUtil.normalizeValue(p.getValue()));
+        }
+    }
+
+    /**
+     * @param labelsByCollection whether label containers of {@code COMPLEX} graphs are evaluated by restricting the
+     *                           queried collections
+     * @return whether all the has containers are translated by {@link #toArangoFilter}, which adds the attribute and
+     * type checks matching the Gremlin semantics of the predicates, e.g. for {@code lt} on missing attributes,
+     * {@code neq} on documents without the attribute or {@code containing} on numbers. The filter is evaluated exactly
+     * as by Gremlin only if {@link #hasOnlyPortablePredicates} also holds, since AQL compares strings according to the
+     * ICU collation of the database and has its own regular expression syntax.
+     */
+    static boolean isFilterFullySupported(List<HasContainer> hasContainers, ArangoDBGraphConfig config, boolean labelsByCollection) {
+        return hasContainers.stream().allMatch(it -> it.getKey() != null && (
+                config.graphType == ArangoDBGraphConfig.GraphType.COMPLEX && T.label.getAccessor().equals(it.getKey())
+                        ? labelsByCollection
+                        : ArangoFilter.of(mapKey(it.getKey(), config), it.getPredicate()).getSupport() == FilterSupport.FULL));
+    }
+
+    /**
+     * @return whether the has containers only use predicates evaluated by AQL exactly as by Gremlin, regardless of
+     * the server configuration: equality, {@code within()}, {@code without()} and comparisons with numbers. AQL
+     * compares strings according to the ICU collation of the database and has its own regular expression syntax.
+     */
+    static boolean hasOnlyPortablePredicates(List<HasContainer> hasContainers) {
+        return hasContainers.stream().allMatch(it -> isPortable(it.getPredicate()));
+    }
+
+    private static boolean isPortable(P<?> p) {
+        if (p instanceof ConnectiveP) {
+            return ((ConnectiveP<?>) p).getPredicates().stream().allMatch(HasContainers::isPortable);
+        } else if (p instanceof NotP) {
+            return isPortable(((NotP<?>) p).negate());
+        }
+        switch (p.getPredicateName()) {
+            case "eq":
+            case "neq":
+            case "within":
+            case "without":
+                return true;
+            case "lt":
+            case "lte":
+            case "gt":
+            case "gte":
+                return p.getValue() instanceof Number;
+            default:
+                return false;
+        }
+    }
+
+    static ArangoFilter toArangoFilter(List<HasContainer> hasContainers, ArangoDBGraphConfig config) {
+        return FilterSimplifier.simplify(AndFilter.of(hasContainers.stream()
+                .filter(it -> it.getKey() != null)
+                .filter(it -> config.graphType != ArangoDBGraphConfig.GraphType.COMPLEX || !T.label.getAccessor().equals(it.getKey()))
+                .map(it -> ArangoFilter.of(mapKey(it.getKey(), config), it.getPredicate()))
+                .filter(it -> it.getSupport() != FilterSupport.NONE)
+                .collect(Collectors.toList())));
+    }
+
+    private static String mapKey(String key, ArangoDBGraphConfig config) {
+        if (key.equals(T.label.getAccessor())) {
+            return config.labelField;
+        } else if (key.equals(T.id.getAccessor())) {
+            if (config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
+                return Fields.KEY;
+            } else {
+                return Fields.ID;
+            }
+        } else {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.client.Aggregation;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoAggregateStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.*;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.*;
+
+/**
+ * Aggregates elements on the server side with AQL {@code COLLECT}, instead of fetching them. {@code ArangoStep} is
+ * replaced by {@link ArangoAggregateStep} if followed by:
+ * <ul>
+ *     <li>{@code groupCount()} or {@code group()} by {@code label} or by a property key, where the values of
+ *     {@code group()} are reduced by {@code count()}, or by {@code sum()}, {@code min()}, {@code max()} or
+ *     {@code mean()} of a property, e.g. {@code group().by("country").by(values("amount").sum())}</li>
+ *     <li>{@code values()} of a single property key reduced by {@code sum()}, {@code min()}, {@code max()} or
+ *     {@code mean()}, e.g. {@code values("amount").sum()}</li>
+ * </ul>
+ * Since the aggregated elements are not filtered again on the client side, only filters evaluated exactly as by
+ * Gremlin are pushed down, see {@link ArangoStep#hasOnlyPortablePredicates()}.
+ */
+public final class ArangoAggregateStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoAggregateStrategy INSTANCE = new ArangoAggregateStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoStepStrategy.class,
+            ArangoVertexStepStrategy.class,
+            ArangoRepeatStepStrategy.class
+    ));
+
+    public static ArangoAggregateStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoAggregateStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null || !traversal.isRoot()) {
+            return;
+        }
+        for (final ArangoStep arangoStep : TraversalHelper.getStepsOfClass(ArangoStep.class, traversal)) {
+            Step<?, ?> next = StrategyHelper.nextStep(arangoStep);
+            if (!arangoStep.isStartStep() || !arangoStep.getLabels().isEmpty() || arangoStep.hasSort()
+                    || arangoStep.hasRange() || !arangoStep.isFilterFullySupported(graph.config)
+                    || !arangoStep.hasOnlyPortablePredicates()) {
+                continue;
+            }
+            List<Step<?, ?>> reducingSteps = new ArrayList<>();
+            Aggregation aggregation;
+            if (next instanceof PropertiesStep && next.getLabels().isEmpty()) {
+                Step<?, ?> reducingStep = StrategyHelper.nextStep(next);
+                aggregation = reduce((PropertiesStep<?>) next, reducingStep, graph.config);
+                reducingSteps.add(next);
+                reducingSteps.add(reducingStep);
+            } else {
+                aggregation = toAggregation(next, graph.config);
+                reducingSteps.add(next);
+            }
+            if (aggregation == null) {
+                continue;
+            }
+            Step<?, ?> last = reducingSteps.get(reducingSteps.size() - 1);
+            ArangoAggregateStep<?, ?> step = new ArangoAggregateStep<>(arangoStep, aggregation, reducingSteps);
+            TraversalHelper.copyLabels(last, step, false);
+            StrategyHelper.removeUntil(arangoStep, last, traversal);
+            TraversalHelper.replaceStep(arangoStep, step, traversal);
+        }
+    }
+
+    /**
+     * @return the aggregation equivalent to the given step, or {@code null} if not supported
+     */
+    private static Aggregation toAggregation(Step<?, ?> step, ArangoDBGraphConfig config) {
+        if (step instanceof GroupCountStep) {
+            List<? extends Traversal.Admin<?, ?>> children = ((GroupCountStep<?, ?>) step).getLocalChildren();
+            return children.size() == 1 ? groupBy(Aggregation.count(), children.get(0), config) : null;
+        } else if (step instanceof GroupStep) {
+            GroupStep<?, ?, ?> groupStep = (GroupStep<?, ?, ?>) step;
+            Aggregation aggregation = reduceBy(groupStep.getValueTraversal(), config);
+            return aggregation == null ? null : groupBy(aggregation, groupStep.getKeyTraversal(), config);
+        }
+        return null;
+    }
+
+    private static Aggregation groupBy(Aggregation aggregation, Traversal.Admin<?, ?> keyTraversal, ArangoDBGraphConfig config) {
+        if (keyTraversal instanceof TokenTraversal && ((TokenTraversal<?, ?>) keyTraversal).getToken() == T.label) {
+            // in COMPLEX graphs, labels are collection names
+            return config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE
+                    ? aggregation.groupBy(config.labelField)
+                    : aggregation.groupByCollection();
+        } else if (keyTraversal instanceof ValueTraversal) {
+            String key = ((ValueTraversal<?, ?>) keyTraversal).getPropertyKey();
+            return config.isReservedField(key) ? null : aggregation.groupBy(key);
+        }
+        return null;
+    }
+
+    /**
+     * @return the aggregation of the values of a group, reduced by {@code count()}, or by {@code values(key)}
+     * followed by {@code sum()}, {@code min()}, {@code max()} or {@code mean()}, or {@code null} if not supported
+     */
+    private static Aggregation reduceBy(Traversal.Admin<?, ?> valueTraversal, ArangoDBGraphConfig config) {
+        if (valueTraversal == null) {
+            return null;
+        }
+        List<Step<?, ?>> steps = new ArrayList<>();
+        for (Step<?, ?> step : valueTraversal.getSteps()) {
+            if (!(step instanceof NoOpBarrierStep)) {
+                steps.add(step);
+            }
+        }
+        if (steps.stream().anyMatch(it -> !it.getLabels().isEmpty())) {
+            return null;
+        }
+        if (steps.size() == 1 && steps.get(0) instanceof CountGlobalStep) {
+            return Aggregation.count();
+        }
+        if (steps.size() != 2 || !(steps.get(0) instanceof PropertiesStep)) {
+            return null;
+        }
+        return reduce((PropertiesStep<?>) steps.get(0), steps.get(1), config);
+    }
+
+    /**
+     * @return the aggregation of {@code values(key)} followed by {@code sum()}, {@code min()}, {@code max()} or
+     * {@code mean()}, or {@code null} if not supported
+     */
+    private static Aggregation reduce(PropertiesStep<?> propertiesStep, Step<?, ?> reducingStep, ArangoDBGraphConfig config) {
+        if (propertiesStep.getReturnType() != PropertyType.VALUE || propertiesStep.getPropertyKeys().length != 1
+                || config.isReservedField(propertiesStep.getPropertyKeys()[0])) {
+            return null;
+        }
+        Aggregation.Function function = toFunction(reducingStep);
+        return function == null ? null : Aggregation.of(function, propertiesStep.getPropertyKeys()[0]);
+    }
+
+    private static Aggregation.Function toFunction(Step<?, ?> step) {
+        if (step instanceof SumGlobalStep) {
+            return Aggregation.Function.SUM;
+        } else if (step instanceof MinGlobalStep) {
+            return Aggregation.Function.MIN;
+        } else if (step instanceof MaxGlobalStep) {
+            return Aggregation.Function.MAX;
+        } else if (step instanceof MeanGlobalStep) {
+            return Aggregation.Function.MEAN;
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoCountStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoRepeatStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoVertexStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Counts elements on the server side, instead of fetching them:
+ * <ul>
+ *     <li>{@code ArangoStep} followed by {@code count()} is replaced by {@link ArangoCountStep}</li>
+ *     <li>{@link ArangoVertexStep} followed by {@code count()} is switched to count-only mode</li>
+ *     <li>{@link ArangoRepeatStep} followed by {@code count()} is switched to count-only mode</li>
+ * </ul>
+ * Since the counted elements are not filtered again on the client side, only filters evaluated exactly as by Gremlin
+ * are pushed down, see {@link ArangoStep#hasOnlyPortablePredicates()}.
+ */
+public final class ArangoCountStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoCountStrategy INSTANCE = new ArangoCountStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoStepStrategy.class,
+            ArangoVertexStepStrategy.class,
+            ArangoRepeatStepStrategy.class
+    ));
+
+    public static ArangoCountStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoCountStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        for (final ArangoStep arangoStep : TraversalHelper.getStepsOfClass(ArangoStep.class, traversal)) {
+            Step<?, ?> next = StrategyHelper.nextStep(arangoStep);
+            if (!(next instanceof CountGlobalStep) || !arangoStep.isStartStep() || !traversal.isRoot()
+                    || !arangoStep.getLabels().isEmpty() || arangoStep.hasSort()) {
+                continue;
+            }
+            if (graph == null || !arangoStep.isFilterFullySupported(graph.config) || !arangoStep.hasOnlyPortablePredicates()) {
+                continue;
+            }
+            ArangoCountStep<?> countStep = new ArangoCountStep<>(arangoStep);
+            TraversalHelper.copyLabels(next, countStep, false);
+            StrategyHelper.removeUntil(arangoStep, next, traversal);
+            TraversalHelper.replaceStep(arangoStep, countStep, traversal);
+        }
+
+        for (final ArangoVertexStep vertexStep : TraversalHelper.getStepsOfClass(ArangoVertexStep.class, traversal)) {
+            if (StrategyHelper.nextStep(vertexStep) instanceof CountGlobalStep && vertexStep.getLabels().isEmpty()
+                    && (vertexStep.getHasContainers().isEmpty() || (graph != null && vertexStep.isFilterFullySupported(graph.config)
+                    && vertexStep.hasOnlyPortablePredicates()))) {
+                vertexStep.setCountOnly(true);
+            }
+        }
+
+        for (final ArangoRepeatStep repeatStep : TraversalHelper.getStepsOfClass(ArangoRepeatStep.class, traversal)) {
+            if (StrategyHelper.nextStep(repeatStep) instanceof CountGlobalStep && repeatStep.getLabels().isEmpty()) {
+                repeatStep.setCountOnly(true);
+            }
+        }
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoDistinctValuesStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoVertexStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Deduplicates elements and values on the server side, instead of collecting them in a client side set:
+ * <ul>
+ *     <li>{@code ArangoVertexStep} followed by {@code dedup()} is set to dedup mode, e.g. {@code out("bought").dedup()}</li>
+ *     <li>{@code ArangoStep} followed by {@code values(key).dedup()} is replaced by {@link ArangoDistinctValuesStep},
+ *     e.g. {@code g.V().values("country").dedup()}, if its filters are evaluated exactly as by Gremlin, see
+ *     {@link ArangoStep#hasOnlyPortablePredicates()}, since the values are not filtered again on the client side</li>
+ * </ul>
+ * Only {@code dedup()} without {@code by()} modulators and scope keys is replaced, in traversals not reading the paths
+ * of the traversers: each deduplicated element or value is returned once, with the path of only one of the traversers
+ * reaching it.
+ */
+public final class ArangoDedupStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDedupStrategy INSTANCE = new ArangoDedupStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoStepStrategy.class,
+            ArangoVertexStepStrategy.class,
+            ArangoRepeatStepStrategy.class,
+            ArangoCountStrategy.class,
+            ArangoAggregateStrategy.class
+    ));
+
+    public static ArangoDedupStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoDedupStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null || requiresPaths(traversal)) {
+            return;
+        }
+        for (final ArangoVertexStep<?> vertexStep : TraversalHelper.getStepsOfClass(ArangoVertexStep.class, traversal)) {
+            Step<?, ?> next = StrategyHelper.nextStep(vertexStep);
+            if (vertexStep.isCountOnly() || vertexStep.isDedup() || !vertexStep.getLabels().isEmpty() || !isPlainDedup(next)) {
+                continue;
+            }
+            vertexStep.setDedup(true);
+            TraversalHelper.copyLabels(next, vertexStep, false);
+            StrategyHelper.removeUntil(vertexStep, next, traversal);
+            if (!vertexStep.hasProjection() && vertexStep.getLabels().isEmpty()
+                    && vertexStep.getHasContainers().stream().allMatch(it -> it.getKey() != null)) {
+                // the steps following dedup() are now the ones reading the elements
+                Set<String> keys = ArangoStepStrategy.projectedKeys(StrategyHelper.nextStep(vertexStep));
+                if (keys != null) {
+                    vertexStep.setProjection(keys);
+                }
+            }
+        }
+        if (!traversal.isRoot()) {
+            return;
+        }
+        for (final ArangoStep arangoStep : TraversalHelper.getStepsOfClass(ArangoStep.class, traversal)) {
+            if (!arangoStep.isStartStep() || !arangoStep.getLabels().isEmpty() || arangoStep.hasSort()
+                    || arangoStep.hasRange() || !arangoStep.isFilterFullySupported(graph.config)
+                    || !arangoStep.hasOnlyPortablePredicates()) {
+                continue;
+            }
+            Step<?, ?> next = StrategyHelper.nextStep(arangoStep);
+            if (!(next instanceof PropertiesStep) || !next.getLabels().isEmpty()) {
+                continue;
+            }
+            String key = singleValueKey((PropertiesStep<?>) next, graph.config);
+            Step<?, ?> dedupStep = StrategyHelper.nextStep(next);
+            if (key == null || !isPlainDedup(dedupStep)) {
+                continue;
+            }
+            ArangoDistinctValuesStep<?, ?> step = new ArangoDistinctValuesStep<>(arangoStep, key);
+            TraversalHelper.copyLabels(dedupStep, step, false);
+            StrategyHelper.removeUntil(arangoStep, dedupStep, traversal);
+            TraversalHelper.replaceStep(arangoStep, step, traversal);
+        }
+    }
+
+    /**
+     * @return whether the paths of the traversers are read, e.g. by {@code path()} or {@code select()}
+     */
+    private static boolean requiresPaths(Traversal.Admin<?, ?> traversal) {
+        Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(traversal);
+        Set<TraverserRequirement> requirements = root.getTraverserRequirements();
+        return !TraversalHelper.getLabels(root).isEmpty()
+                || requirements.contains(TraverserRequirement.PATH)
+                || requirements.contains(TraverserRequirement.LABELED_PATH);
+    }
+
+    private static boolean isPlainDedup(Step<?, ?> step) {
+        if (!(step instanceof DedupGlobalStep)) {
+            return false;
+        }
+        DedupGlobalStep<?> dedupStep = (DedupGlobalStep<?>) step;
+        return dedupStep.getLocalChildren().isEmpty() && dedupStep.getScopeKeys().isEmpty();
+    }
+
+    /**
+     * @return the key of {@code values(key)}, or {@code null} if the step is not supported
+     */
+    private static String singleValueKey(PropertiesStep<?> propertiesStep, ArangoDBGraphConfig config) {
+        if (propertiesStep.getReturnType() != PropertyType.VALUE || propertiesStep.getPropertyKeys().length != 1
+                || config.isReservedField(propertiesStep.getPropertyKeys()[0])) {
+            return null;
+        }
+        return propertiesStep.getPropertyKeys()[0];
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoDropStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DropStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Removes elements on the server side, instead of fetching and removing them one by one: {@code ArangoStep} followed
+ * by {@code drop()} is replaced by {@link ArangoDropStep}, e.g. {@code g.V().has("tenant", "t1").drop()}. The
+ * incident edges of the removed vertices are removed by the same query.
+ * <p/>
+ * Only filters evaluated exactly as by Gremlin are pushed down, see {@link ArangoStep#hasOnlyPortablePredicates()}:
+ * e.g. {@code has("name", P.gt("m"))} compares strings with the collation of the database and is evaluated by
+ * fetching the elements instead.
+ * <p/>
+ * Traversals with {@link EventStrategy} are not optimized, since no removal events would be raised.
+ */
+public final class ArangoDropStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoDropStrategy INSTANCE = new ArangoDropStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoStepStrategy.class
+    ));
+
+    public static ArangoDropStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoDropStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null || !traversal.isRoot() || traversal.getStrategies().getStrategy(EventStrategy.class).isPresent()) {
+            return;
+        }
+        for (final ArangoStep arangoStep : TraversalHelper.getStepsOfClass(ArangoStep.class, traversal)) {
+            Step<?, ?> next = StrategyHelper.nextStep(arangoStep);
+            if (!(next instanceof DropStep) || !arangoStep.isStartStep() || !arangoStep.getLabels().isEmpty()
+                    || arangoStep.hasSort() || arangoStep.hasRange() || !arangoStep.isFilterFullySupported(graph.config)
+                    || !arangoStep.hasOnlyPortablePredicates()) {
+                continue;
+            }
+            ArangoDropStep<?, ?> dropStep = new ArangoDropStep<>(arangoStep);
+            TraversalHelper.copyLabels(next, dropStep, false);
+            StrategyHelper.removeUntil(arangoStep, next, traversal);
+            TraversalHelper.replaceStep(arangoStep, dropStep, traversal);
+        }
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoPathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+/**
+ * Folds {@code range()} and {@code limit()} following an {@link ArangoPathStep} into the AQL path search, so that
+ * only the requested paths are computed by the server.
+ */
+public final class ArangoPathStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoPathStepStrategy INSTANCE = new ArangoPathStepStrategy();
+
+    public static ArangoPathStepStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoPathStepStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        for (final ArangoPathStep pathStep : TraversalHelper.getStepsOfClass(ArangoPathStep.class, traversal)) {
+            Step<?, ?> next = StrategyHelper.nextStep(pathStep);
+            if (!(next instanceof RangeGlobalStep) || !pathStep.getLabels().isEmpty() || pathStep.hasRange()) {
+                continue;
+            }
+            RangeGlobalStep<?> rangeStep = (RangeGlobalStep<?>) next;
+            if (rangeStep.getHighRange() < 0) {
+                // AQL LIMIT requires an upper bound
+                continue;
+            }
+            pathStep.setRange(rangeStep.getLowRange(), rangeStep.getHighRange());
+            TraversalHelper.copyLabels(rangeStep, pathStep, false);
+            traversal.removeStep(rangeStep);
+        }
+    }
+}
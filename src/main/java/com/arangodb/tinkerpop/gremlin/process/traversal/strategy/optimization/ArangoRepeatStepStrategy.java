@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoRepeatStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoVertexStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.LoopTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TrueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.PathFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.*;
+
+/**
+ * Executes multi-hop traversals with a single AQL traversal, instead of a query per hop:
+ * <ul>
+ *     <li>{@code repeat()} of a single adjacent vertices step, optionally followed by {@code simplePath()}, terminated
+ *     by {@code times()} or by {@code until()} with has containers, optionally with {@code emit()} with has
+ *     containers, is replaced by {@link ArangoRepeatStep}</li>
+ *     <li>sequences of identical adjacent vertices steps, e.g. {@code out("knows").out("knows")}, which is also what
+ *     {@code repeat(out("knows")).times(2)} is unrolled to, are replaced by {@link ArangoRepeatStep}</li>
+ * </ul>
+ * {@code until()} is only supported if {@link ArangoDBGraphConfig#repeatMaxDepth} is set, since the AQL traversal
+ * needs an upper bound on the depth. Since the results of {@link ArangoRepeatStep} are not filtered again on the
+ * client side, only filters evaluated exactly as by Gremlin are pushed down, see
+ * {@link ArangoRepeatStep#hasOnlyPortablePredicates()}; otherwise the original steps are left in place.
+ */
+public final class ArangoRepeatStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoRepeatStepStrategy INSTANCE = new ArangoRepeatStepStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoStepStrategy.class,
+            ArangoVertexStepStrategy.class
+    ));
+
+    public static ArangoRepeatStepStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoRepeatStepStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null) {
+            return;
+        }
+        for (final RepeatStep repeatStep : TraversalHelper.getStepsOfClass(RepeatStep.class, traversal)) {
+            ArangoRepeatStep step = toArangoRepeatStep(repeatStep, traversal, graph.config);
+            if (step != null) {
+                TraversalHelper.replaceStep(repeatStep, step, traversal);
+            }
+        }
+        Set<Step<?, ?>> merged = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final ArangoVertexStep vertexStep : TraversalHelper.getStepsOfClass(ArangoVertexStep.class, traversal)) {
+            if (merged.contains(vertexStep)) {
+                continue;
+            }
+            List<ArangoVertexStep<?>> sequence = sequence(vertexStep);
+            if (sequence.size() < 2) {
+                continue;
+            }
+            merged.addAll(sequence);
+            ArangoVertexStep<?> last = sequence.get(sequence.size() - 1);
+            ArangoRepeatStep step = new ArangoRepeatStep(traversal, vertexStep.getDirection(), vertexStep.getEdgeLabels());
+            step.setTimes(sequence.size(), false);
+            last.getHasContainers().forEach(step::addHasContainer);
+            if (!step.isFilterFullySupported(graph.config) || !step.hasOnlyPortablePredicates()) {
+                continue;
+            }
+            TraversalHelper.copyLabels(last, step, false);
+            StrategyHelper.removeUntil(vertexStep, last, traversal);
+            TraversalHelper.replaceStep(vertexStep, step, traversal);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArangoRepeatStep toArangoRepeatStep(RepeatStep<?> repeatStep, Traversal.Admin<?, ?> traversal, ArangoDBGraphConfig config) {
+        ArangoVertexStep<?> vertexStep = null;
+        PathFilterStep<?> pathFilterStep = null;
+        for (Step<?, ?> step : repeatStep.getRepeatTraversal().getSteps()) {
+            if (step instanceof RepeatStep.RepeatEndStep || step instanceof NoOpBarrierStep) {
+                continue;
+            }
+            if (vertexStep == null && isHop(step) && ((ArangoVertexStep<?>) step).getHasContainers().isEmpty() && step.getLabels().isEmpty()) {
+                vertexStep = (ArangoVertexStep<?>) step;
+            } else if (vertexStep != null && pathFilterStep == null && isSimplePath(step)) {
+                pathFilterStep = (PathFilterStep<?>) step;
+            } else {
+                return null;
+            }
+        }
+        if (vertexStep == null) {
+            return null;
+        }
+        // simplePath() also considers the steps preceding repeat()
+        if (pathFilterStep != null && !(traversal.isRoot() && repeatStep.getPreviousStep() instanceof ArangoStep
+                && ((ArangoStep<?, ?>) repeatStep.getPreviousStep()).isStartStep())) {
+            return null;
+        }
+
+        ArangoRepeatStep step = new ArangoRepeatStep(traversal, vertexStep.getDirection(), vertexStep.getEdgeLabels());
+        Traversal.Admin<?, ?> until = repeatStep.getUntilTraversal();
+        if (until instanceof LoopTraversal) {
+            long times = ((LoopTraversal<?>) until).getMaxLoops();
+            if (times > Integer.MAX_VALUE) {
+                return null;
+            }
+            step.setTimes((int) times, repeatStep.untilFirst);
+        } else {
+            List<HasContainer> hasContainers = hasContainers(until);
+            if (hasContainers == null || hasContainers.isEmpty() || config.repeatMaxDepth == 0) {
+                return null;
+            }
+            step.setUntil(hasContainers, repeatStep.untilFirst);
+        }
+        Traversal.Admin<?, ?> emit = repeatStep.getEmitTraversal();
+        if (emit != null) {
+            List<HasContainer> hasContainers = emit instanceof TrueTraversal ? Collections.emptyList() : hasContainers(emit);
+            if (hasContainers == null) {
+                return null;
+            }
+            step.setEmit(hasContainers, repeatStep.emitFirst);
+        }
+        step.setSimplePath(pathFilterStep != null);
+        if (!step.isFilterFullySupported(config) || !step.hasOnlyPortablePredicates()) {
+            return null;
+        }
+        repeatStep.getLabels().forEach(step::addLabel);
+        return step;
+    }
+
+    /**
+     * @return the has containers of the given traversal, or {@code null} if it does not consist of has steps only
+     */
+    private static List<HasContainer> hasContainers(Traversal.Admin<?, ?> traversal) {
+        if (traversal == null || traversal.getSteps().isEmpty()) {
+            return null;
+        }
+        List<HasContainer> res = new ArrayList<>();
+        for (Step<?, ?> step : traversal.getSteps()) {
+            if (!(step instanceof HasStep)) {
+                return null;
+            }
+            res.addAll(((HasStep<?>) step).getHasContainers());
+        }
+        return res;
+    }
+
+    /**
+     * @return the identical adjacent vertices steps starting from the given one, separated by
+     * {@link NoOpBarrierStep}s only; only the last one can have labels and has containers
+     */
+    private static List<ArangoVertexStep<?>> sequence(ArangoVertexStep<?> first) {
+        List<ArangoVertexStep<?>> res = new ArrayList<>();
+        Step<?, ?> current = first;
+        while (isHop(current) && sameHop(first, (ArangoVertexStep<?>) current)) {
+            ArangoVertexStep<?> hop = (ArangoVertexStep<?>) current;
+            res.add(hop);
+            if (!hop.getLabels().isEmpty() || !hop.getHasContainers().isEmpty()) {
+                break;
+            }
+            current = StrategyHelper.nextStep(hop);
+        }
+        return res;
+    }
+
+    private static boolean isHop(Step<?, ?> step) {
+        return step instanceof ArangoVertexStep
+                && ((ArangoVertexStep<?>) step).returnsVertex()
+                && !((ArangoVertexStep<?>) step).isCountOnly();
+    }
+
+    private static boolean sameHop(ArangoVertexStep<?> a, ArangoVertexStep<?> b) {
+        return a.getDirection() == b.getDirection()
+                && new HashSet<>(Arrays.asList(a.getEdgeLabels())).equals(new HashSet<>(Arrays.asList(b.getEdgeLabels())));
+    }
+
+    private static boolean isSimplePath(Step<?, ?> step) {
+        if (!(step instanceof PathFilterStep)) {
+            return false;
+        }
+        PathFilterStep<?> pathFilterStep = (PathFilterStep<?>) step;
+        return pathFilterStep.isSimple()
+                && pathFilterStep.getFromLabel() == null
+                && pathFilterStep.getToLabel() == null
+                && pathFilterStep.getLocalChildren().isEmpty()
+                && step.getLabels().isEmpty();
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
@@ -16,19 +16,36 @@
 
 package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
 
+import com.arangodb.tinkerpop.gremlin.process.sort.ArangoSort;
 import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.utils.Fields;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ValueTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.IdStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ElementMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ProjectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.javatuples.Pair;
 
-import java.util.List;
+import java.util.*;
 
 public final class ArangoStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
 
@@ -65,7 +82,128 @@ public final class ArangoStepStrategy extends AbstractTraversalStrategy<Traversa
                 }
                 currentStep = currentStep.getNextStep();
             }
+            if (currentStep instanceof OrderGlobalStep && foldOrder(arangoStep, (OrderGlobalStep<?, ?>) currentStep, traversal)) {
+                currentStep = arangoStep.getNextStep();
+            }
+            if (currentStep instanceof RangeGlobalStep) {
+                foldRange(arangoStep, (RangeGlobalStep<?>) currentStep, traversal);
+            }
+            if (arangoStep.getLabels().isEmpty() && arangoStep.getHasContainers().stream().allMatch(it -> it.getKey() != null)) {
+                Set<String> keys = projectedKeys(arangoStep.getNextStep());
+                if (keys != null) {
+                    arangoStep.setProjection(keys);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pushes down {@code order()} into the {@link ArangoStep} as AQL {@code SORT}, if enabled by
+     * {@link ArangoDBGraphConfig#enableSortPushdown}, as long as all its comparators are {@code asc} or {@code desc}
+     * over a property or {@code T.id}, and the step is executed only once.
+     * <p/>
+     * Values are then ordered by AQL: numbers and values of different types are ordered as by Gremlin, while strings
+     * are ordered according to the ICU collation of the database, e.g. {@code "a" < "b" < "B"} instead of
+     * {@code "B" < "a" < "b"}.
+     *
+     * @return whether the order step was removed
+     */
+    private static boolean foldOrder(ArangoStep<?, ?> arangoStep, OrderGlobalStep<?, ?> orderStep, Traversal.Admin<?, ?> traversal) {
+        if (!arangoStep.isStartStep() || !traversal.isRoot()) {
+            return false;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null || !graph.config.enableSortPushdown) {
+            return false;
+        }
+        ArangoSort sort = ArangoSort.empty();
+        for (Pair<? extends Traversal.Admin<?, ?>, ? extends Comparator<?>> comparator : orderStep.getComparators()) {
+            Comparator<?> order = comparator.getValue1();
+            if (order != Order.asc && order != Order.desc) {
+                return false;
+            }
+            String attribute = sortAttribute(comparator.getValue0(), graph.config);
+            if (attribute == null) {
+                return false;
+            }
+            sort = sort.then(attribute, order == Order.desc);
+        }
+        if (sort.isEmpty()) {
+            return false;
+        }
+        arangoStep.setSort(sort);
+        TraversalHelper.copyLabels(orderStep, arangoStep, false);
+        traversal.removeStep(orderStep);
+        return true;
+    }
+
+    /**
+     * @return the document attribute to sort by, or {@code null} if the sort key cannot be computed on the server
+     */
+    private static String sortAttribute(Traversal.Admin<?, ?> byTraversal, ArangoDBGraphConfig config) {
+        if (byTraversal instanceof ValueTraversal && ((ValueTraversal<?, ?>) byTraversal).getBypassTraversal() == null) {
+            return ((ValueTraversal<?, ?>) byTraversal).getPropertyKey();
+        } else if (byTraversal instanceof TokenTraversal && ((TokenTraversal<?, ?>) byTraversal).getToken() == T.id) {
+            return config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE ? Fields.KEY : Fields.ID;
+        }
+        return null;
+    }
+
+    /**
+     * @return the keys of the properties read by {@code step}, if it only reads some specific properties of the
+     * incoming elements, or none of them like {@code id()} and {@code label()}, otherwise {@code null}
+     */
+    static Set<String> projectedKeys(Step<?, ?> step) {
+        String[] keys;
+        if (step instanceof IdStep || step instanceof LabelStep) {
+            return Collections.emptySet();
+        } else if (step instanceof PropertiesStep) {
+            keys = ((PropertiesStep<?>) step).getPropertyKeys();
+        } else if (step instanceof PropertyMapStep && ((PropertyMapStep<?, ?>) step).getPropertyTraversal() == null) {
+            keys = ((PropertyMapStep<?, ?>) step).getPropertyKeys();
+        } else if (step instanceof ElementMapStep) {
+            keys = ((ElementMapStep<?, ?>) step).getPropertyKeys();
+        } else if (step instanceof ProjectStep) {
+            List<? extends Traversal.Admin<?, ?>> byTraversals = ((ProjectStep<?, ?>) step).getLocalChildren();
+            if (byTraversals.isEmpty()) {
+                return null;
+            }
+            Set<String> res = new HashSet<>();
+            for (Traversal.Admin<?, ?> byTraversal : byTraversals) {
+                if (byTraversal instanceof ValueTraversal && ((ValueTraversal<?, ?>) byTraversal).getBypassTraversal() == null) {
+                    res.add(((ValueTraversal<?, ?>) byTraversal).getPropertyKey());
+                } else if (!(byTraversal instanceof TokenTraversal)) {
+                    return null;
+                }
+            }
+            return res;
+        } else {
+            return null;
+        }
+        if (keys.length == 0) {
+            // all the properties are needed
+            return null;
+        }
+        return new HashSet<>(Arrays.asList(keys));
+    }
+
+    /**
+     * Pushes down {@code range()} and {@code limit()} into the {@link ArangoStep}, as long as the whole filtering
+     * happens on the server side exactly as by Gremlin, see {@link ArangoStep#hasOnlyPortablePredicates()}, and the
+     * step is executed only once. Otherwise, the elements filtered again on the client side could be fewer than the
+     * limit, although enough elements match.
+     */
+    private static void foldRange(ArangoStep<?, ?> arangoStep, RangeGlobalStep<?> rangeStep, Traversal.Admin<?, ?> traversal) {
+        if (!arangoStep.isStartStep() || !traversal.isRoot() || rangeStep.getHighRange() < 0) {
+            return;
+        }
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null || !arangoStep.isFilterFullySupported(graph.config) || !arangoStep.hasOnlyPortablePredicates()) {
+            return;
         }
+        arangoStep.setRange(rangeStep.getLowRange(), rangeStep.getHighRange());
+        TraversalHelper.copyLabels(rangeStep, arangoStep, false);
+        traversal.removeStep(rangeStep);
     }
 
 }
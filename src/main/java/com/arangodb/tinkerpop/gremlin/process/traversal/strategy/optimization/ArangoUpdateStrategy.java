@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoUpdateStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DiscardStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.AddPropertyStepContract;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+
+import java.util.*;
+
+/**
+ * Sets properties on the server side, instead of fetching and updating the elements one by one: {@code ArangoStep}
+ * followed by {@code property(key, value)} steps is replaced by {@link ArangoUpdateStep}, e.g.
+ * {@code g.V().has("status", "stale").property("status", "archived")}. The properties of each collection are set by a
+ * single AQL {@code UPDATE} query. The updated elements are only fetched if they are read by the following steps,
+ * i.e. if the traversal is not ended by {@code iterate()}.
+ * <p/>
+ * Only {@code property()} steps with constant keys and values, single cardinality and constant meta-properties are
+ * replaced, following {@code ArangoStep}s with filters evaluated exactly as by Gremlin, see
+ * {@link ArangoStep#hasOnlyPortablePredicates()}. Traversals with {@link EventStrategy} are not optimized, since no
+ * property change events would be raised.
+ */
+public final class ArangoUpdateStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoUpdateStrategy INSTANCE = new ArangoUpdateStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ArangoStepStrategy.class
+    ));
+
+    public static ArangoUpdateStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoUpdateStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        ArangoDBGraph graph = (ArangoDBGraph) traversal.getGraph().filter(ArangoDBGraph.class::isInstance).orElse(null);
+        if (graph == null || !traversal.isRoot() || traversal.getStrategies().getStrategy(EventStrategy.class).isPresent()) {
+            return;
+        }
+        for (final ArangoStep arangoStep : TraversalHelper.getStepsOfClass(ArangoStep.class, traversal)) {
+            if (!arangoStep.isStartStep() || !arangoStep.getLabels().isEmpty() || arangoStep.hasSort()
+                    || arangoStep.hasRange() || !arangoStep.isFilterFullySupported(graph.config)
+                    || !arangoStep.hasOnlyPortablePredicates()) {
+                continue;
+            }
+            boolean isVertex = Vertex.class.isAssignableFrom(arangoStep.getReturnClass());
+            Map<String, Object> values = new LinkedHashMap<>();
+            Map<String, Map<String, Object>> metaProperties = new HashMap<>();
+            Step<?, ?> last = null;
+            Step<?, ?> next = StrategyHelper.nextStep(arangoStep);
+            while (next instanceof AddPropertyStepContract
+                    && addProperty((AddPropertyStepContract<?>) next, isVertex, values, metaProperties, graph.config)) {
+                last = next;
+                next = StrategyHelper.nextStep(next);
+            }
+            if (last == null) {
+                continue;
+            }
+            boolean returnElements = !(next instanceof DiscardStep);
+            ArangoUpdateStep<?, ?> updateStep = new ArangoUpdateStep<>(arangoStep, values, metaProperties, returnElements);
+            StrategyHelper.removeUntil(arangoStep, last, traversal);
+            TraversalHelper.replaceStep(arangoStep, updateStep, traversal);
+        }
+    }
+
+    /**
+     * Adds the property set by the step to {@code values} and {@code metaProperties}, overriding the ones set by the
+     * previous steps.
+     *
+     * @return {@code false} if the step is not supported
+     */
+    private static boolean addProperty(AddPropertyStepContract<?> step, boolean isVertex, Map<String, Object> values,
+                                       Map<String, Map<String, Object>> metaProperties, ArangoDBGraphConfig config) {
+        if (!(step.getKey() instanceof String) || step.getValue() == null || step.getValue() instanceof Traversal
+                || !step.getLabels().isEmpty() || !step.getLocalChildren().isEmpty() || !step.getScopeKeys().isEmpty()
+                || (step.getCardinality() != null && step.getCardinality() != VertexProperty.Cardinality.single)
+                || (!isVertex && (step.getCardinality() != null || !step.getProperties().isEmpty()))) {
+            return false;
+        }
+        String key = (String) step.getKey();
+        Map<String, Object> meta = new HashMap<>();
+        try {
+            ArangoDBUtil.validateProperty(key, step.getValue(), config);
+            for (Map.Entry<Object, List<Object>> e : step.getProperties().entrySet()) {
+                if (!(e.getKey() instanceof String) || e.getValue().size() != 1 || e.getValue().get(0) == null) {
+                    return false;
+                }
+                ArangoDBUtil.validateProperty((String) e.getKey(), e.getValue().get(0), config);
+                meta.put((String) e.getKey(), e.getValue().get(0));
+            }
+        } catch (IllegalArgumentException e) {
+            // left to the property() step, which will raise the error
+            return false;
+        }
+        values.remove(key);
+        values.put(key, step.getValue());
+        if (meta.isEmpty()) {
+            metaProperties.remove(key);
+        } else {
+            metaProperties.put(key, meta);
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+}
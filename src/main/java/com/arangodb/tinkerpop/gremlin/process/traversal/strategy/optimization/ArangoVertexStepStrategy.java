@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoEdgeVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ElementMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Set;
+
+public final class ArangoVertexStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final ArangoVertexStepStrategy INSTANCE = new ArangoVertexStepStrategy();
+
+    public static ArangoVertexStepStrategy instance() {
+        return INSTANCE;
+    }
+
+    // Ensure the singleton property is maintained during deserialization
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private ArangoVertexStepStrategy() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        for (final VertexStep originalVertexStep : TraversalHelper.getStepsOfClass(VertexStep.class, traversal)) {
+            final ArangoVertexStep<?> vertexStep = new ArangoVertexStep<>(originalVertexStep);
+            TraversalHelper.replaceStep(originalVertexStep, vertexStep, traversal);
+            Step<?, ?> currentStep = vertexStep.getNextStep();
+            while (currentStep instanceof HasStep || currentStep instanceof NoOpBarrierStep) {
+                if (currentStep instanceof HasStep) {
+                    for (final HasContainer hasContainer : ((HasContainerHolder<?, ?>) currentStep).getHasContainers()) {
+                        vertexStep.addHasContainer(hasContainer);
+                    }
+                    TraversalHelper.copyLabels(currentStep, currentStep.getPreviousStep(), false);
+                    traversal.removeStep(currentStep);
+                }
+                currentStep = currentStep.getNextStep();
+            }
+            if (vertexStep.getLabels().isEmpty() && vertexStep.getHasContainers().stream().allMatch(it -> it.getKey() != null)) {
+                Set<String> keys = ArangoStepStrategy.projectedKeys(currentStep);
+                if (keys != null) {
+                    vertexStep.setProjection(keys);
+                }
+            }
+        }
+        for (final EdgeVertexStep originalEdgeVertexStep : TraversalHelper.getStepsOfClass(EdgeVertexStep.class, traversal)) {
+            if (accessesVertexData(originalEdgeVertexStep.getNextStep())) {
+                TraversalHelper.replaceStep(originalEdgeVertexStep, new ArangoEdgeVertexStep(originalEdgeVertexStep), traversal);
+            }
+        }
+    }
+
+    /**
+     * @return whether {@code step} reads the label or the properties of the incoming vertices, in which case the
+     * vertex references returned by the previous edge vertex step are worth hydrating in batch
+     */
+    private static boolean accessesVertexData(Step<?, ?> step) {
+        while (step instanceof NoOpBarrierStep) {
+            step = step.getNextStep();
+        }
+        return step instanceof HasStep
+                || step instanceof LabelStep
+                || step instanceof PropertiesStep
+                || step instanceof PropertyMapStep
+                || step instanceof ElementMapStep;
+    }
+
+}
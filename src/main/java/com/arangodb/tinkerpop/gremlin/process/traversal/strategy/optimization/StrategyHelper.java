@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+
+/**
+ * Step navigation shared by the strategies replacing sequences of steps.
+ */
+final class StrategyHelper {
+
+    private StrategyHelper() {
+    }
+
+    /**
+     * @return the next step, skipping {@link NoOpBarrierStep}s
+     */
+    static Step<?, ?> nextStep(Step<?, ?> step) {
+        Step<?, ?> next = step.getNextStep();
+        while (next instanceof NoOpBarrierStep) {
+            next = next.getNextStep();
+        }
+        return next;
+    }
+
+    /**
+     * Removes the steps after {@code from}, up to and including {@code to}.
+     */
+    static void removeUntil(Step<?, ?> from, Step<?, ?> to, Traversal.Admin<?, ?> traversal) {
+        Step<?, ?> current = from.getNextStep();
+        while (current != to) {
+            Step<?, ?> next = current.getNextStep();
+            traversal.removeStep(current);
+            current = next;
+        }
+        traversal.removeStep(to);
+    }
+}
@@ -38,6 +38,8 @@ public class ArangoDBEdge extends ArangoDBSimpleElement<EdgeData> implements Edg
 
     @Override
     protected void doUpdate() {
+        // writes may replace the whole document, see WriteBuffer
+        ensureLoaded();
         graph.getClient().updateEdge(this);
     }
 
@@ -51,6 +53,11 @@ public class ArangoDBEdge extends ArangoDBSimpleElement<EdgeData> implements Edg
         return "e[" + id() + "][" + data.getFrom().getId() + "-" + label() + "->" + data.getTo().getId() + "]";
     }
 
+    @Override
+    protected EdgeData readData() {
+        return graph.getClient().readEdge(elementId());
+    }
+
     @Override
     public Vertex outVertex() {
         return vertex(data.getFrom());
@@ -61,13 +68,13 @@ public class ArangoDBEdge extends ArangoDBSimpleElement<EdgeData> implements Edg
         return vertex(data.getTo());
     }
 
+    /**
+     * @return a reference to the vertex with the given id, whose document is only read on first access to its label
+     * or properties
+     */
     private Vertex vertex(ElementId eId) {
         if (removed()) throw ArangoDBElement.Exceptions.elementAlreadyRemoved(id());
-        VertexData v = graph.getClient().readVertex(eId);
-        if (v == null) {
-            throw ArangoDBElement.Exceptions.elementAlreadyRemoved(eId.getId());
-        }
-        return new ArangoDBVertex(graph, v);
+        return new ArangoDBVertex(graph, VertexData.reference(eId));
     }
 
     @Override
@@ -51,6 +51,11 @@ public abstract class ArangoDBElement<P, D extends PropertiesContainer<P>> imple
 
     protected abstract String stringify();
 
+    /**
+     * @return the fully loaded data of the element, read from the database
+     */
+    protected abstract D readData();
+
     public D data() {
         return data;
     }
@@ -59,6 +64,20 @@ public abstract class ArangoDBElement<P, D extends PropertiesContainer<P>> imple
         return removed;
     }
 
+    /**
+     * Loads all the properties of a partially loaded element.
+     */
+    protected void ensureLoaded() {
+        if (data.isFullyLoaded()) {
+            return;
+        }
+        D fullData = readData();
+        if (fullData == null) {
+            throw Exceptions.elementAlreadyRemoved(id());
+        }
+        data.load(fullData);
+    }
+
     @Override
     public ArangoDBGraph graph() {
         return graph;
@@ -75,6 +94,9 @@ public abstract class ArangoDBElement<P, D extends PropertiesContainer<P>> imple
     public <V> Iterator<? extends Property<V>> properties(String... propertyKeys) {
         if (removed) return Collections.emptyIterator();
         Stream<String> ups;
+        if (propertyKeys == null || propertyKeys.length == 0 || !Arrays.stream(propertyKeys).allMatch(data::isLoaded)) {
+            ensureLoaded();
+        }
         if (propertyKeys == null || propertyKeys.length == 0) {
             ups = data.keySet().stream()
                     .filter(key -> !Graph.Hidden.isHidden(key));
@@ -23,7 +23,15 @@ import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.tinkerpop.gremlin.PackageVersion;
 import com.arangodb.tinkerpop.gremlin.persistence.*;
 import com.arangodb.tinkerpop.gremlin.process.traversal.step.AQLStartStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoCountStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoPathStepStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoAggregateStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDedupStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDropStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoUpdateStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoRepeatStepStrategy;
 import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoStepStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoVertexStepStrategy;
 import com.arangodb.tinkerpop.gremlin.utils.ArangoDBUtil;
 import org.apache.commons.configuration2.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
@@ -45,7 +53,8 @@ public class ArangoDBGraph implements Graph {
 
     static {
         TraversalStrategies.GlobalCache.registerStrategies(ArangoDBGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone()
-                .addStrategies(ArangoStepStrategy.instance()));
+                .addStrategies(ArangoStepStrategy.instance(), ArangoVertexStepStrategy.instance(), ArangoRepeatStepStrategy.instance(), ArangoCountStrategy.instance(), ArangoPathStepStrategy.instance(), ArangoAggregateStrategy.instance(),
+                ArangoDedupStrategy.instance(), ArangoDropStrategy.instance(), ArangoUpdateStrategy.instance()));
     }
 
     public static final String GRAPH_VARIABLES_COLLECTION = "TINKERPOP-GRAPH-VARIABLES";
@@ -93,6 +102,16 @@ public class ArangoDBGraph implements Graph {
             client.shutdown();
             throw new IllegalStateException("Graph [" + graph.name() + "] not found. To enable creation set: graph.enableDataDefinition=true");
         }
+        if (config.enableDataDefinition && config.enableLabelIndexes && config.graphType == ArangoDBGraphConfig.GraphType.SIMPLE) {
+            client.ensureLabelIndexes();
+        }
+        if (!config.indexes.isEmpty()) {
+            if (config.enableDataDefinition) {
+                client.ensureIndexes();
+            } else {
+                ArangoDBUtil.checkExistingIndexes(client.getIndexes(), config);
+            }
+        }
 
         client.ensureVariablesDataCollection();
         VariablesData variablesData = Optional
@@ -121,7 +140,6 @@ public class ArangoDBGraph implements Graph {
         }
 
         vertex.doInsert();
-        ElementHelper.attachProperties(vertex, keyValues);
         return vertex;
     }
 
@@ -130,6 +148,17 @@ public class ArangoDBGraph implements Graph {
         client.shutdown();
     }
 
+    /**
+     * Send all the buffered writes to the server. This is a no-op unless write batching is enabled, see
+     * {@link ArangoDBGraphConfig#KEY_ENABLE_WRITE_BATCHING}.
+     *
+     * @throws com.arangodb.tinkerpop.gremlin.client.BatchWriteException if some of the writes buffered by the current
+     *                                                                    thread failed
+     */
+    public void flush() {
+        client.flush();
+    }
+
 
     @Override
     public GraphComputer compute() throws IllegalArgumentException {
@@ -290,13 +319,15 @@ public class ArangoDBGraph implements Graph {
         String label = ElementHelper.getLabelValue(keyValues).orElse(null);
         Object id = ElementHelper.getIdValue(keyValues).orElse(null);
         ElementId elementId = idFactory.createVertexId(label, id);
+        String inferredLabel = label != null ? label : Optional.ofNullable(elementId.getLabel()).orElse(Vertex.DEFAULT_LABEL);
+        VertexData data = new VertexData(inferredLabel, elementId);
         for (int i = 0; i < keyValues.length; i = i + 2) {
             if (keyValues[i] instanceof String) {
                 ArangoDBUtil.validateProperty((String) keyValues[i], keyValues[i + 1], config);
+                data.put((String) keyValues[i], new VertexPropertyData(keyValues[i + 1]));
             }
         }
-        String inferredLabel = label != null ? label : Optional.ofNullable(elementId.getLabel()).orElse(Vertex.DEFAULT_LABEL);
-        return createVertex(new VertexData(inferredLabel, elementId));
+        return createVertex(data);
     }
 
     public ArangoDBVertex createVertex(VertexData data) {
@@ -310,7 +341,14 @@ public class ArangoDBGraph implements Graph {
         ElementId elementId = idFactory.createEdgeId(label, id);
         ElementId outVertexId = idFactory.parseVertexId(outVertex.id());
         ElementId inVertexId = idFactory.parseVertexId(inVertex.id());
-        return createEdge(new EdgeData(label, elementId, outVertexId, inVertexId));
+        EdgeData data = new EdgeData(label, elementId, outVertexId, inVertexId);
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            if (keyValues[i] instanceof String) {
+                ArangoDBUtil.validateProperty((String) keyValues[i], keyValues[i + 1], config);
+                data.put((String) keyValues[i], keyValues[i + 1]);
+            }
+        }
+        return createEdge(data);
     }
 
     public ArangoDBEdge createEdge(EdgeData data) {
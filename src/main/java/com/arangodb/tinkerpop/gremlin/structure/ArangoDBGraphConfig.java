@@ -18,6 +18,10 @@ package com.arangodb.tinkerpop.gremlin.structure;
 
 import com.arangodb.config.ArangoConfigProperties;
 import com.arangodb.entity.EdgeDefinition;
+import com.arangodb.entity.IndexEntity;
+import com.arangodb.entity.IndexType;
+import com.arangodb.entity.InvertedIndexEntity;
+import com.arangodb.entity.InvertedIndexField;
 import com.arangodb.tinkerpop.gremlin.utils.Fields;
 import org.apache.commons.configuration2.Configuration;
 import org.apache.commons.configuration2.ConfigurationConverter;
@@ -43,8 +47,28 @@ public class ArangoDBGraphConfig {
     public static final String KEY_GRAPH_TYPE = "graph.type";
     public static final String KEY_GRAPH_ORPHAN_COLLECTIONS = "graph.orphanCollections";
     public static final String KEY_GRAPH_EDGE_DEFINITIONS = "graph.edgeDefinitions";
+    public static final String KEY_GRAPH_INDEXES = "graph.indexes";
     public static final String KEY_ENABLE_DATA_DEFINITION = "graph.enableDataDefinition";
     public static final String KEY_LABEL_FIELD = "graph.labelField";
+    public static final String KEY_ENABLE_WRITE_BATCHING = "graph.enableWriteBatching";
+    public static final String KEY_WRITE_BATCH_MAX_SIZE = "graph.writeBatch.maxSize";
+    public static final String KEY_WRITE_BATCH_MAX_DELAY = "graph.writeBatch.maxDelay";
+    public static final String KEY_WRITE_BATCH_MAX_IN_FLIGHT = "graph.writeBatch.maxInFlight";
+    public static final String KEY_VERTEX_STEP_BATCH_SIZE = "graph.vertexStep.batchSize";
+    public static final String KEY_ENABLE_LABEL_INDEXES = "graph.enableLabelIndexes";
+    public static final String KEY_SCAN_PARALLELISM = "graph.scan.parallelism";
+    public static final String KEY_QUERY_BATCH_SIZE = "graph.query.batchSize";
+    public static final String KEY_QUERY_STREAM = "graph.query.stream";
+    public static final String KEY_QUERY_TTL = "graph.query.ttl";
+    public static final String KEY_QUERY_MEMORY_LIMIT = "graph.query.memoryLimit";
+    public static final String KEY_QUERY_MAX_RUNTIME = "graph.query.maxRuntime";
+    public static final String KEY_QUERY_FILL_BLOCK_CACHE = "graph.query.fillBlockCache";
+    public static final String KEY_QUERY_ALLOW_DIRTY_READ = "graph.query.allowDirtyRead";
+    public static final String KEY_CACHE_MAX_SIZE = "graph.cache.maxSize";
+    public static final String KEY_CACHE_TTL = "graph.cache.ttl";
+    public static final String KEY_CACHE_REVALIDATE = "graph.cache.revalidate";
+    public static final String KEY_REPEAT_MAX_DEPTH = "graph.repeat.maxDepth";
+    public static final String KEY_ENABLE_SORT_PUSHDOWN = "graph.enableSortPushdown";
 
     // default values
     public static final String DEFAULT_DB_NAME = "_system";
@@ -52,6 +76,18 @@ public class ArangoDBGraphConfig {
     public static final GraphType DEFAULT_GRAPH_TYPE = GraphType.SIMPLE;
     public static final boolean DEFAULT_ENABLE_DATA_DEFINITION = false;
     public static final String DEFAULT_LABEL_FIELD = "_label";
+    public static final boolean DEFAULT_ENABLE_WRITE_BATCHING = false;
+    public static final int DEFAULT_WRITE_BATCH_MAX_SIZE = 1_000;
+    public static final long DEFAULT_WRITE_BATCH_MAX_DELAY = 100;
+    public static final int DEFAULT_WRITE_BATCH_MAX_IN_FLIGHT = 1;
+    public static final int DEFAULT_VERTEX_STEP_BATCH_SIZE = 100;
+    public static final boolean DEFAULT_ENABLE_LABEL_INDEXES = false;
+    public static final int DEFAULT_SCAN_PARALLELISM = 1;
+    public static final int DEFAULT_CACHE_MAX_SIZE = 0;
+    public static final long DEFAULT_CACHE_TTL = 0;
+    public static final boolean DEFAULT_CACHE_REVALIDATE = false;
+    public static final int DEFAULT_REPEAT_MAX_DEPTH = 0;
+    public static final boolean DEFAULT_ENABLE_SORT_PUSHDOWN = false;
 
     public final Configuration configuration;
     public final String dbName;
@@ -59,11 +95,32 @@ public class ArangoDBGraphConfig {
     public final GraphType graphType;
     public final Set<String> orphanCollections;
     public final Set<EdgeDef> edgeDefinitions;
+    public final Set<IndexDef> indexes;
     public final Set<String> vertices;
     public final Set<String> edges;
     public final ArangoConfigProperties driverConfig;
     public final boolean enableDataDefinition;
     public final String labelField;
+    public final boolean enableWriteBatching;
+    public final int writeBatchMaxSize;
+    public final long writeBatchMaxDelay;
+    public final int writeBatchMaxInFlight;
+    public final int vertexStepBatchSize;
+    public final boolean enableLabelIndexes;
+    public final int scanParallelism;
+    // cursor options of the internal queries, null values are left to the server defaults
+    public final Integer queryBatchSize;
+    public final Boolean queryStream;
+    public final Integer queryTtl;
+    public final Long queryMemoryLimit;
+    public final Double queryMaxRuntime;
+    public final Boolean queryFillBlockCache;
+    public final Boolean queryAllowDirtyRead;
+    public final int cacheMaxSize;
+    public final long cacheTtl;
+    public final boolean cacheRevalidate;
+    public final int repeatMaxDepth;
+    public final boolean enableSortPushdown;
 
     public ArangoDBGraphConfig(Configuration configuration) {
         this.configuration = configuration;
@@ -75,9 +132,29 @@ public class ArangoDBGraphConfig {
         edgeDefinitions = computeEdgeDefinitions(conf.getList(String.class, KEY_GRAPH_EDGE_DEFINITIONS, Collections.emptyList()));
         vertices = computeVertices();
         edges = edgeDefinitions.stream().map(EdgeDef::getCollection).collect(Collectors.toSet());
+        indexes = computeIndexes(conf.getList(String.class, KEY_GRAPH_INDEXES, Collections.emptyList()));
         driverConfig = ArangoConfigProperties.fromProperties(ConfigurationConverter.getProperties(conf.subset(KEY_DRIVER_PREFIX)), null);
         enableDataDefinition = conf.getBoolean(KEY_ENABLE_DATA_DEFINITION, DEFAULT_ENABLE_DATA_DEFINITION);
         labelField = conf.getString(KEY_LABEL_FIELD, DEFAULT_LABEL_FIELD);
+        enableWriteBatching = conf.getBoolean(KEY_ENABLE_WRITE_BATCHING, DEFAULT_ENABLE_WRITE_BATCHING);
+        writeBatchMaxSize = conf.getInt(KEY_WRITE_BATCH_MAX_SIZE, DEFAULT_WRITE_BATCH_MAX_SIZE);
+        writeBatchMaxDelay = conf.getLong(KEY_WRITE_BATCH_MAX_DELAY, DEFAULT_WRITE_BATCH_MAX_DELAY);
+        writeBatchMaxInFlight = conf.getInt(KEY_WRITE_BATCH_MAX_IN_FLIGHT, DEFAULT_WRITE_BATCH_MAX_IN_FLIGHT);
+        vertexStepBatchSize = conf.getInt(KEY_VERTEX_STEP_BATCH_SIZE, DEFAULT_VERTEX_STEP_BATCH_SIZE);
+        enableLabelIndexes = conf.getBoolean(KEY_ENABLE_LABEL_INDEXES, DEFAULT_ENABLE_LABEL_INDEXES);
+        scanParallelism = conf.getInt(KEY_SCAN_PARALLELISM, DEFAULT_SCAN_PARALLELISM);
+        queryBatchSize = conf.getInteger(KEY_QUERY_BATCH_SIZE, null);
+        queryStream = conf.getBoolean(KEY_QUERY_STREAM, null);
+        queryTtl = conf.getInteger(KEY_QUERY_TTL, null);
+        queryMemoryLimit = conf.getLong(KEY_QUERY_MEMORY_LIMIT, null);
+        queryMaxRuntime = conf.getDouble(KEY_QUERY_MAX_RUNTIME, null);
+        queryFillBlockCache = conf.getBoolean(KEY_QUERY_FILL_BLOCK_CACHE, null);
+        queryAllowDirtyRead = conf.getBoolean(KEY_QUERY_ALLOW_DIRTY_READ, null);
+        cacheMaxSize = conf.getInt(KEY_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+        cacheTtl = conf.getLong(KEY_CACHE_TTL, DEFAULT_CACHE_TTL);
+        cacheRevalidate = conf.getBoolean(KEY_CACHE_REVALIDATE, DEFAULT_CACHE_REVALIDATE);
+        repeatMaxDepth = conf.getInt(KEY_REPEAT_MAX_DEPTH, DEFAULT_REPEAT_MAX_DEPTH);
+        enableSortPushdown = conf.getBoolean(KEY_ENABLE_SORT_PUSHDOWN, DEFAULT_ENABLE_SORT_PUSHDOWN);
         validate();
     }
 
@@ -89,6 +166,11 @@ public class ArangoDBGraphConfig {
         validateName(graphName);
         vertices.forEach(this::validateName);
         edges.forEach(this::validateName);
+        for (IndexDef index : indexes) {
+            if (!vertices.contains(index.getCollection()) && !edges.contains(index.getCollection())) {
+                throw new IllegalArgumentException("Index collection is not part of the graph: " + index);
+            }
+        }
         if (graphType == GraphType.SIMPLE) {
             if (vertices.size() > 1) {
                 throw new IllegalArgumentException("Simple graph allows only 1 vertex collection");
@@ -101,6 +183,42 @@ public class ArangoDBGraphConfig {
         if (labelField.isEmpty()) {
             throw new IllegalArgumentException("Label field must not be empty");
         }
+        if (writeBatchMaxSize < 1) {
+            throw new IllegalArgumentException("Write batch max size must be greater than 0");
+        }
+        if (writeBatchMaxDelay < 0) {
+            throw new IllegalArgumentException("Write batch max delay must not be negative");
+        }
+        if (writeBatchMaxInFlight < 1) {
+            throw new IllegalArgumentException("Write batch max in-flight must be greater than 0");
+        }
+        if (vertexStepBatchSize < 1) {
+            throw new IllegalArgumentException("Vertex step batch size must be greater than 0");
+        }
+        if (scanParallelism < 1) {
+            throw new IllegalArgumentException("Scan parallelism must be greater than 0");
+        }
+        if (queryBatchSize != null && queryBatchSize < 1) {
+            throw new IllegalArgumentException("Query batch size must be greater than 0");
+        }
+        if (queryTtl != null && queryTtl < 1) {
+            throw new IllegalArgumentException("Query ttl must be greater than 0");
+        }
+        if (queryMemoryLimit != null && queryMemoryLimit < 0) {
+            throw new IllegalArgumentException("Query memory limit must not be negative");
+        }
+        if (queryMaxRuntime != null && queryMaxRuntime < 0) {
+            throw new IllegalArgumentException("Query max runtime must not be negative");
+        }
+        if (cacheMaxSize < 0) {
+            throw new IllegalArgumentException("Cache max size must not be negative");
+        }
+        if (cacheTtl < 0) {
+            throw new IllegalArgumentException("Cache ttl must not be negative");
+        }
+        if (repeatMaxDepth < 0) {
+            throw new IllegalArgumentException("Repeat max depth must not be negative");
+        }
     }
 
     private Set<String> computeOrphanCollections(List<String> orphanCollections) {
@@ -145,6 +263,12 @@ public class ArangoDBGraphConfig {
                 .to(to);
     }
 
+    private Set<IndexDef> computeIndexes(List<String> indexes) {
+        return indexes.stream()
+                .map(IndexDef::parse)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     private Set<String> computeVertices() {
         Set<String> res = edgeDefinitions.stream()
                 .flatMap(it -> Stream.concat(it.getFrom().stream(), it.getTo().stream()))
@@ -172,6 +296,7 @@ public class ArangoDBGraphConfig {
                 ", edges=" + edges +
                 ", edgeDefinitions=" + edgeDefinitions +
                 ", orphanCollections=" + orphanCollections +
+                ", indexes=" + indexes +
                 ", driverConfig=" + driverConfig +
                 '}';
     }
@@ -261,4 +386,166 @@ public class ArangoDBGraphConfig {
         }
     }
 
+    /**
+     * Definition of a secondary index, in the form {@code <collection>:<type>[<field>,...]<option>*}, where
+     * {@code <type>} is one of {@code persistent}, {@code ttl} or {@code inverted} and each option is one of
+     * {@code :unique}, {@code :sparse} (persistent indexes only) or {@code :expireAfter=<seconds>} (TTL indexes
+     * only), e.g.:
+     * <ul>
+     *     <li>{@code person:persistent[lastName,firstName]}</li>
+     *     <li>{@code person:persistent[email]:unique:sparse}</li>
+     *     <li>{@code session:ttl[createdAt]:expireAfter=3600}</li>
+     *     <li>{@code post:inverted[title,body]}</li>
+     * </ul>
+     */
+    public static final class IndexDef {
+        private static final Pattern PATTERN = Pattern.compile("^(.*):(persistent|ttl|inverted)\\[(.*)]((?::[^:]+)*)$");
+
+        public enum Type {
+            PERSISTENT, TTL, INVERTED
+        }
+
+        private final String collection;
+        private final Type type;
+        private final List<String> fields;
+        private boolean unique;
+        private boolean sparse;
+        private Integer expireAfter;
+
+        public static IndexDef persistent(String collection, String... fields) {
+            return new IndexDef(collection, Type.PERSISTENT, Arrays.asList(fields));
+        }
+
+        public static IndexDef ttl(String collection, String field, int expireAfter) {
+            IndexDef res = new IndexDef(collection, Type.TTL, Collections.singletonList(field));
+            res.expireAfter = expireAfter;
+            return res;
+        }
+
+        public static IndexDef inverted(String collection, String... fields) {
+            return new IndexDef(collection, Type.INVERTED, Arrays.asList(fields));
+        }
+
+        /**
+         * @return the definition of an existing persistent or TTL index, or {@code null} for other index types
+         */
+        public static IndexDef of(String collection, IndexEntity entity) {
+            if (entity.getType() == IndexType.persistent) {
+                IndexDef res = persistent(collection, entity.getFields().toArray(new String[0]));
+                res.unique = Boolean.TRUE.equals(entity.getUnique());
+                res.sparse = Boolean.TRUE.equals(entity.getSparse());
+                return res;
+            } else if (entity.getType() == IndexType.ttl) {
+                return ttl(collection, entity.getFields().iterator().next(), entity.getExpireAfter());
+            }
+            return null;
+        }
+
+        public static IndexDef of(String collection, InvertedIndexEntity entity) {
+            return inverted(collection, entity.getFields().stream()
+                    .map(InvertedIndexField::getName)
+                    .toArray(String[]::new));
+        }
+
+        static IndexDef parse(String index) {
+            Matcher m = PATTERN.matcher(index.replaceAll("\\s+", ""));
+            if (!m.find() || m.group(1).isEmpty() || m.group(3).isEmpty()) {
+                throw new IllegalArgumentException("Invalid index definition: " + index);
+            }
+            IndexDef res = new IndexDef(m.group(1), Type.valueOf(m.group(2).toUpperCase()), Arrays.asList(m.group(3).split(",")));
+            for (String option : m.group(4).split(":")) {
+                if (option.isEmpty()) {
+                    continue;
+                }
+                if (option.equals("unique") && res.type == Type.PERSISTENT) {
+                    res.unique = true;
+                } else if (option.equals("sparse") && res.type == Type.PERSISTENT) {
+                    res.sparse = true;
+                } else if (option.startsWith("expireAfter=") && res.type == Type.TTL) {
+                    try {
+                        res.expireAfter = Integer.parseInt(option.substring("expireAfter=".length()));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid index definition: " + index, e);
+                    }
+                } else {
+                    throw new IllegalArgumentException("Invalid index definition: " + index);
+                }
+            }
+            if (res.type == Type.TTL && (res.fields.size() != 1 || res.expireAfter == null || res.expireAfter < 0)) {
+                throw new IllegalArgumentException("TTL index requires 1 field and a non-negative expireAfter: " + index);
+            }
+            return res;
+        }
+
+        private IndexDef(String collection, Type type, List<String> fields) {
+            this.collection = collection;
+            this.type = type;
+            this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        }
+
+        /**
+         * Applies only to persistent indexes.
+         */
+        public IndexDef unique() {
+            unique = true;
+            return this;
+        }
+
+        /**
+         * Applies only to persistent indexes.
+         */
+        public IndexDef sparse() {
+            sparse = true;
+            return this;
+        }
+
+        public String getCollection() {
+            return collection;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public List<String> getFields() {
+            return fields;
+        }
+
+        public boolean isUnique() {
+            return unique;
+        }
+
+        public boolean isSparse() {
+            return sparse;
+        }
+
+        public Integer getExpireAfter() {
+            return expireAfter;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder()
+                    .append(collection).append(":").append(type.name().toLowerCase())
+                    .append("[").append(String.join(",", fields)).append("]");
+            if (unique) sb.append(":unique");
+            if (sparse) sb.append(":sparse");
+            if (expireAfter != null) sb.append(":expireAfter=").append(expireAfter);
+            return sb.toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof IndexDef)) return false;
+            IndexDef indexDef = (IndexDef) o;
+            return unique == indexDef.unique && sparse == indexDef.sparse && Objects.equals(collection, indexDef.collection)
+                    && type == indexDef.type && Objects.equals(fields, indexDef.fields) && Objects.equals(expireAfter, indexDef.expireAfter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(collection, type, fields, unique, sparse, expireAfter);
+        }
+    }
+
 }
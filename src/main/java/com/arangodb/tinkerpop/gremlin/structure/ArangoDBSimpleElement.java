@@ -35,6 +35,7 @@ public abstract class ArangoDBSimpleElement<D extends PropertiesContainer<Object
     public <V> Property<V> property(String key, V value) {
         if (removed()) throw Exceptions.elementAlreadyRemoved(id());
         ArangoDBUtil.validateProperty(key, value, graph.config);
+        ensureLoaded();
         data().put(key, value);
         doUpdate();
         return createProperty(key, value);
@@ -42,6 +43,7 @@ public abstract class ArangoDBSimpleElement<D extends PropertiesContainer<Object
 
     void removeProperty(String key) {
         if (removed()) throw Exceptions.elementAlreadyRemoved(id());
+        ensureLoaded();
         data.remove(key);
         doUpdate();
     }
@@ -51,19 +51,20 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
         if (cardinality != VertexProperty.Cardinality.single)
             throw VertexProperty.Exceptions.multiPropertiesNotSupported();
 
-        VertexProperty<?> property = property(key);
-        if (property.isPresent()) {
-            property.remove();
+        ArangoDBUtil.validateProperty(key, value, graph.config);
+        VertexPropertyData prop = new VertexPropertyData(value);
+        for (int i = 0; i < keyValues.length; i = i + 2) {
+            if (keyValues[i] instanceof String) {
+                ArangoDBUtil.validateProperty((String) keyValues[i], keyValues[i + 1], graph.config);
+                prop.put((String) keyValues[i], keyValues[i + 1]);
+            }
         }
 
-        VertexPropertyData prop = new VertexPropertyData(value);
-        ArangoDBUtil.validateProperty(key, value, graph.config);
+        // replaces the existing property, if any, and persists it together with its meta-properties
+        ensureLoaded();
         data.put(key, prop);
         doUpdate();
-
-        ArangoDBVertexProperty<V> vertexProperty = new ArangoDBVertexProperty<>(key, prop, this);
-        ElementHelper.attachProperties(vertexProperty, keyValues);
-        return vertexProperty;
+        return new ArangoDBVertexProperty<>(key, prop, this);
     }
 
     @Override
@@ -76,13 +77,12 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
         }
 
         edge.doInsert();
-        ElementHelper.attachProperties(edge, keyValues);
         return edge;
     }
 
     @Override
     protected void doRemove() {
-        edges(Direction.BOTH).forEachRemaining(Edge::remove);
+        // the incident edges are removed together with the vertex
         graph.getClient().deleteVertex(this);
     }
 
@@ -91,6 +91,19 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
         return StringFactory.vertexString(this);
     }
 
+    @Override
+    public String label() {
+        if (!data.isLabelLoaded()) {
+            ensureLoaded();
+        }
+        return data.getLabel();
+    }
+
+    @Override
+    protected VertexData readData() {
+        return graph.getClient().readVertex(elementId());
+    }
+
     @Override
     protected <V> Property<V> createProperty(String key, VertexPropertyData value) {
         return new ArangoDBVertexProperty<>(key, value, this);
@@ -129,6 +142,8 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
 
     @Override
     public void doUpdate() {
+        // writes may replace the whole document, see WriteBuffer
+        ensureLoaded();
         graph.getClient().updateVertex(this);
     }
 
@@ -149,6 +164,7 @@ public class ArangoDBVertex extends ArangoDBElement<VertexPropertyData, VertexDa
 
     void removeProperty(ArangoDBVertexProperty<?> prop) {
         if (removed()) throw ArangoDBElement.Exceptions.elementAlreadyRemoved(id());
+        ensureLoaded();
         data.remove(prop.key());
         doUpdate();
     }
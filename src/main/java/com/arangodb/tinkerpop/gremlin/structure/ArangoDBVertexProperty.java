@@ -65,6 +65,12 @@ public class ArangoDBVertexProperty<P> extends ArangoDBSimpleElement<VertexPrope
         return Objects.hash(key, data.getValue(), vertex.id());
     }
 
+    @Override
+    protected VertexPropertyData readData() {
+        // meta-properties are always loaded together with their vertex property
+        return data;
+    }
+
     @Override
     protected void doUpdate() {
         vertex.doUpdate();
@@ -73,7 +79,6 @@ public class ArangoDBVertexProperty<P> extends ArangoDBSimpleElement<VertexPrope
     @Override
     protected void doRemove() {
         vertex.removeProperty(this);
-        vertex.doUpdate();
     }
 
     @Override
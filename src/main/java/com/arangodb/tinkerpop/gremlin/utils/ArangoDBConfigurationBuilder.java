@@ -141,6 +141,20 @@ public class ArangoDBConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Add secondary indexes. The indexes are created on startup if data definition is enabled, otherwise their
+     * existence is checked.
+     *
+     * @param indexes the index definitions
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder indexes(IndexDef... indexes) {
+        for (IndexDef index : indexes) {
+            addProperty(KEY_GRAPH_INDEXES, index.toString());
+        }
+        return this;
+    }
+
     /**
      * Add hosts.
      *
@@ -287,6 +301,246 @@ public class ArangoDBConfigurationBuilder {
         return setProperty(KEY_LABEL_FIELD, labelField);
     }
 
+    /**
+     * Enable buffered (write-behind) persistence of vertices and edges.
+     * When enabled, inserts, updates and deletes are collected and sent to the server in multi-document requests.
+     * Pending writes are flushed before any read, on {@link ArangoDBGraph#flush()} and on {@link ArangoDBGraph#close()}.
+     * Failed writes are reported by the next {@link ArangoDBGraph#flush()} of the thread that made them. New edges are
+     * checked against the edge definitions of the graph, but the existence of their endpoints is not checked.
+     * Default: {@code false}
+     *
+     * @param enableWriteBatching true to enable write batching, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder enableWriteBatching(boolean enableWriteBatching) {
+        return setProperty(KEY_ENABLE_WRITE_BATCHING, enableWriteBatching);
+    }
+
+    /**
+     * Sets the maximum number of pending writes, after which a batch is sent to the server.
+     * Default: {@code 1000}
+     *
+     * @param maxSize the maximum batch size
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder writeBatchMaxSize(int maxSize) {
+        return setProperty(KEY_WRITE_BATCH_MAX_SIZE, maxSize);
+    }
+
+    /**
+     * Sets the maximum time in milliseconds a pending write is buffered, before being sent to the server.
+     * A value of {@code 0} disables time based flushing.
+     * Default: {@code 100}
+     *
+     * @param maxDelay the maximum delay in milliseconds
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder writeBatchMaxDelay(long maxDelay) {
+        return setProperty(KEY_WRITE_BATCH_MAX_DELAY, maxDelay);
+    }
+
+    /**
+     * Sets the maximum number of batches being sent to the server concurrently.
+     * Default: {@code 1}
+     *
+     * @param maxInFlight the maximum number of in-flight batches
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder writeBatchMaxInFlight(int maxInFlight) {
+        return setProperty(KEY_WRITE_BATCH_MAX_IN_FLIGHT, maxInFlight);
+    }
+
+    /**
+     * Sets the maximum number of traversers expanded together by adjacent vertices and incident edges steps (e.g.
+     * {@code out()}, {@code inE()}), with a single query.
+     * Default: {@code 100}
+     *
+     * @param batchSize the maximum number of traversers per query
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder vertexStepBatchSize(int batchSize) {
+        return setProperty(KEY_VERTEX_STEP_BATCH_SIZE, batchSize);
+    }
+
+    /**
+     * Enable label indexes, when using {@code GraphType.SIMPLE} graph type: a persistent index on the label field of
+     * vertices and vertex-centric persistent indexes on {@code [_from, <labelField>]} and {@code [_to, <labelField>]}
+     * of edges. The indexes are created on startup if data definition is enabled, and traversals filtering edges by
+     * label hint the vertex-centric indexes.
+     * Default: {@code false}
+     *
+     * @param enableLabelIndexes true to enable label indexes, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder enableLabelIndexes(boolean enableLabelIndexes) {
+        return setProperty(KEY_ENABLE_LABEL_INDEXES, enableLabelIndexes);
+    }
+
+    /**
+     * Sets the number of collections scanned concurrently by full scans of multiple collections (e.g. {@code g.V()}
+     * on {@code GraphType.COMPLEX} graphs). Each collection is read with its own streaming cursor and the results
+     * are returned in collection order: with a value greater than {@code 1}, the cursors of the following
+     * collections are opened in advance, while the current one is being consumed.
+     * Default: {@code 1}
+     *
+     * @param parallelism the maximum number of cursors opened concurrently
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder scanParallelism(int parallelism) {
+        return setProperty(KEY_SCAN_PARALLELISM, parallelism);
+    }
+
+    /**
+     * Sets the maximum number of documents transferred per round trip by the cursors of the internal queries. Can be
+     * overridden per traversal with {@code g.with("arangodb.batchSize", ...)}.
+     * Default: server default
+     *
+     * @param batchSize the cursor batch size
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryBatchSize(int batchSize) {
+        return setProperty(KEY_QUERY_BATCH_SIZE, batchSize);
+    }
+
+    /**
+     * Enable streaming cursors for the internal queries, which compute the results lazily on the server side instead
+     * of materializing them before returning the first batch. Full scans use streaming cursors unless this is
+     * explicitly set to {@code false}. Can be overridden per traversal with {@code g.with("arangodb.stream", ...)}.
+     * Default: server default
+     *
+     * @param stream true to enable streaming cursors, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryStream(boolean stream) {
+        return setProperty(KEY_QUERY_STREAM, stream);
+    }
+
+    /**
+     * Sets the time-to-live in seconds of the cursors of the internal queries, after which unconsumed cursors are
+     * removed on the server side. Can be overridden per traversal with {@code g.with("arangodb.ttl", ...)}.
+     * Default: server default
+     *
+     * @param ttl the cursor time-to-live in seconds
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryTtl(int ttl) {
+        return setProperty(KEY_QUERY_TTL, ttl);
+    }
+
+    /**
+     * Sets the maximum memory in bytes that each internal query is allowed to use, {@code 0} means no limit. Can be
+     * overridden per traversal with {@code g.with("arangodb.memoryLimit", ...)}.
+     * Default: server default
+     *
+     * @param memoryLimit the memory limit in bytes
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryMemoryLimit(long memoryLimit) {
+        return setProperty(KEY_QUERY_MEMORY_LIMIT, memoryLimit);
+    }
+
+    /**
+     * Sets the maximum runtime in seconds of each internal query, {@code 0} means no limit. Can be overridden per
+     * traversal with {@code g.with("arangodb.maxRuntime", ...)}.
+     * Default: server default
+     *
+     * @param maxRuntime the max runtime in seconds
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryMaxRuntime(double maxRuntime) {
+        return setProperty(KEY_QUERY_MAX_RUNTIME, maxRuntime);
+    }
+
+    /**
+     * Sets whether the data read by the internal queries is added to the RocksDB block cache. Can be overridden per
+     * traversal with {@code g.with("arangodb.fillBlockCache", ...)}.
+     * Default: server default
+     *
+     * @param fillBlockCache true to fill the block cache, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryFillBlockCache(boolean fillBlockCache) {
+        return setProperty(KEY_QUERY_FILL_BLOCK_CACHE, fillBlockCache);
+    }
+
+    /**
+     * Allow the internal queries to be served by followers in cluster deployments, possibly returning outdated data.
+     * Can be overridden per traversal with {@code g.with("arangodb.allowDirtyRead", ...)}.
+     * Default: {@code false}
+     *
+     * @param allowDirtyRead true to allow dirty reads, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder queryAllowDirtyRead(boolean allowDirtyRead) {
+        return setProperty(KEY_QUERY_ALLOW_DIRTY_READ, allowDirtyRead);
+    }
+
+    /**
+     * Sets the max number of vertex and edge documents kept in the element cache, {@code 0} disables the cache. The
+     * cache serves the reads of elements by id, evicting the least recently used entries when full, and is
+     * invalidated by the writes of this graph instance.
+     * Default: {@code 0}
+     *
+     * @param maxSize the max number of cached documents
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder cacheMaxSize(int maxSize) {
+        return setProperty(KEY_CACHE_MAX_SIZE, maxSize);
+    }
+
+    /**
+     * Sets the time in milliseconds after which cached documents expire, {@code 0} means no expiration.
+     * Default: {@code 0}
+     *
+     * @param ttl the time-to-live of cached documents in milliseconds
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder cacheTtl(long ttl) {
+        return setProperty(KEY_CACHE_TTL, ttl);
+    }
+
+    /**
+     * Enable the revalidation of cached documents: on each read, the revisions of the cached documents are checked
+     * against the current ones with a single query, and the changed documents are read again. This detects changes
+     * made by other clients, at the cost of a lightweight query per read.
+     * Default: {@code false}
+     *
+     * @param revalidate true to enable revalidation, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder cacheRevalidate(boolean revalidate) {
+        return setProperty(KEY_CACHE_REVALIDATE, revalidate);
+    }
+
+    /**
+     * Sets the max depth of the AQL traversals executing {@code repeat()} steps terminated by {@code until()}, e.g.
+     * {@code repeat(out()).until(has("name", "marko"))}. Such steps have no upper bound on the number of iterations,
+     * therefore they are executed with a single AQL traversal only if a max depth is set, {@code 0} disables it.
+     * Note that vertices farther than the max depth are not returned. {@code repeat()} steps bounded by
+     * {@code times()} are always executed with a single AQL traversal.
+     * Default: {@code 0}
+     *
+     * @param maxDepth the max depth
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder repeatMaxDepth(int maxDepth) {
+        return setProperty(KEY_REPEAT_MAX_DEPTH, maxDepth);
+    }
+
+    /**
+     * Enable the pushdown of {@code order().by()} after start steps into AQL {@code SORT}, also combined with the
+     * following {@code limit()} or {@code range()} for top-k queries. Strings are then ordered according to the ICU
+     * collation of the database, e.g. {@code "a" < "b" < "B"}, instead of comparing their chars as Gremlin does,
+     * e.g. {@code "B" < "a" < "b"}. Numbers and values of different types are ordered as by Gremlin.
+     * Default: {@code false}
+     *
+     * @param enableSortPushdown true to enable sort pushdown, false otherwise
+     * @return this
+     */
+    public ArangoDBConfigurationBuilder enableSortPushdown(boolean enableSortPushdown) {
+        return setProperty(KEY_ENABLE_SORT_PUSHDOWN, enableSortPushdown);
+    }
+
     /**
      * Retrieves the current BaseConfiguration instance.
      *
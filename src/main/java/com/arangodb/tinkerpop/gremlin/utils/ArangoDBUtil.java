@@ -57,6 +57,16 @@ public class ArangoDBUtil {
         }
     }
 
+    public static void checkExistingIndexes(Set<ArangoDBGraphConfig.IndexDef> dbIndexes, ArangoDBGraphConfig config) {
+        Set<ArangoDBGraphConfig.IndexDef> missing = config.indexes.stream()
+                .filter(it -> !dbIndexes.contains(it))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Indexes not found: " + missing
+                    + ". To enable creation set: graph.enableDataDefinition=true");
+        }
+    }
+
     public static void validateProperty(final String key, final Object value, ArangoDBGraphConfig config) {
         ElementHelper.validateProperty(key, value);
         if (config.isReservedField(key)) {
@@ -28,6 +28,7 @@ import org.junit.Before;
 
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
 
 public abstract class AbstractTest {
     protected TestGraphClient client;
@@ -75,6 +76,19 @@ public abstract class AbstractTest {
         return g;
     }
 
+    /**
+     * Waits until the condition holds, failing after 5 seconds.
+     */
+    protected static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+
     protected String getName(Configuration conf) {
         return new ArangoDBGraphConfig(conf).graphName;
     }
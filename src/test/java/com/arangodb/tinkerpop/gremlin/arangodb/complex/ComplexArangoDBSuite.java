@@ -17,6 +17,7 @@
 package com.arangodb.tinkerpop.gremlin.arangodb.complex;
 
 import com.arangodb.tinkerpop.gremlin.arangodb.process.filter.*;
+import com.arangodb.tinkerpop.gremlin.arangodb.process.traversal.*;
 import com.arangodb.tinkerpop.gremlin.arangodb.simple.DataTypesTest;
 import org.apache.tinkerpop.gremlin.AbstractGremlinSuite;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
@@ -34,7 +35,12 @@ public class ComplexArangoDBSuite extends AbstractGremlinSuite {
             OrFilterTest.class,
             WithinFilterTest.class,
             AndFilterTest.class,
-            TextFiltersTest.class
+            FilterSimplifierTest.class,
+            TextFiltersTest.class,
+            VertexStepTest.class,
+            RepeatStepTest.class,
+            PathStepTest.class,
+            ArangoStepTest.class
     };
 
     public ComplexArangoDBSuite(final Class<?> klass, final RunnerBuilder builder) throws InitializationError {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.arangodb.process.filter;
+
+import com.arangodb.tinkerpop.gremlin.process.filter.*;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilterSimplifierTest extends AbstractGremlinTest {
+
+    private static String simplify(ArangoFilter filter) {
+        return FilterSimplifier.simplify(filter).toAql("d");
+    }
+
+    @Test
+    public void lessThanOrEqual() {
+        assertThat(simplify(ArangoFilter.of("a", P.lte(5))))
+                .isEqualTo("(IS_NUMBER(`d`.`a`) AND `d`.`a` <= 5)");
+    }
+
+    @Test
+    public void greaterThanOrEqual() {
+        assertThat(simplify(ArangoFilter.of("a", P.gte("m"))))
+                .isEqualTo("(IS_STRING(`d`.`a`) AND `d`.`a` >= \"m\")");
+    }
+
+    @Test
+    public void between() {
+        assertThat(simplify(ArangoFilter.of("a", P.between(1, 5))))
+                .isEqualTo("(`d`.`a` >= 1 AND `d`.`a` < 5)");
+    }
+
+    @Test
+    public void mergeRanges() {
+        assertThat(simplify(ArangoFilter.of("a", P.gt(1).and(P.gt(3)).and(P.lte(10)))))
+                .isEqualTo("(`d`.`a` > 3 AND `d`.`a` <= 10)");
+    }
+
+    @Test
+    public void orOfEqualsToIn() {
+        assertThat(simplify(ArangoFilter.of("a", P.eq(1).or(P.eq(2)).or(P.within(3, 4)))))
+                .isEqualTo("`d`.`a` IN [1, 2, 3, 4]");
+    }
+
+    @Test
+    public void notEqual() {
+        assertThat(simplify(ArangoFilter.of("a", P.neq(5))))
+                .isEqualTo("(HAS(`d`, \"a\") AND `d`.`a` != 5)");
+    }
+
+    @Test
+    public void andOfNotEqualsToNotIn() {
+        assertThat(simplify(ArangoFilter.of("a", P.without(1, 2).and(P.neq(3)))))
+                .isEqualTo("(HAS(`d`, \"a\") AND `d`.`a` NOT IN [1, 2, 3])");
+    }
+
+    @Test
+    public void pushNotInward() {
+        assertThat(simplify(NotFilter.of(new CompareLtFilter("a", 5))))
+                .isEqualTo("(IS_NUMBER(`d`.`a`) AND `d`.`a` >= 5)");
+        assertThat(simplify(NotFilter.of(AndFilter.of(Arrays.asList(
+                new CompareEqFilter("a", 1),
+                new CompareLtFilter("b", 2)
+        )))))
+                .isEqualTo("((HAS(`d`, \"a\") AND `d`.`a` != 1) OR (IS_NUMBER(`d`.`b`) AND `d`.`b` >= 2))");
+        assertThat(simplify(ArangoFilter.of("a", TextP.notContaining("x"))))
+                .isEqualTo("(IS_STRING(`d`.`a`) AND NOT(CONTAINS(`d`.`a`, \"x\")))");
+    }
+
+    @Test
+    public void dropTautologies() {
+        assertThat(simplify(ArangoFilter.of("a", P.lt(5).or(P.gte(5)))))
+                .isEqualTo("IS_NUMBER(`d`.`a`)");
+        assertThat(simplify(ArangoFilter.of("a", P.eq(5).and(P.gt(1)))))
+                .isEqualTo("(`d`.`a` == 5 AND `d`.`a` > 1)");
+    }
+
+    @Test
+    public void bindVars() {
+        BindVars bindVars = new BindVars();
+        assertThat(FilterSimplifier.simplify(ArangoFilter.of("a", P.between(1, 5))).toAql("d", bindVars))
+                .isEqualTo("(`d`.`a` >= @p0 AND `d`.`a` < @p1)");
+        assertThat(bindVars.values())
+                .containsEntry("p0", 1)
+                .containsEntry("p1", 5);
+    }
+
+    @Test
+    public void graphTraversalRangeCount() {
+        graph.addVertex().property("age", 20);
+        graph.addVertex().property("age", 40);
+        graph.addVertex().property("age", "young");
+        graph.addVertex().property("name", "foo");
+        assertThat(graph.traversal().V().has("age", P.lt(30)).count().next()).isEqualTo(1L);
+        assertThat(graph.traversal().V().has("age", P.neq(20)).count().next()).isEqualTo(2L);
+        assertThat(graph.traversal().V().has("age", P.between(10, 50)).count().next()).isEqualTo(2L);
+    }
+}
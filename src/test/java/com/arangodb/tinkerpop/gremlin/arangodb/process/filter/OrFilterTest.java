@@ -48,6 +48,20 @@ public class OrFilterTest extends AbstractGremlinTest {
         assertThat(filter.toAql("d")).isEqualTo("(`d`.`a` == \"str\" OR `d`.`b` == 11)");
     }
 
+    @Test
+    public void bindVars() {
+        ArangoFilter filter = OrFilter.of(Arrays.asList(
+                new CompareEqFilter("a", "str"),
+                new CompareEqFilter("b", 11)
+        ));
+        BindVars bindVars = new BindVars();
+        assertThat(filter.toAql("d", bindVars)).isEqualTo("(`d`.`a` == @p0 OR `d`.`b` == @p1)");
+        assertThat(bindVars.values())
+                .hasSize(2)
+                .containsEntry("p0", "str")
+                .containsEntry("p1", 11);
+    }
+
     @Test
     public void graphTraversalOrFilter() {
         graph.addVertex().property("name", "foo");
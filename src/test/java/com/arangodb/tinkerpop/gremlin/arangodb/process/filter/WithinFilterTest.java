@@ -42,6 +42,16 @@ public class WithinFilterTest extends AbstractGremlinTest {
         assertThat(filter.toAql("d")).isEqualTo("`d`.`a` IN [\"str\", null]");
     }
 
+    @Test
+    public void withinBindVars() {
+        ArangoFilter filter = new ContainsWithinFilter("a", Arrays.asList("str", 11));
+        BindVars bindVars = new BindVars();
+        assertThat(filter.toAql("d", bindVars)).isEqualTo("`d`.`a` IN @p0");
+        assertThat(bindVars.values())
+                .hasSize(1)
+                .containsEntry("p0", Arrays.asList("str", 11));
+    }
+
     @Test
     public void graphTraversalWithinFilter() {
         graph.addVertex().property("name", "foo");
@@ -0,0 +1,569 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.arangodb.process.traversal;
+
+import com.arangodb.tinkerpop.gremlin.client.QueryOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoAggregateStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoCountStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoDistinctValuesStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoDropStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoUpdateStep;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ArangoStepTest extends AbstractGremlinTest {
+
+    private void createData() {
+        for (int i = 0; i < 10; i++) {
+            graph.addVertex("value", i);
+        }
+    }
+
+    private static List<Step> steps(Traversal<?, ?> t) {
+        t.asAdmin().applyStrategies();
+        return t.asAdmin().getSteps();
+    }
+
+    @Test
+    public void limitIsPushedDown() {
+        assertThat(steps(g.V().has("value", P.gte(5)).limit(3)))
+                .hasSize(1)
+                .allMatch(it -> it instanceof ArangoStep && ((ArangoStep<?, ?>) it).hasRange());
+    }
+
+    @Test
+    public void limitIsNotPushedDownWithPartialFilters() {
+        assertThat(steps(g.V().has("value", (Object) null).limit(3)))
+                .anyMatch(RangeGlobalStep.class::isInstance);
+        assertThat(steps(g.V().has("name", P.gt("a")).limit(3)))
+                .anyMatch(RangeGlobalStep.class::isInstance);
+    }
+
+    @Test
+    public void limit() {
+        createData();
+        assertThat(g.V().has("value", P.gte(5)).limit(3).toList()).hasSize(3);
+        assertThat(g.V().limit(20).toList()).hasSize(10);
+    }
+
+    private void createMixedData() {
+        graph.addVertex("value", 1);
+        graph.addVertex("value", "1");
+        graph.addVertex("value", "a1");
+        graph.addVertex("other", 1);
+    }
+
+    @Test
+    public void limitWithMissingAndMixedValues() {
+        createMixedData();
+        assertThat(g.V().has("value", P.lt(30)).limit(10).values("value").toList()).containsExactly(1);
+        assertThat(g.V().has("value", P.neq(1)).limit(10).values("value").toList()).containsExactlyInAnyOrder("1", "a1");
+        assertThat(g.V().has("value", TextP.containing("1")).limit(10).values("value").toList()).containsExactlyInAnyOrder("1", "a1");
+        assertThat(g.V().has("value", TextP.notContaining("a")).limit(10).values("value").toList()).containsExactly("1");
+    }
+
+    @Test
+    public void limitWithStringComparison() {
+        graph.addVertex("name", "B");
+        graph.addVertex("name", "a");
+        graph.addVertex("name", "b");
+        graph.addVertex("name", "c");
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        assertThat(g.V().has("name", P.gt("a")).limit(2).values("name").toList()).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    public void range() {
+        createData();
+        assertThat(g.V().has("value", P.lt(5)).range(2, 4).values("value").toList()).hasSize(2);
+        assertThat(g.V().range(8, 20).toList()).hasSize(2);
+        assertThat(g.V().range(3, 3).toList()).isEmpty();
+    }
+
+    @Test
+    public void countIsPushedDown() {
+        assertThat(steps(g.V().has("value", P.gte(5)).count()))
+                .hasSize(1)
+                .allMatch(ArangoCountStep.class::isInstance);
+        assertThat(steps(g.V().has("name", P.gt("a")).count()))
+                .noneMatch(ArangoCountStep.class::isInstance);
+        assertThat(steps(g.V().has("name", TextP.regex("^a")).count()))
+                .noneMatch(ArangoCountStep.class::isInstance);
+    }
+
+    @Test
+    public void count() {
+        createData();
+        assertThat(g.V().count().next()).isEqualTo(10L);
+        assertThat(g.V().has("value", P.gte(5)).count().next()).isEqualTo(5L);
+        assertThat(g.V().has("value", P.gte(5)).limit(3).count().next()).isEqualTo(3L);
+        assertThat(g.V().range(8, 20).count().next()).isEqualTo(2L);
+        assertThat(g.V().has("value", (Object) null).count().next()).isEqualTo(0L);
+    }
+
+    @Test
+    public void countWithStringComparison() {
+        graph.addVertex("name", "a");
+        graph.addVertex("name", "B");
+        graph.addVertex("name", "b");
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        assertThat(g.V().has("name", P.gt("a")).count().next()).isEqualTo(1L);
+        assertThat(g.V().has("name", P.gt("a")).toList()).hasSize(1);
+    }
+
+    @Test
+    public void countWithMissingAndMixedValues() {
+        createMixedData();
+        assertThat(g.V().has("value", P.lt(30)).count().next()).isEqualTo(1L);
+        assertThat(g.V().has("value", P.neq(1)).count().next()).isEqualTo(2L);
+        assertThat(g.V().has("value", P.not(P.gte(30))).count().next()).isEqualTo(1L);
+        assertThat(g.V().has("value", TextP.containing("1")).count().next()).isEqualTo(2L);
+        assertThat(g.V().has("value", TextP.notContaining("a")).count().next()).isEqualTo(1L);
+    }
+
+    private void createOrders() {
+        graph.addVertex("status", "open", "country", "IT", "amount", 10);
+        graph.addVertex("status", "open", "country", "DE", "amount", 2.5);
+        graph.addVertex("status", "closed", "country", "IT", "amount", 5);
+        graph.addVertex("status", "closed", "country", "IT", "amount", 1);
+        graph.addVertex("country", "DE");
+    }
+
+    @Test
+    public void groupIsPushedDown() {
+        assertThat(steps(g.V().has("amount", P.gt(1)).groupCount().by("status")))
+                .hasSize(1)
+                .allMatch(ArangoAggregateStep.class::isInstance);
+        assertThat(steps(g.V().group().by(T.label).by(__.values("amount").sum())))
+                .hasSize(1)
+                .allMatch(ArangoAggregateStep.class::isInstance);
+        assertThat(steps(g.V().group().by("country").by(__.values("amount").fold())))
+                .noneMatch(ArangoAggregateStep.class::isInstance);
+        assertThat(steps(g.V().has("country", P.gt("DE")).groupCount().by("status")))
+                .noneMatch(ArangoAggregateStep.class::isInstance);
+    }
+
+    @Test
+    public void groupCount() {
+        createOrders();
+        Map<Object, Long> expected = new HashMap<>();
+        expected.put("open", 2L);
+        expected.put("closed", 2L);
+        assertThat(g.V().groupCount().by("status").next()).isEqualTo(expected);
+        assertThat(g.V().groupCount().by(T.label).next()).isEqualTo(Collections.singletonMap(Vertex.DEFAULT_LABEL, 5L));
+        assertThat(g.V().has("amount", P.gt(100)).groupCount().by("status").next()).isEmpty();
+    }
+
+    @Test
+    public void group() {
+        createOrders();
+        Map<Object, Object> counts = new HashMap<>();
+        counts.put("IT", 3L);
+        counts.put("DE", 2L);
+        assertThat(g.V().group().by("country").by(__.count()).next()).isEqualTo(counts);
+        Map<Object, Object> sums = new HashMap<>();
+        sums.put("open", 12.5);
+        sums.put("closed", 6);
+        assertThat(g.V().group().by("status").by(__.values("amount").sum()).next()).isEqualTo(sums);
+        Map<Object, Object> mins = new HashMap<>();
+        mins.put("open", 2.5);
+        mins.put("closed", 1);
+        assertThat(g.V().group().by("status").by(__.values("amount").min()).next()).isEqualTo(mins);
+        Map<Object, Object> means = new HashMap<>();
+        means.put("open", 6.25);
+        means.put("closed", 3.0);
+        assertThat(g.V().group().by("status").by(__.values("amount").mean()).next()).isEqualTo(means);
+    }
+
+    @Test
+    public void groupWithMissingValues() {
+        createOrders();
+        // the vertex without amount is reduced on the client side, as in Gremlin
+        Map<Object, Object> sums = new HashMap<>();
+        sums.put("IT", 16);
+        sums.put("DE", 2.5);
+        assertThat(g.V().group().by("country").by(__.values("amount").sum()).next()).isEqualTo(sums);
+    }
+
+    @Test
+    public void groupWithStringComparison() {
+        graph.addVertex("name", "a", "amount", 1);
+        graph.addVertex("name", "B", "amount", 2);
+        graph.addVertex("name", "b", "amount", 4);
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        assertThat(g.V().has("name", P.gt("a")).groupCount().by("name").next())
+                .isEqualTo(Collections.singletonMap("b", 1L));
+        Number sum = g.V().has("name", P.gt("a")).values("amount").<Number>sum().next();
+        assertThat(sum).isEqualTo(4);
+    }
+
+    @Test
+    public void groupByKeysWithSpecialCharacters() {
+        graph.addVertex("odd`key", "x", "sum.of", 1);
+        graph.addVertex("odd`key", "x", "sum.of", 2);
+        graph.addVertex("odd`key", "y", "sum.of", 4);
+        assertThat(steps(g.V().groupCount().by("odd`key"))).allMatch(ArangoAggregateStep.class::isInstance);
+
+        Map<Object, Long> counts = new HashMap<>();
+        counts.put("x", 2L);
+        counts.put("y", 1L);
+        assertThat(g.V().groupCount().by("odd`key").next()).isEqualTo(counts);
+        Map<Object, Object> sums = new HashMap<>();
+        sums.put("x", 3);
+        sums.put("y", 4);
+        assertThat(g.V().group().by("odd`key").by(__.values("sum.of").sum()).next()).isEqualTo(sums);
+        Number sum = g.V().values("sum.of").<Number>sum().next();
+        assertThat(sum).isEqualTo(7);
+        Integer max = g.V().values("sum.of").<Integer>max().next();
+        assertThat(max).isEqualTo(4);
+    }
+
+    @Test
+    public void numericReducersArePushedDown() {
+        assertThat(steps(g.V().has("status", "open").values("amount").sum()))
+                .hasSize(1)
+                .allMatch(ArangoAggregateStep.class::isInstance);
+        assertThat(steps(g.V().values("amount", "other").sum()))
+                .noneMatch(ArangoAggregateStep.class::isInstance);
+        assertThat(steps(g.V().has("status", TextP.startingWith("o")).values("amount").sum()))
+                .noneMatch(ArangoAggregateStep.class::isInstance);
+    }
+
+    @Test
+    public void numericReducers() {
+        createOrders();
+        Number sum = g.V().values("amount").<Number>sum().next();
+        assertThat(sum).isEqualTo(18.5);
+        Number closedSum = g.V().has("status", "closed").values("amount").<Number>sum().next();
+        assertThat(closedSum).isEqualTo(6);
+        Integer min = g.V().values("amount").<Integer>min().next();
+        assertThat(min).isEqualTo(1);
+        Integer max = g.V().values("amount").<Integer>max().next();
+        assertThat(max).isEqualTo(10);
+        Number mean = g.V().has("status", "closed").values("amount").<Number>mean().next();
+        assertThat(mean).isEqualTo(3.0);
+        assertThat(g.V().has("status", "none").values("amount").sum().toList()).isEmpty();
+        assertThat(g.V().values("none").max().toList()).isEmpty();
+    }
+
+    @Test
+    public void numericReducersWithNonNumericValues() {
+        createOrders();
+        // non-numeric values are reduced on the client side, as in Gremlin
+        String max = g.V().values("country").<String>max().next();
+        assertThat(max).isEqualTo("IT");
+        assertThat(catchThrowable(() -> g.V().values("country").sum().next())).isNotNull();
+    }
+
+    @Test
+    public void distinctValuesArePushedDown() {
+        assertThat(steps(g.V().has("status", "open").values("country").dedup()))
+                .hasSize(1)
+                .allMatch(ArangoDistinctValuesStep.class::isInstance);
+        assertThat(steps(g.V().values("country").dedup().by(__.length())))
+                .noneMatch(ArangoDistinctValuesStep.class::isInstance);
+        assertThat(steps(g.V().values("country").dedup().path()))
+                .noneMatch(ArangoDistinctValuesStep.class::isInstance);
+        assertThat(steps(g.V().has("status", P.gt("c")).values("country").dedup()))
+                .noneMatch(ArangoDistinctValuesStep.class::isInstance);
+    }
+
+    @Test
+    public void distinctValues() {
+        createOrders();
+        assertThat(g.V().values("country").dedup().toList()).containsExactlyInAnyOrder("IT", "DE");
+        assertThat(g.V().has("status", "closed").values("country").dedup().toList()).containsExactly("IT");
+        assertThat(g.V().values("country").dedup().count().next()).isEqualTo(2L);
+        assertThat(g.V().values("none").dedup().toList()).isEmpty();
+    }
+
+    @Test
+    public void distinctValuesWithStringComparison() {
+        graph.addVertex("name", "a", "country", "IT");
+        graph.addVertex("name", "B", "country", "DE");
+        graph.addVertex("name", "b", "country", "FR");
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        assertThat(g.V().has("name", P.gt("a")).values("country").dedup().toList()).containsExactly("FR");
+    }
+
+    @Test
+    public void distinctValuesOfKeysWithSpecialCharacters() {
+        Vertex a = graph.addVertex("odd`key", "x");
+        Vertex b = graph.addVertex("odd`key", "x");
+        graph.addVertex("odd`key", "y");
+        assertThat(steps(g.V().values("odd`key").dedup())).allMatch(ArangoDistinctValuesStep.class::isInstance);
+
+        assertThat(g.V().values("odd`key").dedup().toList()).containsExactlyInAnyOrder("x", "y");
+        assertThat(g.V(a.id(), b.id()).values("odd`key").dedup().toList()).containsExactly("x");
+    }
+
+    @Test
+    public void orderIsNotPushedDownByDefault() {
+        assertThat(steps(g.V().has("value", P.gte(5)).order().by("value", Order.desc).limit(3)))
+                .anyMatch(OrderGlobalStep.class::isInstance)
+                .noneMatch(it -> it instanceof ArangoStep && ((ArangoStep<?, ?>) it).hasSort());
+    }
+
+    @Test
+    public void order() {
+        createData();
+        graph.addVertex("other", 1);
+        assertThat(g.V().order().by("value", Order.desc).limit(3).values("value").toList()).containsExactly(9, 8, 7);
+        assertThat(g.V().order().by("value").range(2, 4).values("value").toList()).containsExactly(2, 3);
+        assertThat(g.V().has("value", P.lt(5)).order().by("value", Order.desc).values("value").toList()).containsExactly(4, 3, 2, 1, 0);
+        assertThat(g.V().order().by("value").count().next()).isEqualTo(10L);
+
+        List<Object> ids = g.V().id().toList().stream()
+                .map(Object::toString)
+                .sorted()
+                .collect(Collectors.toList());
+        assertThat(g.V().order().by(T.id).id().toList()).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    public void orderOfStrings() {
+        graph.addVertex("name", "b");
+        graph.addVertex("name", "B");
+        graph.addVertex("name", "a");
+        graph.addVertex("name", 1);
+        graph.addVertex("name", true);
+        // ordered on the client side, comparing the chars of the strings
+        assertThat(g.V().order().by("name").values("name").toList()).containsExactly(true, 1, "B", "a", "b");
+        assertThat(g.V().order().by("name", Order.desc).limit(2).values("name").toList()).containsExactly("b", "a");
+    }
+
+    @Test
+    public void projectionIsPushedDown() {
+        assertThat(steps(g.V().has("value", P.gte(5)).values("value")))
+                .first()
+                .matches(it -> it instanceof ArangoStep && ((ArangoStep<?, ?>) it).hasProjection());
+        assertThat(steps(g.V().valueMap()))
+                .first()
+                .matches(it -> it instanceof ArangoStep && !((ArangoStep<?, ?>) it).hasProjection());
+    }
+
+    @Test
+    public void projection() {
+        Vertex v = graph.addVertex("name", "foo", "value", 1, "other", "bar");
+        v.property("name").property("meta", "metaValue");
+
+        assertThat(g.V().has("value", 1).values("name").toList()).containsExactly("foo");
+        assertThat(g.V().valueMap("name", "value").next())
+                .hasSize(2)
+                .containsEntry("name", Collections.singletonList("foo"))
+                .containsEntry("value", Collections.singletonList(1));
+        Map<String, Object> projected = g.V().project("n", "id").by("name").by(T.id).next();
+        assertThat(projected)
+                .containsEntry("n", "foo")
+                .containsEntry("id", v.id());
+
+        VertexProperty<Object> name = (VertexProperty<Object>) g.V().properties("name").next();
+        assertThat(name.<String>value("meta")).isEqualTo("metaValue");
+
+        // partially loaded element
+        Vertex partial = name.element();
+        assertThat(partial.<String>value("other")).isEqualTo("bar");
+        assertThat(partial.keys()).containsExactlyInAnyOrder("name", "value", "other");
+        partial.property("value", 2);
+        assertThat(g.V(v.id()).valueMap().next())
+                .containsEntry("name", Collections.singletonList("foo"))
+                .containsEntry("value", Collections.singletonList(2))
+                .containsEntry("other", Collections.singletonList("bar"));
+    }
+
+    @Test
+    public void idAndLabelOnly() {
+        assertThat(steps(g.V().hasLabel(Vertex.DEFAULT_LABEL).id()))
+                .first()
+                .matches(it -> it instanceof ArangoStep && ((ArangoStep<?, ?>) it).hasProjection());
+        assertThat(steps(g.E().label()))
+                .first()
+                .matches(it -> it instanceof ArangoStep && ((ArangoStep<?, ?>) it).hasProjection());
+
+        Vertex v = graph.addVertex("name", "foo");
+        v.property("name").property("meta", "metaValue");
+        v.addEdge("knows", v, "weight", 1.0);
+        assertThat(g.V().hasLabel(Vertex.DEFAULT_LABEL).id().toList()).containsExactly(v.id());
+        assertThat(g.V().label().toList()).containsExactly(Vertex.DEFAULT_LABEL);
+        assertThat(g.E().label().toList()).containsExactly("knows");
+    }
+
+    @Test
+    public void dropIsPushedDown() {
+        assertThat(steps(g.V().has("tenant", "t1").drop()))
+                .hasSize(1)
+                .allMatch(ArangoDropStep.class::isInstance);
+        assertThat(steps(g.E().has("weight", P.gt(0.5)).drop()))
+                .hasSize(1)
+                .allMatch(ArangoDropStep.class::isInstance);
+        assertThat(steps(g.V().has("tenant", "t1").out().drop()))
+                .noneMatch(ArangoDropStep.class::isInstance);
+        assertThat(steps(g.V().has("name", P.gt("m")).drop()))
+                .noneMatch(ArangoDropStep.class::isInstance);
+        assertThat(steps(g.V().has("name", TextP.regex("^a")).drop()))
+                .noneMatch(ArangoDropStep.class::isInstance);
+    }
+
+    @Test
+    public void drop() {
+        Vertex a = graph.addVertex("tenant", "t1");
+        Vertex b = graph.addVertex("tenant", "t1");
+        Vertex c = graph.addVertex("tenant", "t2");
+        a.addEdge("knows", b, "weight", 1.0);
+        b.addEdge("knows", c, "weight", 0.2);
+        c.addEdge("knows", a, "weight", 0.8);
+        c.addEdge("knows", c, "weight", 0.1);
+
+        g.E().has("weight", P.lt(0.5)).drop().iterate();
+        assertThat(g.E().count().next()).isEqualTo(2L);
+
+        g.V().has("tenant", "t1").drop().iterate();
+        assertThat(g.V().toList()).containsExactly(c);
+        assertThat(g.E().count().next()).isEqualTo(0L);
+
+        Vertex d = graph.addVertex("tenant", "t2");
+        c.addEdge("knows", d);
+        d.addEdge("knows", d);
+        g.V(d.id()).drop().iterate();
+        assertThat(g.V().toList()).containsExactly(c);
+        assertThat(g.E().count().next()).isEqualTo(0L);
+    }
+
+    @Test
+    public void dropWithStringComparison() {
+        graph.addVertex("name", "a");
+        graph.addVertex("name", "B");
+        graph.addVertex("name", "b");
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        g.V().has("name", P.gt("a")).drop().iterate();
+        assertThat(g.V().values("name").toList()).containsExactlyInAnyOrder("a", "B");
+    }
+
+    @Test
+    public void updateIsPushedDown() {
+        assertThat(steps(g.V().has("status", "stale").property("status", "archived").property("n", 1)))
+                .hasSize(1)
+                .allMatch(it -> it instanceof ArangoUpdateStep && ((ArangoUpdateStep<?, ?>) it).isReturnElements());
+        assertThat(steps(g.E().has("weight", P.gt(0.5)).property("weight", 0.5)))
+                .hasSize(1)
+                .allMatch(ArangoUpdateStep.class::isInstance);
+        assertThat(steps(g.V().property("name", __.id())))
+                .noneMatch(ArangoUpdateStep.class::isInstance);
+        assertThat(steps(g.V().property(VertexProperty.Cardinality.list, "name", "a")))
+                .noneMatch(ArangoUpdateStep.class::isInstance);
+        assertThat(steps(g.V().has("status", "stale").out().property("status", "archived")))
+                .noneMatch(ArangoUpdateStep.class::isInstance);
+        assertThat(steps(g.V().has("name", P.lt("m")).property("status", "archived")))
+                .noneMatch(ArangoUpdateStep.class::isInstance);
+        assertThat(steps(g.V().has("name", TextP.startingWith("a")).property("status", "archived")))
+                .noneMatch(ArangoUpdateStep.class::isInstance);
+    }
+
+    @Test
+    public void update() {
+        Vertex a = graph.addVertex("status", "stale", "name", "a");
+        Vertex b = graph.addVertex("status", "stale", "name", "b");
+        Vertex c = graph.addVertex("status", "active", "name", "c");
+        a.property("status").property("since", 2020);
+        Edge ab = a.addEdge("knows", b, "weight", 1.0);
+        Edge bc = b.addEdge("knows", c, "weight", 0.2);
+
+        g.V().has("status", "stale").property("status", "archived").iterate();
+        assertThat(g.V().has("status", "archived").toList()).containsExactlyInAnyOrder(a, b);
+        assertThat(g.V(a.id()).properties("status").properties().toList()).isEmpty();
+        assertThat(g.V(c.id()).values("status").toList()).containsExactly("active");
+
+        List<Vertex> updated = g.V(a.id(), c.id()).property("status", "deleted", "by", "admin").property("n", 1).toList();
+        assertThat(updated).containsExactlyInAnyOrder(a, c);
+        assertThat(updated).allMatch(it -> it.<Integer>value("n") == 1);
+        assertThat(g.V(c.id()).properties("status").values("by").toList()).containsExactly("admin");
+        assertThat(g.V(b.id()).values("status", "n").toList()).containsExactly("archived");
+
+        g.E().has("weight", P.lt(0.5)).property("weight", 0.0).iterate();
+        assertThat(g.E(bc.id()).values("weight").toList()).containsExactly(0.0);
+        assertThat(g.E(ab.id()).values("weight").toList()).containsExactly(1.0);
+    }
+
+    @Test
+    public void updateWithStringComparison() {
+        Vertex a = graph.addVertex("name", "a");
+        Vertex upperB = graph.addVertex("name", "B");
+        Vertex b = graph.addVertex("name", "b");
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        g.V().has("name", P.gt("a")).property("status", "archived").iterate();
+        assertThat(g.V().has("status", "archived").toList()).containsExactly(b);
+        assertThat(g.V(a.id(), upperB.id()).values("status").toList()).isEmpty();
+    }
+
+    @Test
+    public void removeVertexWithEdges() {
+        Vertex a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b");
+        a.addEdge("knows", b);
+        b.addEdge("knows", a);
+        b.addEdge("knows", b);
+        b.remove();
+        assertThat(g.V().toList()).containsExactly(a);
+        assertThat(g.E().count().next()).isEqualTo(0L);
+        assertThat(a.edges(Direction.BOTH)).isExhausted();
+    }
+
+    @Test
+    public void queryOptions() {
+        createData();
+        assertThat(g.with(QueryOptions.OPTION_BATCH_SIZE, 2).with(QueryOptions.OPTION_STREAM, true)
+                .V().has("value", P.gte(5)).values("value").toList())
+                .hasSize(5);
+        assertThat(g.with(QueryOptions.OPTION_BATCH_SIZE, 2).V().count().next()).isEqualTo(10L);
+        assertThat(g.with(QueryOptions.OPTION_MAX_RUNTIME, 10).V().out().count().next()).isEqualTo(0L);
+        assertThat(catchThrowable(() -> g.with(QueryOptions.OPTION_BATCH_SIZE, "2").V().toList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be a number");
+        assertThat(catchThrowable(() -> g.with("arangodb.foo", 1).V().toList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown query option");
+    }
+}
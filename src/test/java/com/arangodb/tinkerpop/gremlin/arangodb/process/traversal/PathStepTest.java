@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arangodb.tinkerpop.gremlin.arangodb.process.traversal;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.dsl.ArangoDBGraphTraversalSource;
+import com.arangodb.tinkerpop.gremlin.process.traversal.dsl.ArangoPathOptions;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoPathStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBEdge;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class PathStepTest extends AbstractGremlinTest {
+
+    private Vertex a;
+    private Vertex c;
+    private Vertex d;
+
+    private void createData() {
+        a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b");
+        c = graph.addVertex("name", "c");
+        d = graph.addVertex("name", "d");
+        a.addEdge("knows", b, "weight", 1);
+        b.addEdge("knows", c, "weight", 1);
+        a.addEdge("knows", c, "weight", 5);
+        c.addEdge("knows", d, "weight", 1);
+    }
+
+    private ArangoDBGraphTraversalSource source() {
+        return graph.traversal(ArangoDBGraphTraversalSource.class);
+    }
+
+    private static ArangoPathOptions out() {
+        return new ArangoPathOptions().direction(Direction.OUT).edgeLabels("knows");
+    }
+
+    private static List<Object> names(Path path) {
+        return path.objects().stream()
+                .filter(Vertex.class::isInstance)
+                .map(it -> ((Element) it).value("name"))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void shortestPath() {
+        createData();
+        Path path = source().shortestPath(a, c, out().maxDepth(3)).next();
+        assertThat(names(path)).containsExactly("a", "c");
+        assertThat(path.objects()).hasSize(3);
+        assertThat(path.<Object>get(0)).isInstanceOf(ArangoDBVertex.class);
+        assertThat(path.<Object>get(1)).isInstanceOf(ArangoDBEdge.class);
+        assertThat(path.<Object>get(2)).isInstanceOf(ArangoDBVertex.class);
+
+        Path weighted = source().shortestPath(a.id(), c.id(), out().weightAttribute("weight").maxDepth(3)).next();
+        assertThat(names(weighted)).containsExactly("a", "b", "c");
+
+        assertThat(source().shortestPath(d, a, out().maxDepth(3)).toList()).isEmpty();
+        assertThat(source().shortestPath(d, a, new ArangoPathOptions()).toList()).hasSize(1);
+        assertThat(source().shortestPath(a, d, out().maxDepth(1)).toList()).isEmpty();
+    }
+
+    @Test
+    public void kShortestPaths() {
+        createData();
+        List<Path> paths = source().kShortestPaths(a, c, out().weightAttribute("weight").maxDepth(3)).toList();
+        assertThat(paths).hasSize(2);
+        assertThat(names(paths.get(0))).containsExactly("a", "b", "c");
+        assertThat(names(paths.get(1))).containsExactly("a", "c");
+
+        assertThat(source().kShortestPaths(a, c, out().maxDepth(3)).limit(1).toList())
+                .hasSize(1)
+                .allMatch(it -> names(it).size() == 2);
+    }
+
+    @Test
+    public void noPathWithLabels() {
+        createData();
+        // 4^5 paths from a to the last layer, none of them with edges labelled "knows"
+        List<Vertex> layer = Collections.singletonList(a);
+        for (int i = 0; i < 5; i++) {
+            List<Vertex> next = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                next.add(graph.addVertex("name", "l" + i + j));
+            }
+            for (Vertex from : layer) {
+                next.forEach(to -> from.addEdge(Edge.DEFAULT_LABEL, to));
+            }
+            layer = next;
+        }
+        Vertex last = layer.get(0);
+        assertThat(source().shortestPath(a, last, out().maxDepth(10)).toList()).isEmpty();
+        assertThat(source().shortestPath(a, last, out().weightAttribute("weight").maxDepth(10)).toList()).isEmpty();
+        assertThat(source().kShortestPaths(a, last, out().maxDepth(10)).limit(3).toList()).isEmpty();
+        assertThat(source().kShortestPaths(a, last, new ArangoPathOptions().direction(Direction.OUT).maxDepth(4)).toList()).isEmpty();
+        assertThat(source().shortestPath(a, last, new ArangoPathOptions().direction(Direction.OUT)).toList()).hasSize(1);
+
+        // the labelled path is longer than the unlabelled one
+        a.addEdge(Edge.DEFAULT_LABEL, d);
+        assertThat(source().shortestPath(a, d, new ArangoPathOptions().direction(Direction.OUT)).toList())
+                .allMatch(it -> names(it).size() == 2);
+        assertThat(source().shortestPath(a, d, out().maxDepth(10)).toList())
+                .hasSize(1)
+                .allMatch(it -> names(it).size() == 3);
+    }
+
+    @Test
+    public void edgeLabelsRequireMaxDepthInSimpleGraphs() {
+        Throwable thrown = catchThrowable(() -> source().shortestPath("a", "b", out()));
+        if (((ArangoDBGraph) graph).type() == ArangoDBGraphConfig.GraphType.SIMPLE) {
+            assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+            assertThat(catchThrowable(() -> source().kShortestPaths("a", "b", out()))).isInstanceOf(IllegalArgumentException.class);
+        } else {
+            assertThat(thrown).isNull();
+        }
+    }
+
+    @Test
+    public void limitIsPushedDown() {
+        GraphTraversal<Path, Path> t = source().kShortestPaths("a", "c").limit(3);
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .noneMatch(RangeGlobalStep.class::isInstance)
+                .anyMatch(it -> it instanceof ArangoPathStep && ((ArangoPathStep) it).hasRange());
+    }
+
+    @Test
+    public void kPaths() {
+        createData();
+        assertThat(source().kPaths(a, d, out().maxDepth(3)).toList()).hasSize(2);
+        assertThat(source().kPaths(a, d, out().maxDepth(2)).toList()).hasSize(1);
+        assertThat(catchThrowable(() -> source().kPaths(a, d, out())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void allShortestPaths() {
+        createData();
+        assertThat(source().allShortestPaths(b(), d, new ArangoPathOptions().direction(Direction.OUT)).toList())
+                .hasSize(1);
+        assertThat(source().allShortestPaths(a, d, new ArangoPathOptions().direction(Direction.OUT)).toList())
+                .hasSize(1)
+                .allMatch(it -> names(it).size() == 3);
+    }
+
+    private Vertex b() {
+        return g.V().has("name", "b").next();
+    }
+}
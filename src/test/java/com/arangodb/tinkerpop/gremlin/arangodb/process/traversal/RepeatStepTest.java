@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.arangodb.process.traversal;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoRepeatStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoVertexStep;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.has;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepeatStepTest extends AbstractGremlinTest {
+
+    private void createData() {
+        Vertex a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b");
+        Vertex c = graph.addVertex("name", "c");
+        Vertex d = graph.addVertex("name", "d");
+        a.addEdge("knows", b);
+        a.addEdge("knows", c);
+        b.addEdge("knows", c);
+        c.addEdge("knows", d);
+        d.addEdge("knows", a);
+    }
+
+    @Test
+    public void repeatStepIsReplaced() {
+        GraphTraversal<Vertex, Vertex> t = g.V().repeat(out("knows")).emit().times(3);
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .noneMatch(RepeatStep.class::isInstance)
+                .anyMatch(ArangoRepeatStep.class::isInstance);
+    }
+
+    @Test
+    public void vertexStepSequenceIsReplaced() {
+        GraphTraversal<Vertex, Vertex> t = g.V().out("knows").out("knows").out("knows");
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .noneMatch(ArangoVertexStep.class::isInstance)
+                .anyMatch(ArangoRepeatStep.class::isInstance);
+    }
+
+    @Test
+    public void stringComparisonsAreNotPushedDown() {
+        GraphTraversal<Vertex, Vertex> sequence = g.V().out("knows").out("knows").has("name", P.gt("m"));
+        sequence.asAdmin().applyStrategies();
+        assertThat(sequence.asAdmin().getSteps()).noneMatch(ArangoRepeatStep.class::isInstance);
+
+        GraphTraversal<Vertex, Vertex> emit = g.V().repeat(out("knows")).emit(has("name", TextP.startingWith("c"))).times(2);
+        emit.asAdmin().applyStrategies();
+        assertThat(emit.asAdmin().getSteps()).noneMatch(ArangoRepeatStep.class::isInstance);
+    }
+
+    @Test
+    public void stringComparisons() {
+        createData();
+        graph.vertices().forEachRemaining(it -> it.property("tag", "c".equals(it.value("name")) ? "B" : "b"));
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        assertThat(g.V().has("name", "a").out("knows").out("knows").has("tag", P.gt("a")).<String>values("name").toList())
+                .containsExactly("d");
+    }
+
+    @Test
+    public void times() {
+        createData();
+        assertThat(g.V().has("name", "a").repeat(out("knows")).times(2).<String>values("name").toList())
+                .containsExactlyInAnyOrder("c", "d");
+        assertThat(g.V().has("name", "a").repeat(out("knows")).times(3).<String>values("name").toList())
+                .containsExactlyInAnyOrder("d", "a");
+        assertThat(g.V().has("name", "a").out("knows").out("knows").<String>values("name").toList())
+                .containsExactlyInAnyOrder("c", "d");
+    }
+
+    @Test
+    public void emit() {
+        createData();
+        assertThat(g.V().has("name", "a").repeat(out("knows")).emit().times(2).<String>values("name").toList())
+                .containsExactlyInAnyOrder("b", "c", "c", "d");
+        assertThat(g.V().has("name", "a").emit().repeat(out("knows")).times(2).<String>values("name").toList())
+                .containsExactlyInAnyOrder("a", "b", "c", "c", "d");
+        assertThat(g.V().has("name", "a").repeat(out("knows")).emit(has("name", "c")).times(3).<String>values("name").toList())
+                .containsExactlyInAnyOrder("c", "c", "d", "a");
+    }
+
+    @Test
+    public void simplePath() {
+        createData();
+        assertThat(g.V().has("name", "a").repeat(out("knows").simplePath()).times(4).<String>values("name").toList())
+                .isEmpty();
+        assertThat(g.V().has("name", "a").repeat(out("knows").simplePath()).emit().times(4).<String>values("name").toList())
+                .containsExactlyInAnyOrder("b", "c", "c", "d", "d");
+    }
+
+    @Test
+    public void until() {
+        createData();
+        // not pushed down without max depth
+        assertThat(g.V().has("name", "a").repeat(out("knows")).until(has("name", "d")).<String>values("name").toList())
+                .containsExactlyInAnyOrder("d", "d");
+    }
+
+    @Test
+    public void path() {
+        createData();
+        List<String> res = g.V().has("name", "a").repeat(out("knows")).times(2).path().by("name").toList().stream()
+                .map(Path::toString)
+                .collect(Collectors.toList());
+        assertThat(res).containsExactlyInAnyOrder("path[a, b, c]", "path[a, c, d]");
+    }
+
+    @Test
+    public void labels() {
+        createData();
+        assertThat(g.V().has("name", "a").as("x").repeat(out("knows")).times(2).as("y").select("x", "y").by("name").toList())
+                .hasSize(2)
+                .allMatch(it -> "a".equals(it.get("x")));
+    }
+
+    @Test
+    public void count() {
+        createData();
+        GraphTraversal<Vertex, Long> t = g.V().repeat(out("knows")).times(2).count();
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .anyMatch(it -> it instanceof ArangoRepeatStep && ((ArangoRepeatStep) it).isCountOnly());
+        assertThat(g.V().repeat(out("knows")).times(2).count().next()).isEqualTo(6L);
+    }
+}
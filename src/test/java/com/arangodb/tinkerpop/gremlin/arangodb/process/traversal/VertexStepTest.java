@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.arangodb.process.traversal;
+
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoEdgeVertexStep;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoVertexStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBVertex;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VertexStepTest extends AbstractGremlinTest {
+
+    private void createData() {
+        Vertex a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b");
+        Vertex c = graph.addVertex("name", "c");
+        a.addEdge("knows", b);
+        a.addEdge("knows", c);
+        b.addEdge("knows", c);
+    }
+
+    @Test
+    public void vertexStepIsReplaced() {
+        GraphTraversal<Vertex, Vertex> t = g.V().out();
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps()).anyMatch(ArangoVertexStep.class::isInstance);
+    }
+
+    @Test
+    public void adjacentVertices() {
+        createData();
+        Map<Object, Long> res = g.V().out("knows").<Object>values("name").groupCount().next();
+        assertThat(res)
+                .hasSize(2)
+                .containsEntry("b", 1L)
+                .containsEntry("c", 2L);
+    }
+
+    @Test
+    public void incidentEdges() {
+        createData();
+        List<Edge> res = g.V().has("name", "c").inE("knows").toList();
+        assertThat(res).hasSize(2);
+    }
+
+    @Test
+    public void bulkIsPreserved() {
+        createData();
+        List<Object> res = g.V().out().out().values("name").toList();
+        assertThat(res).containsExactly("c");
+        assertThat(g.V().both().both().count().next()).isEqualTo(12L);
+    }
+
+    @Test
+    public void countIsPushedDown() {
+        GraphTraversal<Vertex, Long> t = g.V().out().count();
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .anyMatch(it -> it instanceof ArangoVertexStep && ((ArangoVertexStep<?>) it).isCountOnly());
+
+        GraphTraversal<Vertex, Long> strings = g.V().out().has("name", P.gt("a")).count();
+        strings.asAdmin().applyStrategies();
+        assertThat(strings.asAdmin().getSteps())
+                .noneMatch(it -> it instanceof ArangoVertexStep && ((ArangoVertexStep<?>) it).isCountOnly());
+    }
+
+    @Test
+    public void count() {
+        createData();
+        assertThat(g.V().has("name", "a").outE("knows").count().next()).isEqualTo(2L);
+        assertThat(g.V().in("knows").count().next()).isEqualTo(3L);
+        assertThat(g.V().has("name", "c").out().count().next()).isEqualTo(0L);
+        assertThat(g.V().out().out().count().next()).isEqualTo(1L);
+    }
+
+    @Test
+    public void dedupIsPushedDown() {
+        GraphTraversal<Vertex, Vertex> t = g.V().out("knows").dedup();
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .noneMatch(DedupGlobalStep.class::isInstance)
+                .anyMatch(it -> it instanceof ArangoVertexStep && ((ArangoVertexStep<?>) it).isDedup());
+    }
+
+    @Test
+    public void dedup() {
+        createData();
+        assertThat(g.V().out("knows").<String>values("name").toList()).containsExactlyInAnyOrder("b", "c", "c");
+        assertThat(g.V().out("knows").dedup().<String>values("name").toList()).containsExactlyInAnyOrder("b", "c");
+        assertThat(g.V().inE("knows").dedup().count().next()).isEqualTo(3L);
+        assertThat(g.V().out().out().dedup().count().next()).isEqualTo(1L);
+        assertThat(g.V().both().dedup().count().next()).isEqualTo(3L);
+    }
+
+    @Test
+    public void dedupIsNotPushedDownWithPaths() {
+        GraphTraversal<Vertex, Path> path = g.V().out("knows").dedup().path();
+        path.asAdmin().applyStrategies();
+        assertThat(path.asAdmin().getSteps()).anyMatch(DedupGlobalStep.class::isInstance);
+
+        GraphTraversal<Vertex, Object> select = g.V().as("s").out("knows").dedup().select("s");
+        select.asAdmin().applyStrategies();
+        assertThat(select.asAdmin().getSteps()).anyMatch(DedupGlobalStep.class::isInstance);
+    }
+
+    @Test
+    public void dedupWithPaths() {
+        createData();
+        List<Path> paths = g.V().out("knows").dedup().path().toList();
+        assertThat(paths).hasSize(2);
+        for (Path path : paths) {
+            Vertex start = path.get(0);
+            assertThat(g.V(start).out("knows").toList()).contains(path.<Vertex>get(1));
+        }
+        for (Vertex start : g.V().as("s").out("knows").dedup().<Vertex>select("s").toList()) {
+            assertThat(start.<String>value("name")).isIn("a", "b");
+        }
+        assertThat(g.V().as("s").out("knows").has("name", "b").dedup().<Vertex>select("s").values("name").toList())
+                .containsExactly("a");
+    }
+
+    @Test
+    public void idAndLabelOnly() {
+        GraphTraversal<Vertex, Object> t = g.V().out().id();
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .anyMatch(it -> it instanceof ArangoVertexStep && ((ArangoVertexStep<?>) it).hasProjection());
+
+        createData();
+        Object a = g.V().has("name", "a").id().next();
+        assertThat(g.V(a).out("knows").id().toList()).hasSize(2).doesNotContain(a);
+        assertThat(g.V(a).outE("knows").label().toList()).containsExactly("knows", "knows");
+        assertThat(g.V().out().dedup().id().toList()).hasSize(2);
+        assertThat(g.V(a).out().has("name", "b").id().toList()).hasSize(1);
+    }
+
+    @Test
+    public void hasIsPushedDown() {
+        GraphTraversal<Vertex, Edge> t = g.V().outE("knows").has("weight", P.gt(0.5));
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .noneMatch(HasStep.class::isInstance)
+                .anyMatch(it -> it instanceof ArangoVertexStep && !((ArangoVertexStep<?>) it).getHasContainers().isEmpty());
+    }
+
+    @Test
+    public void has() {
+        Vertex a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b", "age", 20);
+        Vertex c = graph.addVertex("name", "c", "age", 30);
+        a.addEdge("knows", b, "weight", 0.2);
+        a.addEdge("knows", c, "weight", 0.8);
+        b.addEdge("knows", c, "weight", 1.0);
+
+        assertThat(g.V().out("knows").has("age", P.gt(25)).values("name").toList()).containsExactly("c", "c");
+        assertThat(g.V().out("knows").has("name", P.within("b", "x")).values("name").toList()).containsExactly("b");
+        assertThat(g.V().outE("knows").has("weight", P.gte(0.8)).inV().values("name").toList()).containsExactly("c", "c");
+        assertThat(g.V().has("name", "a").outE("knows").has("weight", P.lt(0.5)).count().next()).isEqualTo(1L);
+        assertThat(g.V().in("knows").has("name", "a").count().next()).isEqualTo(2L);
+        assertThat(g.V().out("knows").has("age", (Object) null).count().next()).isEqualTo(0L);
+    }
+
+    @Test
+    public void countWithStringComparison() {
+        Vertex a = graph.addVertex("name", "a");
+        a.addEdge("knows", a);
+        a.addEdge("knows", graph.addVertex("name", "B"));
+        a.addEdge("knows", graph.addVertex("name", "b"));
+
+        // Gremlin compares strings lexicographically by char, "B" < "a", unlike the ICU collation of AQL
+        assertThat(g.V(a).out("knows").has("name", P.gt("a")).count().next()).isEqualTo(1L);
+    }
+
+    @Test
+    public void countWithMissingAndMixedValues() {
+        Vertex a = graph.addVertex("name", "a");
+        a.addEdge("knows", graph.addVertex("age", 20));
+        a.addEdge("knows", graph.addVertex("age", "20"));
+        a.addEdge("knows", graph.addVertex("name", "d"));
+
+        assertThat(g.V(a).out("knows").has("age", P.lt(30)).count().next()).isEqualTo(1L);
+        assertThat(g.V(a).out("knows").has("age", P.neq(20)).count().next()).isEqualTo(1L);
+        assertThat(g.V(a).out("knows").has("age", TextP.containing("2")).count().next()).isEqualTo(1L);
+    }
+
+    @Test
+    public void edgeVertexStepIsReplacedOnlyIfVerticesAreAccessed() {
+        GraphTraversal<Edge, Object> values = g.E().outV().values("name");
+        values.asAdmin().applyStrategies();
+        assertThat(values.asAdmin().getSteps()).anyMatch(ArangoEdgeVertexStep.class::isInstance);
+
+        GraphTraversal<Edge, Object> ids = g.E().outV().id();
+        ids.asAdmin().applyStrategies();
+        assertThat(ids.asAdmin().getSteps()).noneMatch(ArangoEdgeVertexStep.class::isInstance);
+    }
+
+    @Test
+    public void edgeVertices() {
+        createData();
+        assertThat(g.E().outV().<String>values("name").toList()).containsExactlyInAnyOrder("a", "a", "b");
+        assertThat(g.E().inV().has("name", "c").count().next()).isEqualTo(2L);
+        assertThat(g.E().bothV().label().toList()).hasSize(6).isSubsetOf(g.V().label().toList());
+        assertThat(g.E().outV().id().toSet()).hasSize(2);
+    }
+
+    @Test
+    public void edgeVerticesAreLazy() {
+        Vertex a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b");
+        Edge e = a.addEdge("knows", b);
+        ArangoDBVertex out = (ArangoDBVertex) graph.edges(e.id()).next().outVertex();
+        assertThat(out.data().isFullyLoaded()).isFalse();
+        assertThat(out.id()).isEqualTo(a.id());
+        assertThat(out).isEqualTo(a);
+        assertThat(out.<String>value("name")).isEqualTo("a");
+        assertThat(out.label()).isEqualTo(a.label());
+        assertThat(out.data().isFullyLoaded()).isTrue();
+    }
+}
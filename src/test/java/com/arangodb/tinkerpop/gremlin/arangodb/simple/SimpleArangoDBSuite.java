@@ -17,6 +17,7 @@
 package com.arangodb.tinkerpop.gremlin.arangodb.simple;
 
 import com.arangodb.tinkerpop.gremlin.arangodb.process.filter.*;
+import com.arangodb.tinkerpop.gremlin.arangodb.process.traversal.*;
 import org.apache.tinkerpop.gremlin.AbstractGremlinSuite;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.junit.runners.model.InitializationError;
@@ -35,7 +36,12 @@ public class SimpleArangoDBSuite extends AbstractGremlinSuite {
             OrFilterTest.class,
             WithinFilterTest.class,
             AndFilterTest.class,
-            TextFiltersTest.class
+            FilterSimplifierTest.class,
+            TextFiltersTest.class,
+            VertexStepTest.class,
+            RepeatStepTest.class,
+            PathStepTest.class,
+            ArangoStepTest.class
     };
 
     public SimpleArangoDBSuite(final Class<?> klass, final RunnerBuilder builder) throws InitializationError {
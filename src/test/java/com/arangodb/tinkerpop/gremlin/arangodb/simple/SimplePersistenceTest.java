@@ -25,8 +25,10 @@ import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Map;
 
 import static com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph.GRAPH_VARIABLES_COLLECTION;
@@ -93,6 +95,118 @@ public class SimplePersistenceTest extends AbstractGremlinTest {
                 .containsEntry("meta", "metaValue");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void verticesWithInitialProperties() {
+        Vertex v = graph.addVertex(
+                T.id, "foo",
+                T.label, "bar",
+                "a", 1,
+                "b", "two"
+        );
+        v.property(VertexProperty.Cardinality.single, "c", "value", "meta", "metaValue");
+        ArangoCollection col = client().database().collection(Vertex.DEFAULT_LABEL);
+        Map<String, Object> doc = (Map<String, Object>) col.getDocument((String) v.id(), Map.class);
+        assertThat(doc)
+                .containsEntry("a", 1)
+                .containsEntry("b", "two")
+                .containsEntry("c", "value");
+
+        Map<String, Map<String, Object>> meta = (Map<String, Map<String, Object>>) doc.get(Fields.META);
+        assertThat(meta)
+                .hasSize(1)
+                .containsKey("c");
+        assertThat(meta.get("c"))
+                .containsEntry("meta", "metaValue");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void verticesPartialUpdates() {
+        Vertex v = graph.addVertex(
+                T.id, "foo",
+                T.label, "bar",
+                "a", 1,
+                "m", Collections.singletonMap("x", 1)
+        );
+        v.property(VertexProperty.Cardinality.single, "b", "value", "meta", "metaValue");
+        v.property(VertexProperty.Cardinality.single, "c", "value", "meta", "metaValue");
+
+        v.property("a", 2);
+        v.property("m", Collections.singletonMap("y", 2));
+        v.property("b").remove();
+        v.property("c").property("meta", "newMetaValue");
+        v.property("c").property("other", "otherValue");
+
+        ArangoCollection col = client().database().collection(Vertex.DEFAULT_LABEL);
+        Map<String, Object> doc = (Map<String, Object>) col.getDocument((String) v.id(), Map.class);
+        assertThat(doc)
+                .containsEntry("a", 2)
+                .containsEntry("m", Collections.singletonMap("y", 2))
+                .containsEntry("c", "value")
+                .doesNotContainKey("b");
+
+        Map<String, Map<String, Object>> meta = (Map<String, Map<String, Object>>) doc.get(Fields.META);
+        assertThat(meta)
+                .hasSize(1)
+                .containsKey("c");
+        assertThat(meta.get("c"))
+                .hasSize(2)
+                .containsEntry("meta", "newMetaValue")
+                .containsEntry("other", "otherValue");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void edgesPartialUpdates() {
+        Vertex a = graph.addVertex(T.id, "a");
+        Vertex b = graph.addVertex(T.id, "b");
+        Edge e = a.addEdge("foo", b, T.id, "e", "x", "value", "y", "value");
+        e.property("x", "newValue");
+        e.property("y").remove();
+
+        ArangoCollection col = client().database().collection(Edge.DEFAULT_LABEL);
+        Map<String, Object> doc = (Map<String, Object>) col.getDocument((String) e.id(), Map.class);
+        assertThat(doc)
+                .containsEntry(Fields.FROM, Vertex.DEFAULT_LABEL + "/a")
+                .containsEntry(Fields.TO, Vertex.DEFAULT_LABEL + "/b")
+                .containsEntry("x", "newValue")
+                .doesNotContainKey("y");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void nullPropertyValues() {
+        Vertex a = graph.addVertex(T.id, "a", "x", "value", "y", "value");
+        Vertex b = graph.addVertex(T.id, "b");
+        Edge e = a.addEdge("foo", b, T.id, "e", "x", "value", "y", "value");
+        a.property("x", null);
+        a.property(VertexProperty.Cardinality.single, "z", null, "meta", "metaValue");
+        a.property("y").remove();
+        e.property("x", null);
+        e.property("y").remove();
+
+        Map<String, Object> vertexDoc = (Map<String, Object>) client().database().collection(Vertex.DEFAULT_LABEL)
+                .getDocument("a", Map.class);
+        assertThat(vertexDoc)
+                .containsEntry("x", null)
+                .containsEntry("z", null)
+                .doesNotContainKey("y");
+        Map<String, Object> edgeDoc = (Map<String, Object>) client().database().collection(Edge.DEFAULT_LABEL)
+                .getDocument("e", Map.class);
+        assertThat(edgeDoc)
+                .containsEntry("x", null)
+                .doesNotContainKey("y");
+
+        Vertex readVertex = graph.vertices("a").next();
+        assertThat(readVertex.keys()).containsExactlyInAnyOrder("x", "z");
+        assertThat(readVertex.<Object>value("x")).isNull();
+        assertThat(readVertex.property("z").<String>value("meta")).isEqualTo("metaValue");
+        Edge readEdge = graph.edges("e").next();
+        assertThat(readEdge.keys()).containsExactly("x");
+        assertThat(readEdge.<Object>value("x")).isNull();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void settingKeyAsPropertyShouldFail() {
@@ -34,6 +34,7 @@ import java.io.File;
 
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 public class ArangoDBGraphConfigTest extends AbstractTest {
 
@@ -57,6 +58,12 @@ public class ArangoDBGraphConfigTest extends AbstractTest {
                 });
         assertThat(conf.vertices).containsExactlyInAnyOrder("a", "b", "c", "d", "x", "y", "z");
         assertThat(conf.edges).containsExactlyInAnyOrder("e1", "e2");
+        assertThat(conf.indexes).containsExactly(
+                ArangoDBGraphConfig.IndexDef.persistent("a", "name", "age"),
+                ArangoDBGraphConfig.IndexDef.persistent("b", "email").unique().sparse(),
+                ArangoDBGraphConfig.IndexDef.ttl("x", "createdAt", 3600),
+                ArangoDBGraphConfig.IndexDef.inverted("e1", "text")
+        );
         assertThat(conf.driverConfig.getHosts()).isPresent()
                 .get(as(InstanceOfAssertFactories.list(HostDescription.class)))
                 .hasSize(1)
@@ -67,6 +74,77 @@ public class ArangoDBGraphConfigTest extends AbstractTest {
         assertThat(conf.driverConfig.getPassword()).isPresent().get().isEqualTo("test");
     }
 
+    @Test
+    public void invalidIndexes() {
+        Configuration invalid = confBuilder()
+                .graphType(ArangoDBGraphConfig.GraphType.COMPLEX)
+                .orphanCollections("a")
+                .build();
+        invalid.setProperty(ArangoDBGraphConfig.KEY_PREFIX + "." + ArangoDBGraphConfig.KEY_GRAPH_INDEXES, "a:hash[name]");
+        assertThat(catchThrowable(() -> new ArangoDBGraphConfig(invalid)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid index definition");
+        assertThat(catchThrowable(() -> new ArangoDBGraphConfig(confBuilder()
+                .graphType(ArangoDBGraphConfig.GraphType.COMPLEX)
+                .orphanCollections("a")
+                .indexes(ArangoDBGraphConfig.IndexDef.persistent("b", "name"))
+                .build())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Index collection is not part of the graph");
+    }
+
+    @Test
+    public void scanParallelism() {
+        assertThat(new ArangoDBGraphConfig(confBuilder().build()).scanParallelism)
+                .isEqualTo(ArangoDBGraphConfig.DEFAULT_SCAN_PARALLELISM);
+        assertThat(new ArangoDBGraphConfig(confBuilder().scanParallelism(4).build()).scanParallelism)
+                .isEqualTo(4);
+        assertThat(catchThrowable(() -> new ArangoDBGraphConfig(confBuilder().scanParallelism(0).build())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Scan parallelism must be greater than 0");
+    }
+
+    @Test
+    public void queryOptions() {
+        ArangoDBGraphConfig defaults = new ArangoDBGraphConfig(confBuilder().build());
+        assertThat(defaults.queryBatchSize).isNull();
+        assertThat(defaults.queryStream).isNull();
+        ArangoDBGraphConfig config = new ArangoDBGraphConfig(confBuilder()
+                .queryBatchSize(500)
+                .queryStream(true)
+                .queryTtl(60)
+                .queryMemoryLimit(1_000_000)
+                .queryMaxRuntime(2.5)
+                .queryFillBlockCache(false)
+                .queryAllowDirtyRead(true)
+                .build());
+        assertThat(config.queryBatchSize).isEqualTo(500);
+        assertThat(config.queryStream).isTrue();
+        assertThat(config.queryTtl).isEqualTo(60);
+        assertThat(config.queryMemoryLimit).isEqualTo(1_000_000L);
+        assertThat(config.queryMaxRuntime).isEqualTo(2.5);
+        assertThat(config.queryFillBlockCache).isFalse();
+        assertThat(config.queryAllowDirtyRead).isTrue();
+        assertThat(catchThrowable(() -> new ArangoDBGraphConfig(confBuilder().queryBatchSize(0).build())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Query batch size must be greater than 0");
+    }
+
+    @Test
+    public void repeatMaxDepth() {
+        assertThat(new ArangoDBGraphConfig(confBuilder().build()).repeatMaxDepth).isZero();
+        assertThat(new ArangoDBGraphConfig(confBuilder().repeatMaxDepth(10).build()).repeatMaxDepth).isEqualTo(10);
+        assertThat(catchThrowable(() -> new ArangoDBGraphConfig(confBuilder().repeatMaxDepth(-1).build())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Repeat max depth must not be negative");
+    }
+
+    @Test
+    public void enableSortPushdown() {
+        assertThat(new ArangoDBGraphConfig(confBuilder().build()).enableSortPushdown).isFalse();
+        assertThat(new ArangoDBGraphConfig(confBuilder().enableSortPushdown(true).build()).enableSortPushdown).isTrue();
+    }
+
     private static org.apache.commons.configuration2.Configuration getConfiguration(final File configurationFile) {
         if (!configurationFile.isFile())
             throw new IllegalArgumentException(String.format("The location configuration must resolve to a file and [%s] does not", configurationFile));
@@ -16,7 +16,15 @@
 
 package com.arangodb.tinkerpop.gremlin.complex;
 
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoCountStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoPathStepStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoAggregateStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDedupStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoDropStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoUpdateStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoRepeatStepStrategy;
 import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoStepStrategy;
+import com.arangodb.tinkerpop.gremlin.process.traversal.strategy.optimization.ArangoVertexStepStrategy;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
 import org.apache.commons.configuration2.Configuration;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
@@ -27,7 +35,8 @@ public class ComplexTestGraph extends ArangoDBGraph {
 
     static {
         TraversalStrategies.GlobalCache.registerStrategies(ComplexTestGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone()
-                .addStrategies(ArangoStepStrategy.instance()));
+                .addStrategies(ArangoStepStrategy.instance(), ArangoVertexStepStrategy.instance(), ArangoRepeatStepStrategy.instance(), ArangoCountStrategy.instance(), ArangoPathStepStrategy.instance(), ArangoAggregateStrategy.instance(),
+                ArangoDedupStrategy.instance(), ArangoDropStrategy.instance(), ArangoUpdateStrategy.instance()));
     }
 
     @SuppressWarnings("unused")
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.complex;
+
+import com.arangodb.tinkerpop.gremlin.AbstractTest;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Full scans of multiple collections, read with one streaming cursor per collection.
+ */
+public class MultiCollectionScanTest extends AbstractTest {
+
+    private static final String[] LABELS = {"a", "b", "c"};
+
+    private GraphTraversalSource traversal(int parallelism) {
+        ArangoDBGraph graph = createGraph(confBuilder()
+                .graphType(ArangoDBGraphConfig.GraphType.COMPLEX)
+                .orphanCollections(LABELS)
+                .queryBatchSize(2)
+                .scanParallelism(parallelism)
+                .build());
+        for (String label : LABELS) {
+            for (int i = 0; i < 5; i++) {
+                graph.addVertex(T.label, label, "value", i);
+            }
+        }
+        return graph.traversal();
+    }
+
+    private boolean hasRunningScans() {
+        return client.database().getCurrentlyRunningQueries().stream()
+                .anyMatch(it -> it.getQuery().startsWith("FOR x IN"));
+    }
+
+    /**
+     * @return the labels of consecutive vertices with the same label
+     */
+    private static List<String> labelRuns(List<Vertex> vertices) {
+        List<String> runs = new ArrayList<>();
+        for (Vertex v : vertices) {
+            if (runs.isEmpty() || !runs.get(runs.size() - 1).equals(v.label())) {
+                runs.add(v.label());
+            }
+        }
+        return runs;
+    }
+
+    @Test
+    public void collectionOrder() {
+        assertThat(labelRuns(traversal(1).V().toList())).containsExactlyInAnyOrder(LABELS);
+    }
+
+    @Test
+    public void collectionOrderWithParallelism() {
+        assertThat(labelRuns(traversal(3).V().toList())).containsExactlyInAnyOrder(LABELS);
+    }
+
+    @Test
+    public void rangeAcrossCollections() {
+        GraphTraversalSource g = traversal(2);
+        List<Vertex> all = g.V().toList();
+        assertThat(all).hasSize(15);
+        assertThat(g.V().range(3, 12).toList()).isEqualTo(all.subList(3, 12));
+        assertThat(g.V().limit(7).toList()).isEqualTo(all.subList(0, 7));
+        assertThat(g.V().range(14, 20).toList()).isEqualTo(all.subList(14, 15));
+    }
+
+    @Test
+    public void earlyClose() throws Exception {
+        GraphTraversalSource g = traversal(3);
+        GraphTraversal<Vertex, Vertex> t = g.V();
+        assertThat(t.next()).isNotNull();
+        assertThat(hasRunningScans()).isTrue();
+        t.close();
+        awaitUntil(() -> !hasRunningScans());
+
+        GraphTraversal<Vertex, Vertex> filtered = g.V().filter(it -> it.get().<Integer>value("value") > 2).limit(1);
+        assertThat(filtered.hasNext()).isTrue();
+        filtered.close();
+        awaitUntil(() -> !hasRunningScans());
+    }
+
+    @Test
+    public void exhaustedTraversalClosesCursors() throws Exception {
+        GraphTraversalSource g = traversal(3);
+        assertThat(g.V().toList()).hasSize(15);
+        awaitUntil(() -> !hasRunningScans());
+    }
+}
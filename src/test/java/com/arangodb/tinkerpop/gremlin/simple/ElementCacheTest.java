@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.simple;
+
+import com.arangodb.tinkerpop.gremlin.AbstractTest;
+import com.arangodb.tinkerpop.gremlin.client.ElementCache;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ElementCacheTest extends AbstractTest {
+
+    private static ElementCache cache(ArangoDBGraph graph) {
+        return graph.getClient().getElementCache().orElseThrow(IllegalStateException::new);
+    }
+
+    @Test
+    public void disabledByDefault() {
+        ArangoDBGraph graph = createGraph(confBuilder().build());
+        assertThat(graph.getClient().getElementCache()).isEmpty();
+    }
+
+    @Test
+    public void readThrough() {
+        ArangoDBGraph graph = createGraph(confBuilder().cacheMaxSize(10).build());
+        Vertex v = graph.addVertex("name", "foo");
+        assertThat(graph.vertices(v.id()).next().<String>value("name")).isEqualTo("foo");
+        assertThat(graph.vertices(v.id()).next().<String>value("name")).isEqualTo("foo");
+        ElementCache cache = cache(graph);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void invalidatedOnLocalWrites() {
+        ArangoDBGraph graph = createGraph(confBuilder().cacheMaxSize(10).build());
+        Vertex v = graph.addVertex("name", "foo");
+        graph.vertices(v.id()).next().property("name", "bar");
+        assertThat(graph.vertices(v.id()).next().<String>value("name")).isEqualTo("bar");
+        graph.vertices(v.id()).next().remove();
+        assertThat(graph.vertices(v.id()).hasNext()).isFalse();
+    }
+
+    @Test
+    public void eviction() {
+        ArangoDBGraph graph = createGraph(confBuilder().cacheMaxSize(2).build());
+        Vertex a = graph.addVertex();
+        Vertex b = graph.addVertex();
+        Vertex c = graph.addVertex();
+        graph.vertices(a.id(), b.id(), c.id()).forEachRemaining(it -> {
+        });
+        ElementCache cache = cache(graph);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void ttl() throws InterruptedException {
+        ArangoDBGraph graph = createGraph(confBuilder().cacheMaxSize(10).cacheTtl(50).build());
+        Vertex v = graph.addVertex();
+        graph.vertices(v.id()).next();
+        Thread.sleep(100);
+        graph.vertices(v.id()).next();
+        ElementCache cache = cache(graph);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void revalidate() {
+        ArangoDBGraph graph = createGraph(confBuilder().cacheMaxSize(10).cacheRevalidate(true).build());
+        Vertex v = graph.addVertex("name", "foo");
+        assertThat(graph.vertices(v.id()).next().<String>value("name")).isEqualTo("foo");
+        client.database().collection(Vertex.DEFAULT_LABEL)
+                .updateDocument((String) v.id(), Collections.singletonMap("name", "bar"));
+        assertThat(graph.vertices(v.id()).next().<String>value("name")).isEqualTo("bar");
+        assertThat(cache(graph).getMissCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.simple;
+
+import com.arangodb.tinkerpop.gremlin.AbstractTest;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoRepeatStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.has;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code repeat()} with {@code until()}, which is only pushed down if {@code graph.repeat.maxDepth} is set.
+ */
+public class RepeatUntilTest extends AbstractTest {
+
+    private GraphTraversalSource g;
+
+    @Before
+    public void createData() {
+        ArangoDBGraph graph = createGraph(confBuilder().repeatMaxDepth(10).build());
+        Vertex a = graph.addVertex("name", "a");
+        Vertex b = graph.addVertex("name", "b");
+        Vertex c = graph.addVertex("name", "c");
+        Vertex d = graph.addVertex("name", "d");
+        a.addEdge("knows", b);
+        a.addEdge("knows", c);
+        b.addEdge("knows", c);
+        c.addEdge("knows", d);
+        d.addEdge("knows", a);
+        g = graph.traversal();
+    }
+
+    @Test
+    public void untilIsPushedDown() {
+        GraphTraversal<Vertex, Vertex> t = g.V().has("name", "a").repeat(out("knows")).until(has("name", "d"));
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .noneMatch(RepeatStep.class::isInstance)
+                .anyMatch(ArangoRepeatStep.class::isInstance);
+    }
+
+    @Test
+    public void until() {
+        assertThat(g.V().has("name", "a").repeat(out("knows")).until(has("name", "d")).<String>values("name").toList())
+                .containsExactlyInAnyOrder("d", "d");
+        assertThat(g.V().has("name", "b").repeat(out("knows")).until(has("name", "a")).<String>values("name").toList())
+                .containsExactly("a");
+    }
+
+    @Test
+    public void untilMatchingStartVertex() {
+        // do-while: the start vertex is not checked before the first iteration
+        assertThat(g.V().has("name", "a").repeat(out("knows")).until(has("name", "a")).<String>values("name").toList())
+                .containsExactlyInAnyOrder("a", "a");
+        // while-do: the loop is not entered
+        assertThat(g.V().has("name", "a").until(has("name", "a")).repeat(out("knows")).<String>values("name").toList())
+                .containsExactly("a");
+    }
+
+    @Test
+    public void untilWithEmit() {
+        assertThat(g.V().has("name", "c").repeat(out("knows")).emit().until(has("name", "c")).<String>values("name").toList())
+                .containsExactlyInAnyOrder("d", "a", "b", "c", "c");
+    }
+}
@@ -16,10 +16,12 @@
 
 package com.arangodb.tinkerpop.gremlin.simple;
 
+import com.arangodb.ArangoDatabase;
 import com.arangodb.entity.GraphEntity;
 import com.arangodb.tinkerpop.gremlin.DataDefinitionTest;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
 import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig.EdgeDef;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig.IndexDef;
 import org.apache.commons.configuration2.Configuration;
 import org.junit.Test;
 
@@ -184,6 +186,89 @@ public class SimpleDataDefinitionTest extends DataDefinitionTest {
                 .hasMessageContaining("Orphan collections do not match");
     }
 
+    @Test
+    public void labelIndexes() {
+        Configuration conf = confBuilder()
+                .enableLabelIndexes(true)
+                .edgeDefinitions(EdgeDef.of("edge").from("vertex").to("vertex"))
+                .build();
+        ArangoDatabase db = createGraph(conf).getClient().getArangoGraph().db();
+        assertThat(db.collection("vertex").getIndexes())
+                .anySatisfy(idx -> {
+                    assertThat(idx.getName()).isEqualTo("tinkerpop_label");
+                    assertThat(idx.getFields()).containsExactly("type");
+                });
+        assertThat(db.collection("edge").getIndexes())
+                .anySatisfy(idx -> {
+                    assertThat(idx.getName()).isEqualTo("tinkerpop_from_label");
+                    assertThat(idx.getFields()).containsExactly("_from", "type");
+                })
+                .anySatisfy(idx -> {
+                    assertThat(idx.getName()).isEqualTo("tinkerpop_to_label");
+                    assertThat(idx.getFields()).containsExactly("_to", "type");
+                });
+    }
+
+    @Test
+    public void indexes() {
+        Configuration conf = confBuilder()
+                .indexes(
+                        IndexDef.persistent("vertex", "name", "age"),
+                        IndexDef.persistent("vertex", "email").unique().sparse(),
+                        IndexDef.ttl("edge", "createdAt", 3600)
+                )
+                .build();
+        ArangoDatabase db = createGraph(conf).getClient().getArangoGraph().db();
+        assertThat(db.collection("vertex").getIndexes())
+                .anySatisfy(idx -> assertThat(idx.getFields()).containsExactly("name", "age"))
+                .anySatisfy(idx -> {
+                    assertThat(idx.getFields()).containsExactly("email");
+                    assertThat(idx.getUnique()).isTrue();
+                    assertThat(idx.getSparse()).isTrue();
+                });
+        assertThat(db.collection("edge").getIndexes())
+                .anySatisfy(idx -> {
+                    assertThat(idx.getFields()).containsExactly("createdAt");
+                    assertThat(idx.getExpireAfter()).isEqualTo(3600);
+                });
+    }
+
+    @Test
+    public void existingIndexes() {
+        String name = "existingIndexes";
+        graphInfo(confBuilder()
+                .name(name)
+                .indexes(IndexDef.persistent("vertex", "name"))
+                .build());
+        Configuration conf = confBuilder()
+                .name(name)
+                .enableDataDefinition(false)
+                .indexes(IndexDef.persistent("vertex", "name"))
+                .build();
+        assertThat(graphInfo(conf)).isNotNull();
+    }
+
+    @Test
+    public void missingIndexes() {
+        String name = "missingIndexes";
+        graphInfo(confBuilder()
+                .name(name)
+                .build());
+        Configuration conf = confBuilder()
+                .name(name)
+                .enableDataDefinition(false)
+                .indexes(IndexDef.persistent("vertex", "name"))
+                .build();
+        Throwable thrown = catchThrowable(() -> graphInfo(conf));
+        assertThat(thrown)
+                .isInstanceOf(RuntimeException.class)
+                .cause()
+                .isInstanceOf(InvocationTargetException.class);
+        assertThat(((InvocationTargetException) thrown.getCause()).getTargetException())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Indexes not found");
+    }
+
     private void checkDefaultSimpleGraph(Configuration conf) {
         GraphEntity graphInfo = graphInfo(conf);
         assertThat(graphInfo).isNotNull();
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.simple;
+
+import com.arangodb.tinkerpop.gremlin.AbstractTest;
+import com.arangodb.tinkerpop.gremlin.process.traversal.step.ArangoStep;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code order()} after start steps, which is only pushed down if {@code graph.enableSortPushdown} is set.
+ */
+public class SortPushdownTest extends AbstractTest {
+
+    private ArangoDBGraph graph;
+    private GraphTraversalSource g;
+
+    @Before
+    public void init() {
+        graph = createGraph(confBuilder().enableSortPushdown(true).build());
+        g = graph.traversal();
+    }
+
+    @Test
+    public void orderIsPushedDown() {
+        GraphTraversal<Vertex, Vertex> t = g.V().has("value", P.gte(5)).order().by("value", Order.desc).limit(3);
+        t.asAdmin().applyStrategies();
+        assertThat(t.asAdmin().getSteps())
+                .hasSize(1)
+                .allMatch(it -> it instanceof ArangoStep && ((ArangoStep<?, ?>) it).hasSort() && ((ArangoStep<?, ?>) it).hasRange());
+    }
+
+    @Test
+    public void order() {
+        for (int i = 0; i < 10; i++) {
+            graph.addVertex("value", i);
+        }
+        graph.addVertex("other", 1);
+        assertThat(g.V().order().by("value", Order.desc).limit(3).values("value").toList()).containsExactly(9, 8, 7);
+        assertThat(g.V().order().by("value").range(2, 4).values("value").toList()).containsExactly(2, 3);
+        assertThat(g.V().has("value", P.lt(5)).order().by("value", Order.desc).values("value").toList()).containsExactly(4, 3, 2, 1, 0);
+        assertThat(g.V().order().by("value").count().next()).isEqualTo(10L);
+    }
+
+    @Test
+    public void orderOfStrings() {
+        graph.addVertex("name", "b");
+        graph.addVertex("name", "B");
+        graph.addVertex("name", "a");
+        graph.addVertex("name", 1);
+        graph.addVertex("name", true);
+        // strings are ordered by the collation of the database, Gremlin would return "B" before "a"
+        assertThat(g.V().order().by("name").values("name").toList()).containsExactly(true, 1, "a", "b", "B");
+        assertThat(g.V().order().by("name", Order.desc).limit(2).values("name").toList()).containsExactly("B", "b");
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 ArangoDB GmbH and The University of York
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.arangodb.tinkerpop.gremlin.simple;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.tinkerpop.gremlin.AbstractTest;
+import com.arangodb.tinkerpop.gremlin.client.BatchWriteException;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraph;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig;
+import com.arangodb.tinkerpop.gremlin.structure.ArangoDBGraphConfig.EdgeDef;
+import com.arangodb.tinkerpop.gremlin.utils.ArangoDBConfigurationBuilder;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class WriteBatchingTest extends AbstractTest {
+
+    /**
+     * @return the configuration of a graph sending the writes only on flush
+     */
+    private ArangoDBConfigurationBuilder batchingConfBuilder() {
+        return confBuilder()
+                .enableWriteBatching(true)
+                .writeBatchMaxDelay(0);
+    }
+
+    private ArangoCollection vertexCollection() {
+        return client.database().collection(Vertex.DEFAULT_LABEL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> vertexDocument(Vertex v) {
+        return (Map<String, Object>) vertexCollection().getDocument((String) v.id(), Map.class);
+    }
+
+    @Test
+    public void writesCoalescedUntilFlush() {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder().build());
+        Vertex a = graph.addVertex(T.id, "a", "name", "foo");
+        a.property("name", "bar");
+        a.property("other", 1);
+        Vertex b = graph.addVertex(T.id, "b");
+        Edge e = a.addEdge("knows", b, T.id, "e", "weight", 1);
+        e.property("weight", 2);
+        e.remove();
+        assertThat(vertexCollection().documentExists("a")).isFalse();
+
+        graph.flush();
+        assertThat(vertexDocument(a))
+                .containsEntry("name", "bar")
+                .containsEntry("other", 1);
+        assertThat(vertexCollection().documentExists("b")).isTrue();
+        assertThat(client.database().collection(Edge.DEFAULT_LABEL).documentExists("e")).isFalse();
+
+        // removing a vertex reads its edges, which flushes the previous writes
+        a.remove();
+        graph.addVertex(T.id, "a", "name", "new");
+        graph.flush();
+        assertThat(vertexDocument(a))
+                .containsEntry("name", "new")
+                .doesNotContainKey("other");
+    }
+
+    @Test
+    public void flushOnRead() {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder().build());
+        Vertex a = graph.addVertex("name", "foo");
+        Vertex b = graph.addVertex("name", "bar");
+        a.addEdge("knows", b);
+        assertThat(graph.traversal().V().has("name", "foo").out().toList()).containsExactly(b);
+        assertThat(vertexCollection().count().getCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void dispatchOnMaxDelay() throws InterruptedException {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder().writeBatchMaxDelay(50).build());
+        graph.addVertex(T.id, "a");
+        assertThat(vertexCollection().documentExists("a")).isFalse();
+        awaitUntil(() -> vertexCollection().documentExists("a"));
+    }
+
+    @Test
+    public void dispatchOnMaxSize() throws InterruptedException {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder().writeBatchMaxSize(2).build());
+        graph.addVertex(T.id, "a");
+        graph.addVertex(T.id, "b");
+        graph.addVertex(T.id, "c");
+        awaitUntil(() -> vertexCollection().documentExists("b"));
+        assertThat(vertexCollection().documentExists("a")).isTrue();
+        assertThat(vertexCollection().documentExists("c")).isFalse();
+    }
+
+    @Test
+    public void inFlightBatchesOfSameDocumentsAreOrdered() {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder()
+                .writeBatchMaxSize(1)
+                .writeBatchMaxInFlight(4)
+                .build());
+        Vertex v = graph.addVertex(T.id, "a");
+        for (int i = 0; i < 100; i++) {
+            v.property("value", i);
+        }
+        graph.flush();
+        assertThat(vertexDocument(v)).containsEntry("value", 99);
+    }
+
+    @Test
+    public void errorsReportedOnFlush() {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder().build());
+        vertexCollection().insertDocument(Collections.singletonMap("_key", "a"));
+        graph.addVertex(T.id, "a");
+        graph.addVertex(T.id, "b");
+
+        Throwable thrown = catchThrowable(graph::flush);
+        assertThat(thrown).isInstanceOf(BatchWriteException.class);
+        assertThat(((BatchWriteException) thrown).getErrors()).hasSize(1);
+        assertThat(((BatchWriteException) thrown).getErrors().values())
+                .allMatch(IllegalArgumentException.class::isInstance);
+        assertThat(vertexCollection().documentExists("b")).isTrue();
+
+        // reported only once
+        graph.flush();
+    }
+
+    @Test
+    public void errorsReportedToQueuingThread() throws Exception {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder().build());
+        vertexCollection().insertDocument(Collections.singletonMap("_key", "a"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> graph.addVertex(T.id, "a")).get();
+
+            // other threads only wait for the write to complete
+            graph.flush();
+            assertThat(graph.traversal().V().count().next()).isEqualTo(1L);
+
+            Throwable thrown = catchThrowable(() -> executor.submit(graph::flush).get());
+            assertThat(thrown)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(BatchWriteException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void edgeDefinitionsValidatedBeforeBuffering() {
+        ArangoDBGraph graph = createGraph(batchingConfBuilder()
+                .graphType(ArangoDBGraphConfig.GraphType.COMPLEX)
+                .orphanCollections("city")
+                .edgeDefinitions(EdgeDef.of("knows").from("person").to("person"))
+                .build());
+        Vertex person = graph.addVertex("person");
+        Vertex city = graph.addVertex("city");
+        assertThat(catchThrowable(() -> person.addEdge("knows", city)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not allow edges to collection (city)");
+        assertThat(catchThrowable(() -> city.addEdge("knows", person)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not allow edges from collection (city)");
+        person.addEdge("knows", person);
+        graph.flush();
+        assertThat(graph.traversal().E().count().next()).isEqualTo(1L);
+    }
+}